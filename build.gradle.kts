@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 fun getGitHash(): String {
@@ -41,6 +42,16 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation ("org.springframework.boot:spring-boot-starter-aop")
 
+	// Metrics
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
+	// Resilience (외부 PG 호출 서킷 브레이커 / 벌크헤드)
+	implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")
+
 	// Redisson
 	implementation("org.redisson:redisson-spring-boot-starter:3.27.0")
 
@@ -64,7 +75,24 @@ dependencies {
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+// 마이크로 벤치마크 (src/jmh): ./gradlew jmh -> build/reports/jmh/results.json
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
+	// 엔티티 ID 발급용 Snowflake 노드 ID (운영에서는 인스턴스마다 SNOWFLAKE_NODE_ID 로 고유하게 지정)
+	systemProperty("snowflake.node-id", "0")
+}
+
+// 로컬 단일 인스턴스 실행용 Snowflake 노드 ID
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+	systemProperty("snowflake.node-id", System.getenv("SNOWFLAKE_NODE_ID") ?: "0")
 }
@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.DiscountType;
+import kr.hhplus.be.server.domain.coupon.UserCoupon;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.fake.InMemoryCouponRepository;
+import kr.hhplus.be.server.fake.InMemoryUserCouponRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 가격 계산 벤치마크
+ * - 총액 계산 (OrderService.calculateTotalPrice)
+ * - 쿠폰 할인 적용 (CouponService.calculateDiscountPrice -> Coupon.apply), 메모리 저장소 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderPricingBenchmark {
+
+    private static final long USER_COUPON_ID = 1L;
+
+    @Param({"1", "10", "100"})
+    private int lineItems;
+
+    private List<OrderProduct> orderProducts;
+    private Map<Long, Product> productMap;
+    private CouponService couponService;
+    private long totalPrice;
+
+    @Setup
+    public void setUp() {
+        orderProducts = new ArrayList<>();
+        productMap = new HashMap<>();
+        for (long productId = 1; productId <= lineItems; productId++) {
+            productMap.put(productId, Product.builder()
+                    .id(productId).name("상품" + productId).price(1_000L * productId)
+                    .stock(1_000L).salesCount(0L).description("벤치마크 상품").build());
+            orderProducts.add(OrderProduct.builder().productId(productId).quantity(2L).build());
+        }
+        totalPrice = OrderService.calculateTotalPrice(orderProducts, productMap);
+
+        InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+        couponRepository.save(Coupon.builder()
+                .id(1L).discountValue(10L).discountType(DiscountType.PERCENT).title("10% 할인").stock(100L)
+                .startDate(LocalDateTime.now().minusDays(1)).endDate(LocalDateTime.now().plusDays(30)).build());
+        InMemoryUserCouponRepository userCouponRepository = new InMemoryUserCouponRepository();
+        userCouponRepository.save(UserCoupon.builder()
+                .id(USER_COUPON_ID).userId(1L).couponId(1L).isUsed(false)
+                .expiredAt(LocalDateTime.now().plusDays(30)).build());
+
+        // 할인 계산 경로에서는 Kafka 발행을 사용하지 않음
+        couponService = new CouponService(couponRepository, userCouponRepository, null, null);
+    }
+
+    @Benchmark
+    public long calculateTotalPrice() {
+        return OrderService.calculateTotalPrice(orderProducts, productMap);
+    }
+
+    @Benchmark
+    public Long calculateDiscountedPrice() {
+        return couponService.calculateDiscountPrice(USER_COUPON_ID, totalPrice);
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.domain.order.event.dto;
+
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import kr.hhplus.be.server.domain.order.event.OrderCompletedEvent;
+import kr.hhplus.be.server.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 완료 이벤트 DTO 변환 벤치마크
+ * 주문 상품마다 상품 목록을 선형 탐색(findProductById)하므로 주문 상품 수에 따른 증가폭을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderCompletedEventDtoBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int lineItems;
+
+    private OrderCompletedEvent event;
+
+    @Setup
+    public void setUp() {
+        List<OrderProduct> orderProducts = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (long productId = 1; productId <= lineItems; productId++) {
+            products.add(Product.builder()
+                    .id(productId).name("상품" + productId).price(1_000L)
+                    .stock(1_000L).salesCount(0L).description("벤치마크 상품").build());
+            orderProducts.add(OrderProduct.builder()
+                    .productId(productId).orderId(1L).unitPrice(1_000L).quantity(2L).build());
+        }
+        Order order = Order.builder().id(1L).userId(1L).totalAmount(2_000L * lineItems).build();
+        event = OrderCompletedEvent.of(this, order, orderProducts, products);
+    }
+
+    @Benchmark
+    public OrderCompletedEventDto from() {
+        return OrderCompletedEventDto.from(event);
+    }
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.domain.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 충전/사용 벤치마크
+ * 한 번의 호출에서 충전과 사용을 같은 금액으로 수행해 잔액을 일정하게 유지
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointBenchmark {
+
+    private static final Long AMOUNT = 1_000L;
+
+    private Point point;
+
+    @Setup
+    public void setUp() {
+        point = Point.create(1L, 100_000L);
+    }
+
+    @Benchmark
+    public Long chargeAndUse() {
+        point.charge(AMOUNT);
+        point.use(AMOUNT);
+        return point.getVolume();
+    }
+}
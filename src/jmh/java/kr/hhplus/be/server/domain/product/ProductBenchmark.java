@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.domain.product;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 재고 차감 벤치마크
+ * 한 번의 호출에서 차감 후 같은 수량을 복구해 재고를 일정하게 유지
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductBenchmark {
+
+    private static final Long QUANTITY = 1L;
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = Product.builder()
+                .id(1L).name("벤치마크 상품").price(1_000L)
+                .stock(1_000L).salesCount(0L).description("벤치마크 상품").build();
+    }
+
+    @Benchmark
+    public Long decreaseStock() {
+        product.decreaseStock(QUANTITY);
+        product.increaseStock(QUANTITY);
+        return product.getStock();
+    }
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.fake;
+
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 벤치마크용 메모리 쿠폰 저장소
+ */
+public class InMemoryCouponRepository implements CouponRepository {
+
+    private final Map<Long, Coupon> coupons = new HashMap<>();
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        coupons.put(coupon.getId(), coupon);
+        return coupon;
+    }
+
+    @Override
+    public Optional<Coupon> findById(Long id) {
+        return Optional.ofNullable(coupons.get(id));
+    }
+
+    @Override
+    public Optional<Long> findStockByIdForUpdate(Long couponId) {
+        return findById(couponId).map(Coupon::getStock);
+    }
+
+    @Override
+    public boolean decreaseStock(Long couponId, long quantity) {
+        Coupon coupon = coupons.get(couponId);
+        if (coupon == null || coupon.getStock() < quantity) {
+            return false;
+        }
+        for (long i = 0; i < quantity; i++) {
+            coupon.decreaseStock();
+        }
+        return true;
+    }
+}
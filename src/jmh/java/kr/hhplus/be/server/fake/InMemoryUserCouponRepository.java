@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.fake;
+
+import kr.hhplus.be.server.domain.coupon.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 벤치마크용 메모리 사용자 쿠폰 저장소
+ */
+public class InMemoryUserCouponRepository implements UserCouponRepository {
+
+    private final Map<Long, UserCoupon> userCoupons = new HashMap<>();
+
+    @Override
+    public UserCoupon save(UserCoupon userCoupon) {
+        userCoupons.put(userCoupon.getId(), userCoupon);
+        return userCoupon;
+    }
+
+    @Override
+    public List<UserCoupon> saveAll(List<UserCoupon> userCoupons) {
+        userCoupons.forEach(this::save);
+        return userCoupons;
+    }
+
+    @Override
+    public Optional<UserCoupon> findById(Long userCouponId) {
+        return Optional.ofNullable(userCoupons.get(userCouponId));
+    }
+
+    @Override
+    public List<UserCoupon> findAll() {
+        return new ArrayList<>(userCoupons.values());
+    }
+
+    @Override
+    public List<UserCoupon> findUnusedByUserId(Long userId) {
+        return userCoupons.values().stream()
+                .filter(userCoupon -> userCoupon.getUserId().equals(userId) && !userCoupon.isUsed())
+                .toList();
+    }
+
+    @Override
+    public boolean existsByUserIdAndCouponId(Long userId, Long couponId) {
+        return userCoupons.values().stream()
+                .anyMatch(userCoupon -> userCoupon.getUserId().equals(userId) && userCoupon.getCouponId().equals(couponId));
+    }
+
+    @Override
+    public List<Long> findUserIdsByCouponId(Long couponId) {
+        return userCoupons.values().stream()
+                .filter(userCoupon -> userCoupon.getCouponId().equals(couponId))
+                .map(UserCoupon::getUserId)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        return findUserIdsByCouponId(couponId).stream()
+                .filter(userIds::contains)
+                .toList();
+    }
+}
@@ -0,0 +1,210 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponIssueFailureType;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.*;
+
+/**
+ * 선착순 쿠폰 발급 입장 제어 (coupon.issue.mode=redis)
+ * 발급 요청을 Kafka 로 보내기 전에 Redis Lua 스크립트 한 번으로 중복 여부와 남은 수량을 확인하고 선점
+ * 탈락한 요청(이미 발급/수량 소진)은 MySQL 을 거치지 않고 즉시 거절되며, 통과한 요청만 발급 요청 토픽으로 발행
+ * - 남은 수량 키와 발급 사용자 집합은 쿠폰별로 처음 요청될 때 DB 재고와 발급 이력으로 한 번 적재
+ * - 최종 발급(재고 차감/UserCoupon 저장)은 여전히 CouponIssueConsumer 가 DB 에서 확정
+ * - 최종 발급에 실패한 결과가 도착하면 실패 유형에 따라 선점을 반환하여 남은 수량이 실제보다 적게 남지 않도록 함
+ * - 통과와 함께 사용자별 발급 상태 해시에 요청 접수(requested)를 기록하여 결과 반영 전 조회가 PENDING 으로 응답되도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueGate {
+
+    private static final String REDIS_MODE = "redis";
+    private static final String REMAINING_KEY_PREFIX = "coupon:issue:remaining:";
+    private static final String ISSUED_USERS_KEY_PREFIX = "coupon:issue:users:";
+    private static final long ADMITTED = 1L;
+    private static final long SOLD_OUT = 0L;
+    private static final long ALREADY_ISSUED = -1L;
+    private static final long NOT_LOADED = -2L;
+    private static final String RELEASED_KEY_PREFIX = "coupon:issue:released:";
+    private static final long RELEASED_MARKER_TTL_SECONDS = Duration.ofDays(1).toSeconds();
+
+    /**
+     * KEYS: 남은 수량 키, 발급 사용자 집합 키, 사용자별 발급 상태 해시
+     * ARGV: 사용자 ID, 발급 상태 보관 시간(초)
+     * 반환: 1 통과, 0 수량 소진, -1 이미 발급, -2 적재 전
+     * 통과하면 이전 요청의 실패 상태를 지우고 요청 접수를 기록
+     */
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "local remaining = redis.call('GET', KEYS[1]) " +
+            "if not remaining then return -2 end " +
+            "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return -1 end " +
+            "if tonumber(remaining) <= 0 then return 0 end " +
+            "redis.call('DECR', KEYS[1]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[3]) " +
+            "redis.call('HSET', KEYS[3], 'requested', '1') " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 선점 취소 (발급 요청 발행 실패 시)
+     * 요청이 접수되지 않았으므로 요청 접수 기록도 함께 삭제
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then " +
+            "  redis.call('INCR', KEYS[1]) " +
+            "  redis.call('DEL', KEYS[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    /**
+     * 발급 실패 결과에 따른 선점 반환 (요청 ID 당 한 번만 반영)
+     * KEYS: 남은 수량 키, 발급 사용자 집합 키, 요청별 반환 표시 키
+     * ARGV: 사용자 ID, 사용자 제거 여부(1/0), 수량 반환 여부(1/0), 반환 표시 보관 시간(초)
+     * 반환: 1 반환, 0 이미 반환했거나 게이트로 선점한 사용자가 아님
+     */
+    private static final RedisScript<Long> RELEASE_REJECTED_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[3], '1', 'NX', 'EX', ARGV[4]) then return 0 end " +
+            "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 0 then return 0 end " +
+            "if ARGV[2] == '1' then redis.call('SREM', KEYS[2], ARGV[1]) end " +
+            "if ARGV[3] == '1' and redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCR', KEYS[1]) end " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 남은 수량 키가 없을 때만 남은 수량과 발급 사용자 집합을 함께 적재 (동시에 적재해도 한 번만 반영)
+     * ARGV: 남은 수량, 만료 시각(epoch 초, 0 이면 만료 없음), 발급 사용자 ID 목록
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "for i = 3, #ARGV do redis.call('SADD', KEYS[2], ARGV[i]) end " +
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "if tonumber(ARGV[2]) > 0 then " +
+            "  redis.call('EXPIREAT', KEYS[1], ARGV[2]) " +
+            "  redis.call('EXPIREAT', KEYS[2], ARGV[2]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+
+    @Value("${coupon.issue.mode:db}")
+    private String issueMode;
+
+    @Value("${coupon.issue.status.ttl-hours:72}")
+    private long statusTtlHours = 72;
+
+    public boolean isEnabled() {
+        return REDIS_MODE.equals(issueMode);
+    }
+
+    /**
+     * 발급 자격 선점
+     * 적재되지 않은 쿠폰이면 DB 에서 적재 후 한 번 재시도
+     */
+    public void admit(Long userId, Long couponId) {
+        Long result = executeAdmit(userId, couponId);
+        if (result != null && result == NOT_LOADED) {
+            load(couponId);
+            result = executeAdmit(userId, couponId);
+        }
+
+        if (result == null || result == NOT_LOADED) {
+            log.error("쿠폰 발급 입장 정보 적재 실패 - 쿠폰 ID: {}", couponId);
+            throw new ApiException(COUPON_ISSUE_GATE_UNAVAILABLE);
+        }
+        if (result == ALREADY_ISSUED) {
+            throw new ApiException(COUPON_ALREADY_ISSUED);
+        }
+        if (result == SOLD_OUT) {
+            throw new ApiException(COUPON_ISSUANCE_FAILED);
+        }
+    }
+
+    /**
+     * 선점했던 발급 자격 반환
+     */
+    public void release(Long userId, Long couponId) {
+        Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, requestKeys(userId, couponId),
+                String.valueOf(userId));
+        log.info("쿠폰 발급 선점 반환 - 사용자 ID: {}, 쿠폰 ID: {}, 반환 여부: {}", userId, couponId, released);
+    }
+
+    /**
+     * 최종 발급에 실패한 요청의 선점 반환
+     * - 처리 오류: 사용자와 수량을 모두 반환 (다시 요청 가능)
+     * - 재고 소진: DB 에 재고가 없으므로 수량은 반환하지 않고 사용자만 제거 (재고가 보충되면 다시 요청 가능)
+     * - 이미 발급: 사용자는 계속 발급 사용자로 두고 사용하지 못한 수량만 반환
+     */
+    public void releaseRejected(String requestId, Long userId, Long couponId, CouponIssueFailureType failureType) {
+        CouponIssueFailureType type = failureType == null ? CouponIssueFailureType.ERROR : failureType;
+        boolean removeUser = type != CouponIssueFailureType.DUPLICATE_ISSUED;
+        boolean restoreSlot = type != CouponIssueFailureType.OUT_OF_STOCK;
+
+        List<String> keys = List.of(REMAINING_KEY_PREFIX + couponId, ISSUED_USERS_KEY_PREFIX + couponId,
+                RELEASED_KEY_PREFIX + requestId);
+        Long released = stringRedisTemplate.execute(RELEASE_REJECTED_SCRIPT, keys,
+                String.valueOf(userId),
+                removeUser ? "1" : "0",
+                restoreSlot ? "1" : "0",
+                String.valueOf(RELEASED_MARKER_TTL_SECONDS));
+        log.info("쿠폰 발급 실패 선점 반환 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, 실패 유형: {}, 반환 여부: {}",
+                requestId, userId, couponId, type, released);
+    }
+
+    private Long executeAdmit(Long userId, Long couponId) {
+        return stringRedisTemplate.execute(ADMIT_SCRIPT, requestKeys(userId, couponId),
+                String.valueOf(userId), String.valueOf(Duration.ofHours(statusTtlHours).toSeconds()));
+    }
+
+    private void load(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new ApiException(COUPON_NOT_FOUND));
+        List<Long> issuedUserIds = userCouponRepository.findUserIdsByCouponId(couponId);
+
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 2);
+        args.add(String.valueOf(Math.max(coupon.getStock(), 0)));
+        args.add(String.valueOf(coupon.getEndDate() == null ? 0
+                : coupon.getEndDate().atZone(ZoneId.systemDefault()).toEpochSecond()));
+        issuedUserIds.forEach(issuedUserId -> args.add(String.valueOf(issuedUserId)));
+
+        stringRedisTemplate.execute(LOAD_SCRIPT, keys(couponId), args.toArray());
+        log.info("쿠폰 발급 입장 정보 적재 - 쿠폰 ID: {}, 남은 수량: {}, 발급 사용자 수: {}",
+                couponId, coupon.getStock(), issuedUserIds.size());
+    }
+
+    private List<String> keys(Long couponId) {
+        return List.of(REMAINING_KEY_PREFIX + couponId, ISSUED_USERS_KEY_PREFIX + couponId);
+    }
+
+    private List<String> requestKeys(Long userId, Long couponId) {
+        return List.of(REMAINING_KEY_PREFIX + couponId, ISSUED_USERS_KEY_PREFIX + couponId,
+                CouponIssueStatusService.statusKey(couponId, userId));
+    }
+}
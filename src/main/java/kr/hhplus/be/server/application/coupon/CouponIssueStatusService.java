@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponIssueStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND;
+
+/**
+ * 쿠폰 발급 결과 Redis 프로젝션
+ * coupon-issue-result 이벤트를 Redis 해시에 반영해 두고, 발급 상태 조회는 MySQL 없이 해시 조회만으로 응답
+ * - coupon:issue:result:{requestId}: 요청별 처리 결과
+ * - coupon:issue:status:{couponId}:{userId}: 사용자별 최종 상태 (성공 이후 도착한 중복 요청 실패 결과로 덮어쓰지 않음)
+ * - coupon:issue:summary:{couponId}: 발급 완료 수(issuedCount)와 마지막 성공 시점의 남은 재고(remainingStock)
+ * 같은 결과 이벤트가 다시 전달되어도 요청별 결과가 이미 있으면 건너뛰므로 발급 순위/발급 수가 중복 집계되지 않음
+ * 사용자별 상태 해시의 requested 는 요청 접수 시점에 기록 (redis 모드는 {@link CouponIssueGate} 의 입장 스크립트, db 모드는 {@link #markRequested})
+ */
+@Slf4j
+@Service
+public class CouponIssueStatusService {
+
+    private static final String RESULT_KEY_PREFIX = "coupon:issue:result:";
+    private static final String STATUS_KEY_PREFIX = "coupon:issue:status:";
+    private static final String SUMMARY_KEY_PREFIX = "coupon:issue:summary:";
+    private static final String PENDING = "PENDING";
+    private static final String ISSUED = "ISSUED";
+    private static final String FAILED = "FAILED";
+
+    /**
+     * 요청 접수 기록 (이전 요청의 실패 상태는 지움)
+     * KEYS: 사용자별 상태 해시
+     * ARGV: 보관 시간(초)
+     */
+    private static final RedisScript<Long> REQUEST_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'requested', '1') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS: 요청별 결과 해시, 사용자별 상태 해시, 쿠폰 요약 해시
+     * ARGV: requestId, userId, couponId, success, userCouponId, errorMessage, remainingStock, 보관 시간(초)
+     * 반환: 1 반영, 0 이미 반영된 결과
+     */
+    private static final RedisScript<Long> PROJECT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local rank = '' " +
+            "if ARGV[4] == 'true' then " +
+            "  rank = redis.call('HINCRBY', KEYS[3], 'issuedCount', 1) " +
+            "  redis.call('HSET', KEYS[3], 'remainingStock', ARGV[7]) " +
+            "  redis.call('EXPIRE', KEYS[3], ARGV[8]) " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'userId', ARGV[2], 'couponId', ARGV[3], 'success', ARGV[4], " +
+            "  'userCouponId', ARGV[5], 'errorMessage', ARGV[6]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[8]) " +
+            "if ARGV[4] == 'true' or redis.call('HGET', KEYS[2], 'success') ~= 'true' then " +
+            "  redis.call('HSET', KEYS[2], 'requestId', ARGV[1], 'success', ARGV[4], 'issueRank', rank, " +
+            "    'userCouponId', ARGV[5]) " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[8]) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserCouponRepository userCouponRepository;
+    private final long ttlSeconds;
+
+    public CouponIssueStatusService(StringRedisTemplate stringRedisTemplate,
+                                    UserCouponRepository userCouponRepository,
+                                    @Value("${coupon.issue.status.ttl-hours:72}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userCouponRepository = userCouponRepository;
+        this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+    }
+
+    /**
+     * 발급 요청 접수 기록 (게이트를 거치지 않는 요청용)
+     */
+    public void markRequested(Long couponId, Long userId) {
+        stringRedisTemplate.execute(REQUEST_SCRIPT, List.of(statusKey(couponId, userId)), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 발급 결과 반영
+     * @return 새로 반영했으면 true, 이미 반영된 결과면 false
+     */
+    public boolean project(CouponIssueResultEventDto result) {
+        List<String> keys = List.of(
+                RESULT_KEY_PREFIX + result.getRequestId(),
+                statusKey(result.getCouponId(), result.getUserId()),
+                SUMMARY_KEY_PREFIX + result.getCouponId());
+        Long projected = stringRedisTemplate.execute(PROJECT_SCRIPT, keys,
+                result.getRequestId(),
+                String.valueOf(result.getUserId()),
+                String.valueOf(result.getCouponId()),
+                String.valueOf(result.isSuccess()),
+                valueOrEmpty(result.getUserCouponId()),
+                result.getErrorMessage() == null ? "" : result.getErrorMessage(),
+                valueOrEmpty(result.getRemainingStock()),
+                String.valueOf(ttlSeconds));
+        return projected != null && projected == 1L;
+    }
+
+    /**
+     * 사용자별 쿠폰 발급 상태 조회
+     * 요청이 접수되었지만 아직 결과가 반영되지 않았으면 PENDING, 총 발급 한도는 성공 결과가 한 번이라도 반영된 뒤부터 제공
+     * 접수 기록도 결과도 없으면 (보관 시간이 지나 만료된 경우 포함) DB 발급 이력으로 확인하고, 발급 이력도 없으면 COUPON_ISSUE_REQUEST_NOT_FOUND
+     */
+    public CouponIssueStatusResponse getIssueStatus(Long couponId, Long userId) {
+        Map<Object, Object> status = stringRedisTemplate.opsForHash().entries(statusKey(couponId, userId));
+        Map<Object, Object> summary = stringRedisTemplate.opsForHash().entries(SUMMARY_KEY_PREFIX + couponId);
+
+        String issueStatus = resolveStatus(status, couponId, userId);
+        boolean issued = ISSUED.equals(issueStatus);
+        long issuedCount = parseLong(summary.get("issuedCount"), 0L);
+        Long remainingStock = parseLong(summary.get("remainingStock"), null);
+
+        return CouponIssueStatusResponse.builder()
+                .couponId(couponId)
+                .userId(userId)
+                .issueRank(parseLong(status.get("issueRank"), null))
+                .issuedCount(issuedCount)
+                .totalLimit(remainingStock == null ? null : issuedCount + remainingStock)
+                .isIssued(issued)
+                .status(issueStatus)
+                .build();
+    }
+
+    private String resolveStatus(Map<Object, Object> status, Long couponId, Long userId) {
+        if (status.containsKey("success")) {
+            return "true".equals(status.get("success")) ? ISSUED : FAILED;
+        }
+        if (status.containsKey("requested")) {
+            return PENDING;
+        }
+        if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
+            return ISSUED;
+        }
+        throw new ApiException(COUPON_ISSUE_REQUEST_NOT_FOUND);
+    }
+
+    static String statusKey(Long couponId, Long userId) {
+        return STATUS_KEY_PREFIX + couponId + ":" + userId;
+    }
+
+    private static String valueOrEmpty(Long value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static Long parseLong(Object value, Long defaultValue) {
+        if (value == null || value.toString().isEmpty()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.toString());
+    }
+}
@@ -10,6 +10,7 @@ import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponListResponse
 import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +27,8 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponKafkaEventService couponKafkaEventService;
+    private final CouponIssueGate couponIssueGate;
+    private final CouponIssueStatusService couponIssueStatusService;
 
     /**
      * 쿠폰 사용
@@ -41,6 +44,18 @@ public class CouponService {
         log.info("쿠폰 사용 완료 - 사용자 쿠폰 ID: {}", userCouponId);
     }
 
+    /**
+     * 쿠폰 사용 취소 (결제 실패한 주문의 보상)
+     */
+    @Transactional
+    public void cancelCouponUsage(Long userCouponId) {
+        UserCoupon userCoupon = findUserCouponById(userCouponId);
+        userCoupon.cancelUse();
+        userCouponRepository.save(userCoupon);
+
+        log.info("쿠폰 사용 취소 완료 - 사용자 쿠폰 ID: {}", userCouponId);
+    }
+
     @Transactional
     public Long calculateDiscountPrice(Long userCouponId, Long totalPrice) {
         UserCoupon userCoupon = findUserCouponById(userCouponId);
@@ -56,10 +71,22 @@ public class CouponService {
      * 2. 재고 검사
      * 3. 중복 발급 확인
      * 4. Kafka로 쿠폰 발급 요청 이벤트 발행
+     * coupon.issue.mode=redis 이면 1~3 단계를 {@link CouponIssueGate} 의 Redis 선점으로 대신하며, Redis 장애 시 DB 로 확인
      */
     public void issueCoupon(Long userId, Long couponId) {
         log.info("쿠폰 발급 요청 시작 - 사용자 ID: {}, 쿠폰 ID: {}", userId, couponId);
-        
+
+        if (couponIssueGate.isEnabled() && admitThroughGate(userId, couponId)) {
+            couponKafkaEventService.publishCouponIssueRequest(userId, couponId)
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            couponIssueGate.release(userId, couponId);
+                        }
+                    });
+            log.info("쿠폰 발급 요청 이벤트 발행 완료 - 사용자 ID: {}, 쿠폰 ID: {}", userId, couponId);
+            return;
+        }
+
         Coupon coupon = findCouponById(couponId);
         
         if (coupon.getStock() <= 0) {
@@ -71,12 +98,39 @@ public class CouponService {
             log.warn("중복 쿠폰 발급 시도 - 사용자 ID: {}, 쿠폰 ID: {}", userId, couponId);
             throw new ApiException(COUPON_ALREADY_ISSUED);
         }
-        
+
+        markRequested(userId, couponId);
         couponKafkaEventService.publishCouponIssueRequest(userId, couponId);
         
         log.info("쿠폰 발급 요청 이벤트 발행 완료 - 사용자 ID: {}, 쿠폰 ID: {}", userId, couponId);
     }
 
+    /**
+     * Redis 발급 선점
+     * @return 선점에 성공하면 true, Redis 장애로 판단할 수 없으면 false (DB 로 확인)
+     */
+    private boolean admitThroughGate(Long userId, Long couponId) {
+        try {
+            couponIssueGate.admit(userId, couponId);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 발급 선점 실패, DB 로 확인 - 사용자 ID: {}, 쿠폰 ID: {}", userId, couponId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 발급 요청 접수 기록 (redis 모드는 선점 스크립트에서 기록)
+     * 기록하지 못해도 발급 요청은 진행하며, 결과가 반영되면 상태 조회가 가능해짐
+     */
+    private void markRequested(Long userId, Long couponId) {
+        try {
+            couponIssueStatusService.markRequested(couponId, userId);
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 발급 요청 접수 기록 실패 - 사용자 ID: {}, 쿠폰 ID: {}", userId, couponId, e);
+        }
+    }
+
     /**
      * 사용자가 보유한 쿠폰 목록을 조회
      */
@@ -0,0 +1,257 @@
+package kr.hhplus.be.server.application.order;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.config.redis.LockPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_CREATION_FAILED;
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_PROCESSING_TIMEOUT;
+
+/**
+ * 주문 그룹 커밋 처리기
+ * 동시에 들어온 주문 요청을 최대 batch 크기 / linger 시간 단위로 모아 하나의 트랜잭션에서 처리하여
+ * 커넥션 하나당 커밋(fsync) 횟수를 줄임
+ * - 배치에 포함된 모든 사용자의 주문 락을 하나의 락 계획으로 먼저 획득한 뒤 트랜잭션을 시작하고, 커밋이 끝난 뒤 해제
+ *   (주문별 @DistributedLock 은 이미 보유한 키이므로 다시 획득하지 않음, 락 대기 중에는 커넥션을 점유하지 않음)
+ * - 배치 중 한 건이라도 실패하면 배치 전체를 롤백하고 각 주문을 개별 트랜잭션으로 재처리하여 실패를 격리
+ * - 호출자는 자신의 주문 결과(또는 예외)를 그대로 돌려받으며, wait-timeout-ms 안에 결과가 없으면 ORDER_PROCESSING_TIMEOUT
+ * - order.group-commit.enabled=false 이면 기존처럼 주문마다 개별 트랜잭션으로 처리
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitProcessor {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long LOCK_WAIT_SECONDS = 10;
+    private static final long LOCK_LEASE_SECONDS = 30;
+
+    private final OrderService orderService;
+    private final DistributedLockService distributedLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @Value("${order.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.group-commit.max-batch-size:16}")
+    private int maxBatchSize = 16;
+
+    @Value("${order.group-commit.linger-ms:5}")
+    private long lingerMillis = 5;
+
+    @Value("${order.group-commit.workers:2}")
+    private int workerCount = 2;
+
+    @Value("${order.group-commit.wait-timeout-ms:40000}")
+    private long waitTimeoutMillis = 40000;
+
+    public OrderGroupCommitProcessor(OrderService orderService,
+                                     DistributedLockService distributedLockService,
+                                     PlatformTransactionManager transactionManager) {
+        this.orderService = orderService;
+        this.distributedLockService = distributedLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "order-group-commit-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("주문 그룹 커밋 처리기 시작 - 워커 수: {}, 최대 배치: {}, linger: {}ms", workerCount, maxBatchSize, lingerMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+
+        PendingOrder pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(new ApiException(ORDER_CREATION_FAILED));
+        }
+    }
+
+    /**
+     * 주문 생성
+     * 그룹 커밋이 활성화되어 있으면 배치에 합류한 뒤 자신의 결과가 나올 때까지 대기
+     */
+    public Order placeOrder(Order order, List<OrderProduct> orderProducts) {
+        if (!enabled) {
+            return orderService.placeOrder(order, orderProducts);
+        }
+
+        PendingOrder pending = new PendingOrder(order, orderProducts);
+        queue.add(pending);
+
+        try {
+            return pending.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ApiException(ORDER_CREATION_FAILED);
+        } catch (TimeoutException e) {
+            throw handleTimeout(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new ApiException(ORDER_CREATION_FAILED);
+        }
+    }
+
+    /**
+     * 대기 시간 초과 처리
+     * 아직 큐에 남아 있으면 꺼내서 처리되지 않게 하고, 이미 워커가 가져갔으면 결과를 알 수 없으므로 경고만 남김
+     * (클라이언트는 Idempotency-Key 로 재시도하거나 주문 상태를 조회하여 확인)
+     */
+    private ApiException handleTimeout(PendingOrder pending) {
+        if (queue.remove(pending)) {
+            log.warn("주문 그룹 커밋 대기 시간 초과, 요청 취소 - 사용자 ID: {}, 대기 시간: {}ms",
+                    pending.order.getUserId(), waitTimeoutMillis);
+        } else {
+            log.warn("주문 그룹 커밋 처리 시간 초과, 결과 미확정 - 사용자 ID: {}, 대기 시간: {}ms",
+                    pending.order.getUserId(), waitTimeoutMillis);
+        }
+        return new ApiException(ORDER_PROCESSING_TIMEOUT);
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                List<PendingOrder> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    processBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingOrder> collectBatch() throws InterruptedException {
+        PendingOrder first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void processBatch(List<PendingOrder> batch) {
+        if (batch.size() == 1) {
+            processIndividually(batch.get(0));
+            return;
+        }
+
+        LockPlan plan = LockPlan.of(
+                batch.stream()
+                        .map(pending -> LockPlan.orderUserKey(pending.order.getUserId()))
+                        .toList(),
+                LOCK_WAIT_SECONDS,
+                LOCK_LEASE_SECONDS
+        );
+
+        try {
+            List<Order> results = distributedLockService.executeWithLockPlan(plan, () ->
+                    transactionTemplate.execute(status -> batch.stream()
+                            .map(pending -> orderService.placeOrder(pending.newOrder(), pending.newOrderProducts()))
+                            .toList()));
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(results.get(i));
+            }
+            log.debug("주문 그룹 커밋 완료 - 배치 크기: {}", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("주문 그룹 커밋 실패, 개별 처리로 전환 - 배치 크기: {}, 사유: {}", batch.size(), e.getMessage());
+            batch.forEach(this::processIndividually);
+        }
+    }
+
+    private void processIndividually(PendingOrder pending) {
+        try {
+            pending.result.complete(orderService.placeOrder(pending.newOrder(), pending.newOrderProducts()));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 대기 중인 주문 요청
+     * 롤백된 시도에서 변경된 엔티티를 재사용하지 않도록 시도마다 요청 값으로 새 엔티티를 만듦
+     */
+    private static class PendingOrder {
+        private final Order order;
+        private final List<OrderProduct> orderProducts;
+        private final CompletableFuture<Order> result = new CompletableFuture<>();
+
+        private PendingOrder(Order order, List<OrderProduct> orderProducts) {
+            this.order = order;
+            this.orderProducts = orderProducts;
+        }
+
+        private Order newOrder() {
+            return Order.builder()
+                    .userId(order.getUserId())
+                    .userCouponId(order.getUserCouponId())
+                    .build();
+        }
+
+        private List<OrderProduct> newOrderProducts() {
+            if (orderProducts == null) {
+                return List.of();
+            }
+            return orderProducts.stream()
+                    .map(orderProduct -> OrderProduct.builder()
+                            .productId(orderProduct.getProductId())
+                            .quantity(orderProduct.getQuantity())
+                            .build())
+                    .toList();
+        }
+    }
+}
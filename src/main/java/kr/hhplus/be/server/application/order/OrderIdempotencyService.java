@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_WAIT_TIMEOUT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_PROCESSING_TIMEOUT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_REQUEST_IN_PROGRESS;
+
+/**
+ * 클라이언트가 보낸 Idempotency-Key 기반 주문 중복 요청 처리
+ * - 최초 요청: 처리 중 표시(PROCESSING)를 SET NX 로 선점한 뒤 주문을 처리하고 결과(주문 ID)를 저장
+ * - 처리 완료된 키로 재요청: 락/DB 접근 없이 저장된 주문 ID 를 그대로 반환
+ * - 처리 중인 키로 재요청: 409 응답
+ * - 비즈니스 예외(ApiException)로 실패: 주문이 반영되지 않았으므로 표시를 삭제하여 같은 키로 재시도할 수 있게 함
+ * - 대기 시간 초과 등 결과를 알 수 없는 실패: 주문이 뒤늦게 커밋될 수 있으므로 표시를 지우지 않고 UNKNOWN 으로 바꿔
+ *   unknown-ttl-seconds 동안 같은 키의 재처리를 막음 (클라이언트는 주문 상태를 조회하여 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "order:idempotency:";
+    private static final String PROCESSING = "PROCESSING";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    /**
+     * 주문이 반영되었는지 알 수 없는 실패 (요청은 이미 처리 중일 수 있음)
+     */
+    private static final Set<ErrorCode> OUTCOME_UNKNOWN_ERRORS = EnumSet.of(ORDER_PROCESSING_TIMEOUT, LOCK_WAIT_TIMEOUT);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${order.idempotency.result-ttl-hours:24}")
+    private long resultTtlHours = 24;
+
+    @Value("${order.idempotency.processing-ttl-seconds:60}")
+    private long processingTtlSeconds = 60;
+
+    @Value("${order.idempotency.unknown-ttl-seconds:300}")
+    private long unknownTtlSeconds = 300;
+
+    /**
+     * 같은 사용자의 같은 Idempotency-Key 요청은 한 번만 처리
+     * @param task 주문 처리 후 주문 ID 를 반환하는 작업
+     * @return 주문 ID (재요청이면 최초 처리 결과)
+     */
+    public Long execute(Long userId, String idempotencyKey, Supplier<Long> task) {
+        String key = buildKey(userId, idempotencyKey);
+
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, PROCESSING, Duration.ofSeconds(processingTtlSeconds));
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return replay(key);
+        }
+
+        Long orderId;
+        try {
+            orderId = task.get();
+        } catch (ApiException e) {
+            if (OUTCOME_UNKNOWN_ERRORS.contains(e.getErrorCode())) {
+                markUnknown(key, e);
+            } else {
+                stringRedisTemplate.delete(key);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            markUnknown(key, e);
+            throw e;
+        }
+
+        stringRedisTemplate.opsForValue().set(key, String.valueOf(orderId), Duration.ofHours(resultTtlHours));
+        return orderId;
+    }
+
+    private void markUnknown(String key, RuntimeException cause) {
+        log.warn("주문 요청 결과 미확정, 멱등성 키 유지 - 키: {}, 사유: {}", key, cause.getMessage());
+        stringRedisTemplate.opsForValue().set(key, UNKNOWN, Duration.ofSeconds(unknownTtlSeconds));
+    }
+
+    private Long replay(String key) {
+        String stored = stringRedisTemplate.opsForValue().get(key);
+
+        if (stored == null || PROCESSING.equals(stored)) {
+            log.warn("처리 중인 주문 요청 재시도 - 키: {}", key);
+            throw new ApiException(ORDER_REQUEST_IN_PROGRESS);
+        }
+        if (UNKNOWN.equals(stored)) {
+            log.warn("결과 미확정 주문 요청 재시도 - 키: {}", key);
+            throw new ApiException(ORDER_REQUEST_IN_PROGRESS);
+        }
+
+        log.info("주문 요청 재시도, 기존 결과 반환 - 키: {}, 주문 ID: {}", key, stored);
+        return Long.valueOf(stored);
+    }
+
+    private String buildKey(Long userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 단계별 소요 시간 기록 (order.place.stage)
+ * 단계(stage) x 결과(outcome) 조합의 Timer 를 기동 시 미리 등록해 두고 배열 인덱스로만 조회하므로
+ * 주문 처리 중에는 Timer 조회/태그 생성에 따른 객체 할당이 없음
+ * 사용자 락 대기 시간은 {@code DistributedLockAspect} 의 distributed.lock.wait 로 기록됨
+ */
+@Component
+public class OrderMetrics {
+
+    private static final String STAGE_TIMER_NAME = "order.place.stage";
+
+    public enum Stage {
+        STOCK_DECREMENT("stock_decrement"),
+        PRICING("pricing"),
+        COUPON("coupon"),
+        ORDER_SAVE("order_save"),
+        PAYMENT("payment"),
+        ORDER_PRODUCT_SAVE("order_product_save"),
+        RANKING_UPDATE("ranking_update"),
+        EVENT_PUBLISH("event_publish");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    private final Timer[] successTimers;
+    private final Timer[] failureTimers;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        Stage[] stages = Stage.values();
+        this.successTimers = new Timer[stages.length];
+        this.failureTimers = new Timer[stages.length];
+        for (Stage stage : stages) {
+            successTimers[stage.ordinal()] = register(meterRegistry, stage, "success");
+            failureTimers[stage.ordinal()] = register(meterRegistry, stage, "failure");
+        }
+    }
+
+    /**
+     * 단계 성공 기록
+     * @return 기록 시각 (다음 단계의 시작 시각으로 사용)
+     */
+    public long recordSuccess(Stage stage, long startedAt) {
+        long now = System.nanoTime();
+        successTimers[stage.ordinal()].record(now - startedAt, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    /**
+     * 단계 실패 기록
+     */
+    public void recordFailure(Stage stage, long startedAt) {
+        failureTimers[stage.ordinal()].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer register(MeterRegistry meterRegistry, Stage stage, String outcome) {
+        return Timer.builder(STAGE_TIMER_NAME)
+                .description("주문 생성 단계별 소요 시간")
+                .tag("stage", stage.tagValue)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.payment.event.PaymentResultEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보류 결제 결과에 따라 주문 확정
+ * 결제 결과 반영 트랜잭션에 참여하므로 결제와 주문 상태가 함께 커밋되거나 함께 롤백됨
+ * (PaymentService 가 PG 승인 서비스를 의존하므로 PG 승인 서비스가 OrderService 를 직접 의존하지 않도록 이벤트로 분리)
+ * - 승인: 주문 완료 및 주문 완료 이벤트 발행
+ * - 실패: 주문 실패 및 재고/쿠폰 복원
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaymentResultListener {
+
+    private final OrderService orderService;
+
+    @EventListener
+    public void handlePaymentResult(PaymentResultEvent event) {
+        if (event.isApproved()) {
+            orderService.completePendingOrder(event.getOrderId());
+        } else {
+            orderService.failPendingOrder(event.getOrderId());
+        }
+        log.info("결제 결과로 주문 확정 - 주문 ID: {}, 결제 ID: {}, 결제 상태: {}",
+                event.getOrderId(), event.getPaymentId(), event.getStatus());
+    }
+}
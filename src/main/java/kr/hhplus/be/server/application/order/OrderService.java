@@ -2,24 +2,33 @@ package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.application.bestseller.BestSellerRankingService;
 import kr.hhplus.be.server.application.coupon.CouponService;
+import kr.hhplus.be.server.application.order.OrderMetrics.Stage;
 import kr.hhplus.be.server.domain.order.event.OrderEventPublisher;
 import kr.hhplus.be.server.application.payment.PaymentService;
 import kr.hhplus.be.server.application.product.ProductService;
+import kr.hhplus.be.server.application.product.ProductStockService;
 import kr.hhplus.be.server.common.exception.ApiException;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderProduct;
 import kr.hhplus.be.server.domain.order.OrderProductRepository;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import kr.hhplus.be.server.domain.product.Product;
-import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLock;
+import kr.hhplus.be.server.infrastructure.kafka.order.OrderKafkaEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 
@@ -32,14 +41,16 @@ public class OrderService {
     private final OrderProductRepository orderProductRepository;
     private final CouponService couponService;
     private final ProductService productService;
+    private final ProductStockService productStockService;
     private final PaymentService paymentService;
-    private final DistributedLockService distributedLockService;
     private final BestSellerRankingService bestSellerRankingService;
     private final OrderEventPublisher orderEventPublisher;
+    private final OrderKafkaEventService orderKafkaEventService;
+    private final OrderMetrics orderMetrics;
 
     /**
      * 주문 생성
-     * 1. 사용자별 주문 락 획득
+     * 1. 사용자별 주문 락 획득 후 트랜잭션 시작 (포인트는 조건부 UPDATE 로 차감하므로 별도 락 없음)
      * 2. 주문 상품 유효성 검사
      * 3. 상품 재고 감소
      * 4. 총 가격 계산
@@ -50,36 +61,159 @@ public class OrderService {
      * 9. 주문 상품 정보 저장
      * 10. 주문 상태 업데이트
      * 11. 베스트셀러 랭킹 업데이트
+     * 락 획득 이후 단계별 소요 시간은 {@link OrderMetrics} 로 기록
      */
+    @DistributedLock(keys = "'order:user:' + #order.userId")
     @Transactional
     public Order placeOrder(Order order, List<OrderProduct> orderProducts) {
-        return distributedLockService.executeOrderLock(order.getUserId(), () -> {
-            log.info("주문 생성 시작 - 사용자 ID: {}", order.getUserId());
+        log.info("주문 생성 시작 - 사용자 ID: {}", order.getUserId());
 
-            validateOrderProducts(orderProducts);
-            decreaseProductStocksWithLock(orderProducts);
-            
-            Map<Long, Product> productMap = getProductMap(orderProducts);
+        validateOrderProducts(orderProducts);
+
+        Stage stage = Stage.STOCK_DECREMENT;
+        long stageStartedAt = System.nanoTime();
+        Order savedOrder;
+        try {
+            decreaseProductStocks(orderProducts);
+            stageStartedAt = orderMetrics.recordSuccess(stage, stageStartedAt);
 
+            stage = Stage.PRICING;
+            Map<Long, Product> productMap = getProductMap(orderProducts);
             long totalPrice = calculateTotalPrice(orderProducts, productMap);
+            stageStartedAt = orderMetrics.recordSuccess(stage, stageStartedAt);
+
+            stage = Stage.COUPON;
             totalPrice = calculateDiscountedPrice(order, totalPrice);
             processCouponUsage(order);
+            stageStartedAt = orderMetrics.recordSuccess(stage, stageStartedAt);
 
-            Order savedOrder = saveOrder(order, totalPrice);
+            stage = Stage.ORDER_SAVE;
+            savedOrder = saveOrder(order, totalPrice);
+            stageStartedAt = orderMetrics.recordSuccess(stage, stageStartedAt);
+
+            stage = Stage.PAYMENT;
             initiatePayment(savedOrder, totalPrice);
+            stageStartedAt = orderMetrics.recordSuccess(stage, stageStartedAt);
+
+            stage = Stage.ORDER_PRODUCT_SAVE;
             saveOrderProducts(savedOrder, orderProducts, productMap);
+            stageStartedAt = orderMetrics.recordSuccess(stage, stageStartedAt);
 
+            // 랭킹 반영은 커밋 이후에 실행되므로 소요 시간은 incrementBestSellerSales 에서 기록
             updateBestSellerRanking(orderProducts);
 
-            List<Product> products = orderProducts.stream()
-                    .map(orderProduct -> productMap.get(orderProduct.getProductId()))
-                    .toList();
-            
-            orderEventPublisher.publishOrderCompletedEvent(savedOrder, orderProducts, products);
+            // 보류(PENDING) 주문은 결제 승인 후 completePendingOrder 에서 완료 이벤트 발행
+            if (savedOrder.getStatus() == OrderStatus.COMPLETED) {
+                stage = Stage.EVENT_PUBLISH;
+                stageStartedAt = System.nanoTime();
+                publishOrderCompletedEvent(savedOrder, orderProducts, productMap);
+                orderMetrics.recordSuccess(stage, stageStartedAt);
+            }
+        } catch (RuntimeException e) {
+            orderMetrics.recordFailure(stage, stageStartedAt);
+            throw e;
+        }
+
+        log.info("주문 생성 완료 - 주문 ID: {}, 사용자 ID: {}", savedOrder.getId(), order.getUserId());
+        return savedOrder;
+    }
+
+    /**
+     * 주문 접수 (비동기 처리 모드)
+     * 대기(WAITING) 상태의 주문만 저장하고 처리 요청을 Kafka에 발행한 뒤 즉시 반환
+     * 실제 주문 처리는 OrderPlacementConsumer 가 placeAcceptedOrder 로 수행
+     */
+    public Order acceptOrder(Order order, List<OrderProduct> orderProducts) {
+        validateOrderProducts(orderProducts);
+
+        Order acceptedOrder = orderRepository.save(order);
+        try {
+            orderKafkaEventService.publishOrderPlacementRequest(acceptedOrder, orderProducts);
+        } catch (ApiException e) {
+            acceptedOrder.markAsFailed();
+            orderRepository.save(acceptedOrder);
+            throw e;
+        }
+
+        log.info("주문 접수 완료 - 주문 ID: {}, 사용자 ID: {}", acceptedOrder.getId(), acceptedOrder.getUserId());
+        return acceptedOrder;
+    }
+
+    /**
+     * 접수된 주문 처리
+     * 이미 처리된 주문(재전달된 메시지)은 건너뜀
+     */
+    @DistributedLock(keys = "'order:user:' + #userId")
+    @Transactional
+    public Order placeAcceptedOrder(Long orderId, Long userId, List<OrderProduct> orderProducts) {
+        Order order = getOrder(orderId);
+        if (order.getStatus() != OrderStatus.WAITING) {
+            log.info("이미 처리된 주문 - 주문 ID: {}, 상태: {}", orderId, order.getStatus());
+            return order;
+        }
+        return placeOrder(order, orderProducts);
+    }
+
+    /**
+     * 접수된 주문의 처리 실패 기록
+     * 주문 처리 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 호출
+     */
+    @Transactional
+    public void markOrderAsFailed(Long orderId) {
+        Order order = getOrder(orderId);
+        if (order.getStatus() == OrderStatus.WAITING) {
+            order.markAsFailed();
+        }
+    }
+
+    /**
+     * 보류 중인 주문 완료 처리 (아웃박스 결제 승인 / PG 승인 결과 반영 트랜잭션에 참여)
+     * 결제가 승인된 시점에 주문 완료 이벤트 발행 (커밋 이후 전달)
+     */
+    @Transactional
+    public void completePendingOrder(Long orderId) {
+        Order order = getOrder(orderId);
+        if (order.getStatus() != OrderStatus.PENDING) {
+            return;
+        }
+        order.success();
 
-            log.info("주문 생성 완료 - 주문 ID: {}, 사용자 ID: {}", savedOrder.getId(), order.getUserId());
-            return savedOrder;
-        });
+        List<OrderProduct> orderProducts = orderProductRepository.findByOrderId(orderId);
+        publishOrderCompletedEvent(order, orderProducts, getProductMap(orderProducts));
+    }
+
+    /**
+     * 보류 중인 주문의 결제 실패 기록
+     * 주문 트랜잭션에서 이미 커밋된 재고 차감과 쿠폰 사용을 같은 트랜잭션에서 되돌림
+     */
+    @Transactional
+    public void failPendingOrder(Long orderId) {
+        Order order = getOrder(orderId);
+        if (order.getStatus() != OrderStatus.PENDING) {
+            return;
+        }
+        order.markAsFailed();
+
+        Map<Long, Long> quantityByProductId = orderProductRepository.findByOrderId(orderId).stream()
+                .collect(Collectors.toMap(
+                        OrderProduct::getProductId,
+                        OrderProduct::getQuantity,
+                        Long::sum
+                ));
+        productStockService.restoreStocks(quantityByProductId);
+        if (order.getUserCouponId() != null && order.isCouponApplied()) {
+            couponService.cancelCouponUsage(order.getUserCouponId());
+        }
+        log.info("보류 주문 실패 보상 완료 - 주문 ID: {}, 상품 수: {}", orderId, quantityByProductId.size());
+    }
+
+    /**
+     * 주문 단건 조회 (주문 상태 조회용)
+     */
+    @Transactional(readOnly = true)
+    public Order getOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new ApiException(ORDER_NOT_FOUND));
     }
 
     private void validateOrderProducts(List<OrderProduct> orderProducts) {
@@ -90,20 +224,16 @@ public class OrderService {
 
     /**
      * 재고 감소
-     * 상품 ID 순서로 정렬하여 데드락 방지
+     * 같은 상품의 주문 수량을 합산한 뒤 한 번에 예약 (inventory.mode 에 따라 DB 또는 Redis)
      */
-    private void decreaseProductStocksWithLock(List<OrderProduct> orderProducts) {
-        // 상품 ID 순서로 정렬하여 데드락 방지
-        orderProducts.stream()
-                .sorted((op1, op2) -> Long.compare(op1.getProductId(), op2.getProductId()))
-                .forEach(orderProduct -> {
-                    distributedLockService.executeProductStockLock(orderProduct.getProductId(), () -> {
-                        Product product = productService.getProductWithPessimisticLock(orderProduct.getProductId());
-                        product.decreaseStock(orderProduct.getQuantity());
-                        log.info("상품 재고 감소 - 상품 ID: {}, 수량: {}", orderProduct.getProductId(), orderProduct.getQuantity());
-                        return null;
-                    });
-                });
+    private void decreaseProductStocks(List<OrderProduct> orderProducts) {
+        Map<Long, Long> quantityByProductId = orderProducts.stream()
+                .collect(Collectors.toMap(
+                        OrderProduct::getProductId,
+                        OrderProduct::getQuantity,
+                        Long::sum
+                ));
+        productStockService.reserveStocks(quantityByProductId);
     }
 
     private Map<Long, Product> getProductMap(List<OrderProduct> orderProducts) {
@@ -115,7 +245,10 @@ public class OrderService {
         return productMap;
     }
 
-    private long calculateTotalPrice(List<OrderProduct> orderProducts, Map<Long, Product> productMap) {
+    /**
+     * 주문 총액 계산 (src/jmh 벤치마크에서 직접 호출하므로 package-private)
+     */
+    static long calculateTotalPrice(List<OrderProduct> orderProducts, Map<Long, Product> productMap) {
         return orderProducts.stream()
                 .mapToLong(it -> {
                     Product product = productMap.get(it.getProductId());
@@ -146,12 +279,28 @@ public class OrderService {
 
     /**
      * 결제 처리 시작
+     * payment.approval-mode=outbox 이면 결제 요청만 저장하고 주문은 보류(PENDING) 상태로 두며,
+     * 결제 승인과 주문 완료 처리는 PaymentOutboxRelay 가 커밋 이후 비동기로 수행
+     * inline 모드라도 PG 결제(CARD/CASH)는 승인 응답이 올 때까지 주문을 보류(PENDING) 상태로 둠
      */
     private void initiatePayment(Order order, long totalPrice) {
         try {
             String idempotencyKey = generateIdempotencyKey(order.getId());
 
-            paymentService.processPayment(
+            if (paymentService.isOutboxApproval()) {
+                paymentService.requestPayment(
+                        order.getId(),
+                        order.getUserId(),
+                        totalPrice,
+                        PaymentMethod.POINT,
+                        idempotencyKey
+                );
+                order.markAsPending();
+                log.info("결제 요청 완료 - 주문 ID: {}", order.getId());
+                return;
+            }
+
+            Payment payment = paymentService.processPayment(
                     order.getId(),
                     order.getUserId(),
                     totalPrice,
@@ -159,6 +308,12 @@ public class OrderService {
                     idempotencyKey
             );
 
+            // PG 결제는 승인 응답 전까지 주문을 보류하고 OrderPaymentResultListener 가 결과에 따라 확정
+            if (payment.getStatus() != PaymentStatus.APPROVED) {
+                order.markAsPending();
+                log.info("PG 결제 승인 대기 - 주문 ID: {}", order.getId());
+                return;
+            }
             order.success();
             log.info("결제 처리 완료 - 주문 ID: {}", order.getId());
         } catch (Exception e) {
@@ -169,18 +324,37 @@ public class OrderService {
         }
     }
 
+    /**
+     * 주문 상품 저장
+     * ID를 애플리케이션에서 채번하므로 flush 시점에 하나의 배치 INSERT 로 전송됨
+     */
     private void saveOrderProducts(Order order, List<OrderProduct> orderProducts, Map<Long, Product> productMap) {
         for (OrderProduct orderProduct : orderProducts) {
             Product product = productMap.get(orderProduct.getProductId());
             orderProduct.assignOrderInfo(order.getId(), product.getPrice());
-            orderProductRepository.save(orderProduct);
         }
+        orderProductRepository.saveAll(orderProducts);
     }
 
     /**
      * 베스트셀러 랭킹 업데이트
+     * Redis 반영은 롤백되지 않으므로 트랜잭션 안에서는 커밋 이후에 반영 (그룹 커밋 재처리 시 중복 집계 방지)
      */
     private void updateBestSellerRanking(List<OrderProduct> orderProducts) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementBestSellerSales(orderProducts);
+                }
+            });
+            return;
+        }
+        incrementBestSellerSales(orderProducts);
+    }
+
+    private void incrementBestSellerSales(List<OrderProduct> orderProducts) {
+        long startedAt = System.nanoTime();
         try {
             for (OrderProduct orderProduct : orderProducts) {
                 bestSellerRankingService.incrementTodaySales(
@@ -188,16 +362,26 @@ public class OrderService {
                         orderProduct.getQuantity()
                 );
             }
+            orderMetrics.recordSuccess(Stage.RANKING_UPDATE, startedAt);
             log.info("베스트셀러 랭킹 업데이트 완료 - 주문 상품 수: {}", orderProducts.size());
         } catch (Exception e) {
+            orderMetrics.recordFailure(Stage.RANKING_UPDATE, startedAt);
             log.error("베스트셀러 랭킹 업데이트 실패", e);
         }
     }
 
+    private void publishOrderCompletedEvent(Order order, List<OrderProduct> orderProducts, Map<Long, Product> productMap) {
+        List<Product> products = orderProducts.stream()
+                .map(orderProduct -> productMap.get(orderProduct.getProductId()))
+                .toList();
+        orderEventPublisher.publishOrderCompletedEvent(order, orderProducts, products);
+    }
+
     /**
      * 멱등성 키 생성
+     * 주문당 결제는 한 번이므로 주문 ID 만으로 키를 만들어 같은 주문의 결제 재시도를 중복으로 판별
      */
     private String generateIdempotencyKey(Long orderId) {
-        return String.format("ORDER_%d_%d", orderId, System.currentTimeMillis());
+        return String.format("ORDER_%d", orderId);
     }
 }
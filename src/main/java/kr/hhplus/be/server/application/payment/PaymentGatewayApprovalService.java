@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentGateway;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayRequest;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayResult;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.domain.payment.event.PaymentResultEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.PAYMENT_INFO_NOT_EXIST;
+
+/**
+ * 외부 PG 결제(CARD/CASH) 승인
+ * 결제 트랜잭션은 PENDING 결제만 저장하고 커밋된 뒤 PG 에 비동기로 승인 요청하므로 요청 스레드가 PG 응답을 기다리지 않음
+ * PG 응답은 콜백 스레드(taskExecutor)에서 별도 트랜잭션으로 반영하고, 같은 트랜잭션에서 {@link PaymentResultEvent} 로 주문을 확정
+ * - APPROVED: 승인 처리 및 PG 거래 ID 저장, 주문 완료
+ * - DECLINED / NOT_SENT: 실패 처리, 주문 실패 및 재고/쿠폰 복원
+ * - UNKNOWN: PG 처리 여부를 알 수 없으므로 결제와 주문을 PENDING 으로 두고
+ *   {@link PaymentGatewayRecoveryScheduler} 가 같은 멱등성 키로 다시 요청하여 PG 의 처리 결과를 받아 확정
+ */
+@Slf4j
+@Service
+public class PaymentGatewayApprovalService {
+
+    private final PaymentGateway paymentGateway;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor callbackExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PaymentGatewayApprovalService(PaymentGateway paymentGateway,
+                                         PaymentRepository paymentRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         @Qualifier("taskExecutor") Executor callbackExecutor,
+                                         ApplicationEventPublisher eventPublisher) {
+        this.paymentGateway = paymentGateway;
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.callbackExecutor = callbackExecutor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 결제 트랜잭션이 커밋된 뒤 PG 승인 요청 (롤백되면 요청하지 않음)
+     */
+    public void requestApprovalAfterCommit(Payment payment) {
+        PaymentGatewayRequest request = PaymentGatewayRequest.from(payment);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestApproval(request);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestApproval(request);
+            }
+        });
+    }
+
+    CompletableFuture<Void> requestApproval(PaymentGatewayRequest request) {
+        log.info("PG 승인 요청 - 결제 ID: {}, 결제 수단: {}", request.getPaymentId(), request.getPaymentMethod());
+        return paymentGateway.approve(request)
+                .thenAcceptAsync(result -> applyResult(request.getPaymentId(), result), callbackExecutor)
+                .exceptionally(e -> {
+                    log.error("PG 승인 결과 반영 실패 - 결제 ID: {}", request.getPaymentId(), e);
+                    return null;
+                });
+    }
+
+    private void applyResult(Long paymentId, PaymentGatewayResult result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Payment payment = paymentRepository.findById(paymentId)
+                    .orElseThrow(() -> new ApiException(PAYMENT_INFO_NOT_EXIST));
+            if (payment.getStatus() != PaymentStatus.PENDING) {
+                log.info("이미 처리된 PG 결제 - 결제 ID: {}, 상태: {}", paymentId, payment.getStatus());
+                return;
+            }
+
+            switch (result.getOutcome()) {
+                case APPROVED -> payment.markAsApprovedByGateway(result.getTransactionId());
+                case DECLINED, NOT_SENT -> payment.markAsFailed();
+                case UNKNOWN -> {
+                    log.warn("PG 승인 결과 불명, 재조회 대상으로 PENDING 유지 - 결제 ID: {}, 사유: {}",
+                            paymentId, result.getReason());
+                    return;
+                }
+            }
+            eventPublisher.publishEvent(PaymentResultEvent.of(this, payment));
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.common.id.SnowflakeIdSequence;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayRequest;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PG 결제 결과 재조회 스케줄러
+ * 승인 결과를 알 수 없어(UNKNOWN) PENDING 으로 남은 CARD/CASH 결제를 같은 멱등성 키로 PG 에 다시 요청
+ * PG 는 같은 멱등성 키의 요청을 다시 승인하지 않고 기존 처리 결과를 돌려주므로 이중 승인 없이 결과를 확정할 수 있음
+ * 응답은 {@link PaymentGatewayApprovalService} 의 콜백이 결제/주문에 반영하며, 다시 UNKNOWN 이면 다음 주기에 재조회
+ * 생성 시각 컬럼이 없으므로 Snowflake ID 로 grace-seconds 이전에 생성된 결제만 고름 (첫 승인 요청과 겹치지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.gateway.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentGatewayRecoveryScheduler {
+
+    private static final String RECOVERY_LOCK_KEY = "payment:gateway:recovery";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewayApprovalService paymentGatewayApprovalService;
+    private final DistributedLockService distributedLockService;
+
+    @Value("${payment.gateway.recovery.grace-seconds:60}")
+    private long graceSeconds = 60;
+
+    @Value("${payment.gateway.recovery.batch-size:100}")
+    private int batchSize = 100;
+
+    /**
+     * 여러 인스턴스가 같은 결제를 동시에 재조회하지 않도록 분산락 안에서 처리
+     * (동시에 실행되더라도 결과 반영은 PENDING 결제에만 적용되므로 정합성은 보장됨)
+     */
+    @Scheduled(fixedDelayString = "${payment.gateway.recovery.interval-ms:60000}")
+    public void recoverPendingPayments() {
+        try {
+            distributedLockService.executeWithLock(RECOVERY_LOCK_KEY, 0, 60, this::recover);
+        } catch (RuntimeException e) {
+            log.debug("PG 결제 재조회 스킵 - 다른 인스턴스에서 처리 중이거나 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    void recover() {
+        long beforeId = SnowflakeIdSequence.minIdAt(Instant.now().minusSeconds(graceSeconds));
+        List<Payment> payments = paymentRepository.findPendingGatewayPayments(beforeId, batchSize);
+        for (Payment payment : payments) {
+            log.info("PG 결제 결과 재조회 - 결제 ID: {}, 주문 ID: {}", payment.getId(), payment.getOrderId());
+            paymentGatewayApprovalService.requestApproval(PaymentGatewayRequest.from(payment));
+        }
+        if (!payments.isEmpty()) {
+            log.info("PG 결제 결과 재조회 요청 완료 - 결제 수: {}", payments.size());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package kr.hhplus.be.server.application.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.DUPLICATE_PAYMENT;
+
+/**
+ * 결제 멱등성 저장소
+ * 결제 멱등성 키를 Redis SET NX 로 선점하여 중복 결제를 Redis 호출 한 번으로 판별
+ * - 선점 성공: 처리 중(PROCESSING) 표시, 커밋되면 결제 결과(결제 상태)로 갱신, 롤백되면 삭제
+ * - 선점 실패: 처리 중이거나 이미 처리된 결제이므로 DUPLICATE_PAYMENT
+ * - Redis 장애 시: DB 조회(existsByIdempotencyKey)로 판별
+ * Redis 키가 유실되어도 payment.idempotency_key 유니크 인덱스가 중복 저장을 막음
+ * payment.idempotency 카운터(result: miss / hit / duplicate / fallback)로 판별 결과를 기록
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+
+    private static final String KEY_PREFIX = "payment:idempotency:";
+    private static final String PROCESSING = "PROCESSING";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PaymentRepository paymentRepository;
+    private final Counter missCounter;
+    private final Counter hitCounter;
+    private final Counter duplicateCounter;
+    private final Counter fallbackCounter;
+
+    @Value("${payment.idempotency.result-ttl-hours:24}")
+    private long resultTtlHours = 24;
+
+    @Value("${payment.idempotency.processing-ttl-seconds:60}")
+    private long processingTtlSeconds = 60;
+
+    public PaymentIdempotencyService(StringRedisTemplate stringRedisTemplate,
+                                     PaymentRepository paymentRepository,
+                                     MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.paymentRepository = paymentRepository;
+        this.missCounter = counter(meterRegistry, "miss");
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.duplicateCounter = counter(meterRegistry, "duplicate");
+        this.fallbackCounter = counter(meterRegistry, "fallback");
+    }
+
+    /**
+     * 결제 멱등성 키 선점
+     * 이미 처리 중이거나 처리된 키면 DUPLICATE_PAYMENT
+     */
+    public void acquire(Payment payment) {
+        String key = KEY_PREFIX + payment.getIdempotencyKey();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key, PROCESSING, Duration.ofSeconds(processingTtlSeconds));
+        } catch (DataAccessException e) {
+            log.warn("결제 멱등성 키 선점 실패, DB 로 중복 확인 - 키: {}", payment.getIdempotencyKey(), e);
+            fallbackCounter.increment();
+            checkDuplicateInDatabase(payment);
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            rejectDuplicate(key, payment);
+        }
+
+        missCounter.increment();
+        recordOutcomeOnCompletion(key, payment);
+    }
+
+    private void rejectDuplicate(String key, Payment payment) {
+        String stored = stringRedisTemplate.opsForValue().get(key);
+        if (stored == null || PROCESSING.equals(stored)) {
+            duplicateCounter.increment();
+            log.warn("처리 중인 결제 중복 요청 - 주문 ID: {}, 중복 방지 키: {}", payment.getOrderId(), payment.getIdempotencyKey());
+        } else {
+            hitCounter.increment();
+            log.warn("처리된 결제 중복 요청 - 주문 ID: {}, 중복 방지 키: {}, 결과: {}", payment.getOrderId(), payment.getIdempotencyKey(), stored);
+        }
+        throw new ApiException(DUPLICATE_PAYMENT);
+    }
+
+    private void checkDuplicateInDatabase(Payment payment) {
+        if (paymentRepository.existsByIdempotencyKey(payment.getIdempotencyKey())) {
+            log.warn("중복 결제 감지 - 주문 ID: {}, 중복 방지 키: {}", payment.getOrderId(), payment.getIdempotencyKey());
+            throw new ApiException(DUPLICATE_PAYMENT);
+        }
+    }
+
+    /**
+     * 커밋되면 결제 결과를 보관하고, 롤백되면 키를 삭제하여 같은 키로 재시도할 수 있게 함
+     * 트랜잭션 밖에서 호출되면 처리 중 표시가 TTL 만료로 정리됨
+     */
+    private void recordOutcomeOnCompletion(String key, Payment payment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        stringRedisTemplate.opsForValue()
+                                .set(key, payment.getStatus().name(), Duration.ofHours(resultTtlHours));
+                    } else {
+                        stringRedisTemplate.delete(key);
+                    }
+                } catch (Exception e) {
+                    log.error("결제 멱등성 키 갱신 실패 - 키: {}", key, e);
+                }
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.idempotency")
+                .description("결제 멱등성 키 판별 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.application.order.OrderService;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentOutboxEntry;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 결제 아웃박스 릴레이 (payment.approval-mode=outbox)
+ * 주문 트랜잭션이 남긴 아웃박스 항목을 FOR UPDATE SKIP LOCKED 로 배치 단위로 가져와 결제 승인과 주문 완료를 처리
+ * 다른 인스턴스가 가져간 항목은 건너뛰므로 분산락 없이 여러 인스턴스가 나눠서 처리
+ * - 승인 성공: 결제 승인 + 주문 완료 + 아웃박스 삭제를 한 트랜잭션으로 처리
+ * - 비즈니스 실패(ApiException, 잔액 부족 등): 결제/주문 실패 처리와 재고/쿠폰 복구 후 아웃박스 삭제
+ * - 그 외 오류: 지수 백오프로 재시도, max-attempts 를 넘으면 실패 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.approval-mode", havingValue = "outbox")
+public class PaymentOutboxRelay {
+
+    private static final long MAX_BACKOFF_SECONDS = 60;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentService paymentService;
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+
+    public PaymentOutboxRelay(PaymentOutboxRepository paymentOutboxRepository,
+                              PaymentService paymentService,
+                              OrderService orderService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${payment.outbox.batch-size:100}") int batchSize,
+                              @Value("${payment.outbox.lease-seconds:30}") long leaseSeconds,
+                              @Value("${payment.outbox.max-attempts:5}") int maxAttempts) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.paymentService = paymentService;
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms:200}")
+    public void relay() {
+        List<PaymentOutboxEntry> entries;
+        do {
+            entries = claim();
+            entries.forEach(this::process);
+        } while (entries.size() == batchSize);
+    }
+
+    private List<PaymentOutboxEntry> claim() {
+        List<PaymentOutboxEntry> entries = transactionTemplate.execute(
+                status -> paymentOutboxRepository.claimDue(batchSize, leaseSeconds));
+        return entries == null ? List.of() : entries;
+    }
+
+    void process(PaymentOutboxEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (paymentService.approvePendingPayment(entry.getPaymentId(), entry.getUserId())) {
+                    orderService.completePendingOrder(entry.getOrderId());
+                }
+                paymentOutboxRepository.delete(entry.getOutboxId());
+            });
+            log.info("아웃박스 결제 승인 완료 - 결제 ID: {}, 주문 ID: {}", entry.getPaymentId(), entry.getOrderId());
+        } catch (ApiException e) {
+            log.warn("아웃박스 결제 승인 거절 - 결제 ID: {}, 사유: {}", entry.getPaymentId(), e.getMessage());
+            fail(entry);
+        } catch (Exception e) {
+            retryOrFail(entry, e);
+        }
+    }
+
+    private void retryOrFail(PaymentOutboxEntry entry, Exception cause) {
+        int attempts = entry.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("아웃박스 결제 승인 재시도 초과 - 결제 ID: {}, 시도 횟수: {}", entry.getPaymentId(), attempts, cause);
+            fail(entry);
+            return;
+        }
+
+        long delaySeconds = Math.min(1L << attempts, MAX_BACKOFF_SECONDS);
+        log.warn("아웃박스 결제 승인 재시도 예약 - 결제 ID: {}, 시도 횟수: {}, {}초 후", entry.getPaymentId(), attempts, delaySeconds, cause);
+        try {
+            paymentOutboxRepository.reschedule(entry.getOutboxId(), delaySeconds);
+        } catch (Exception e) {
+            // 임대 시간이 지나면 다시 가져가므로 재예약 실패는 기록만 함
+            log.error("아웃박스 재시도 예약 실패 - 결제 ID: {}", entry.getPaymentId(), e);
+        }
+    }
+
+    private void fail(PaymentOutboxEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                paymentService.failPendingPayment(entry.getPaymentId());
+                orderService.failPendingOrder(entry.getOrderId());
+                paymentOutboxRepository.delete(entry.getOutboxId());
+            });
+        } catch (Exception e) {
+            log.error("아웃박스 결제 실패 처리 실패 - 결제 ID: {}", entry.getPaymentId(), e);
+        }
+    }
+}
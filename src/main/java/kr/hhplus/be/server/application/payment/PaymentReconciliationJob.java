@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentReconciliationDiscrepancy;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentReconciliationRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.UserPaymentTotal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제-포인트 사용 이력 야간 대사
+ * 승인된 포인트 결제(payment)와 포인트 사용 이력(point_history, ledger/redis 모드는 point_ledger)을 사용자별 건수/금액으로 맞춰 보고
+ * 다른 사용자는 payment_reconciliation_report 에 실행 ID 와 함께 기록
+ * - 결제와 사용 이력 사이에 행 단위 연결 키가 없으므로 사용자 단위 합계로 비교
+ * - 사용자 ID 범위를 partitions 개로 나눠 병렬 처리하고, 각 파티션은 chunk-size 폭의 사용자 ID 범위를 차례로 처리
+ *   파티션마다 스트리밍 커넥션을 하나씩 쥐므로 서비스용 커넥션이 남도록 파티션 수는 커넥션 풀 크기 - 1 로 제한
+ * - 한 청크에서 메모리에 두는 것은 청크 사용자 수만큼의 합계뿐이므로 전체 데이터 크기와 무관하게 일정한 메모리 사용
+ * - 진행 중인 결제가 불일치로 잡히지 않도록 실행 시각에서 grace-minutes 를 뺀 시각 이전 데이터만 비교
+ * - 기준 시각은 결제 승인 시각에만 적용하고, 사용 이력은 기준 시각 ± slack-seconds 범위로 비교
+ *   승인 시각과 사용 기록 시각이 기준 시각을 사이에 두고 갈리는 결제를 불일치로 잡지 않기 위함
+ *   결제 합계가 (기준 - slack) 이전 사용 합계 이상, (기준 + slack) 이전 사용 합계 이하이면 일치로 판단
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.reconciliation.enabled", havingValue = "true")
+public class PaymentReconciliationJob {
+
+    private static final String RECONCILIATION_LOCK_KEY = "payment:reconciliation";
+
+    private final PaymentReconciliationRepository paymentReconciliationRepository;
+    private final DistributedLockService distributedLockService;
+    private final boolean fromLedger;
+    private final int partitions;
+    private final long chunkSize;
+    private final long graceMinutes;
+    private final long slackSeconds;
+    private final long lockLeaseSeconds;
+
+    public PaymentReconciliationJob(PaymentReconciliationRepository paymentReconciliationRepository,
+                                    DistributedLockService distributedLockService,
+                                    @Value("${point.mode:balance}") String pointMode,
+                                    @Value("${payment.reconciliation.partitions:4}") int partitions,
+                                    @Value("${payment.reconciliation.chunk-size:1000}") long chunkSize,
+                                    @Value("${payment.reconciliation.grace-minutes:10}") long graceMinutes,
+                                    @Value("${payment.reconciliation.slack-seconds:60}") long slackSeconds,
+                                    @Value("${payment.reconciliation.lock-lease-seconds:21600}") long lockLeaseSeconds,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        this.paymentReconciliationRepository = paymentReconciliationRepository;
+        this.distributedLockService = distributedLockService;
+        this.fromLedger = !"balance".equals(pointMode);
+        this.partitions = Math.max(1, Math.min(partitions, maximumPoolSize - 1));
+        this.chunkSize = chunkSize;
+        this.graceMinutes = graceMinutes;
+        this.slackSeconds = slackSeconds;
+        this.lockLeaseSeconds = lockLeaseSeconds;
+        if (this.partitions < partitions) {
+            log.warn("결제 대사 파티션 수 제한 - 설정: {}, 적용: {}, 커넥션 풀 크기: {}", partitions, this.partitions, maximumPoolSize);
+        }
+    }
+
+    /**
+     * 여러 인스턴스 중 한 곳에서만 실행되도록 분산락 안에서 처리
+     */
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void scheduledReconcile() {
+        try {
+            distributedLockService.executeWithLock(RECONCILIATION_LOCK_KEY, 0, lockLeaseSeconds, () -> {
+                reconcile(LocalDateTime.now().minusMinutes(graceMinutes));
+            });
+        } catch (RuntimeException e) {
+            log.warn("결제 대사 스킵 - 다른 인스턴스에서 처리 중이거나 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param cutoff 이 시각 이전에 승인된 결제를 비교 (사용 이력은 ± slack-seconds 범위)
+     * @return 불일치 사용자 수
+     */
+    public long reconcile(LocalDateTime cutoff) {
+        long[] range = paymentReconciliationRepository.findUserIdRange(fromLedger).orElse(null);
+        if (range == null) {
+            log.info("결제 대사 대상 없음");
+            return 0;
+        }
+
+        String runId = UUID.randomUUID().toString();
+        long startedAt = System.currentTimeMillis();
+        // (from, to] 구간으로 처리하므로 최소 사용자 ID 바로 앞에서 시작
+        long from = range[0] - 1;
+        long to = range[1];
+        long partitionWidth = Math.max(chunkSize, ceilDiv(to - from, partitions));
+        log.info("결제 대사 시작 - 실행 ID: {}, 사용자 ID 범위: {} ~ {}, 기준 시각: {}", runId, range[0], to, cutoff);
+
+        AtomicLong discrepancyCount = new AtomicLong();
+        AtomicInteger failedChunks = new AtomicInteger();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "payment-reconciliation-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (long partitionFrom = from; partitionFrom < to; partitionFrom += partitionWidth) {
+                long partitionTo = Math.min(partitionFrom + partitionWidth, to);
+                long start = partitionFrom;
+                futures.add(CompletableFuture.runAsync(
+                        () -> reconcilePartition(runId, start, partitionTo, cutoff, discrepancyCount, failedChunks),
+                        executorService));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executorService.shutdown();
+        }
+
+        log.info("결제 대사 완료 - 실행 ID: {}, 불일치 사용자 수: {}, 실패 청크 수: {}, 소요 시간: {}ms",
+                runId, discrepancyCount.get(), failedChunks.get(), System.currentTimeMillis() - startedAt);
+        return discrepancyCount.get();
+    }
+
+    private void reconcilePartition(String runId, long from, long to, LocalDateTime cutoff,
+                                    AtomicLong discrepancyCount, AtomicInteger failedChunks) {
+        for (long chunkFrom = from; chunkFrom < to; chunkFrom += chunkSize) {
+            long chunkTo = Math.min(chunkFrom + chunkSize, to);
+            try {
+                discrepancyCount.addAndGet(reconcileChunk(runId, chunkFrom, chunkTo, cutoff));
+            } catch (RuntimeException e) {
+                // 한 청크의 실패로 전체 대사를 멈추지 않음 (해당 범위는 다음 실행에서 다시 비교됨)
+                failedChunks.incrementAndGet();
+                log.error("결제 대사 청크 실패 - 사용자 ID 범위: ({}, {}]", chunkFrom, chunkTo, e);
+            }
+        }
+    }
+
+    /**
+     * 사용자 ID 범위 (from, to] 대사
+     * 결제 합계를 사용자별로 모아 둔 뒤 사용 이력 합계를 하나씩 대조하고, 끝까지 대조되지 않은 결제 합계도 불일치로 기록
+     */
+    private int reconcileChunk(String runId, long from, long to, LocalDateTime cutoff) {
+        Map<Long, UserPaymentTotal> paymentTotals = new HashMap<>();
+        paymentReconciliationRepository.streamPaymentTotals(from, to, cutoff,
+                total -> paymentTotals.put(total.getUserId(), total));
+
+        List<PaymentReconciliationDiscrepancy> discrepancies = new ArrayList<>();
+        paymentReconciliationRepository.streamUseTotals(fromLedger, from, to,
+                cutoff.minusSeconds(slackSeconds), cutoff.plusSeconds(slackSeconds), useTotal -> {
+            UserPaymentTotal paymentTotal = paymentTotals.remove(useTotal.getUserId());
+            long paymentCount = paymentTotal == null ? 0 : paymentTotal.getCount();
+            long paymentAmount = paymentTotal == null ? 0 : paymentTotal.getAmount();
+            if (!useTotal.covers(paymentCount, paymentAmount)) {
+                discrepancies.add(new PaymentReconciliationDiscrepancy(
+                        useTotal.getUserId(), paymentCount, paymentAmount, useTotal.getCount(), useTotal.getAmount()));
+            }
+        });
+        paymentTotals.values().forEach(paymentTotal -> discrepancies.add(new PaymentReconciliationDiscrepancy(
+                paymentTotal.getUserId(), paymentTotal.getCount(), paymentTotal.getAmount(), 0, 0)));
+
+        paymentReconciliationRepository.insertDiscrepancies(runId, discrepancies);
+        if (!discrepancies.isEmpty()) {
+            log.warn("결제 대사 불일치 - 사용자 ID 범위: ({}, {}], 불일치 사용자 수: {}", from, to, discrepancies.size());
+        }
+        return discrepancies.size();
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -5,10 +5,12 @@ import kr.hhplus.be.server.common.exception.*;
 import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentMethod;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
-import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import kr.hhplus.be.server.infrastructure.external.orderinfo.DataPlatform;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,75 +24,142 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final DataPlatform dataPlatform;
     private final PointService pointService;
-    private final DistributedLockService distributedLockService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
+    private final PaymentGatewayApprovalService paymentGatewayApprovalService;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+
+    private static final String OUTBOX_APPROVAL_MODE = "outbox";
+
+    @Value("${payment.approval-mode:inline}")
+    private String approvalMode;
 
     /**
      * 결제 처리
+     * 주문 생성 트랜잭션 안에서 호출되며 사용자 주문 락(order:user:) 범위 안에서 실행되므로 주문별 결제 락을 따로 잡지 않음
+     * 주문당 결제 중복은 멱등성 키 선점과 결제 테이블 유니크 인덱스로 막음
      * 1. 결제 정보 생성
-     * 2. 주문별 분산락 적용 (중복 결제 방지)
-     * 3. 중복 결제 체크 및 결제 정보 저장
-     * 4. 포인트 차감 및 외부 플랫폼 결제 처리
+     * 2. 멱등성 키 선점(Redis)으로 중복 결제 체크 후 결제 정보 저장
+     * 3. 포인트 결제는 포인트 차감 후 승인, CARD/CASH 결제는 커밋 후 PG 에 비동기 승인 요청 (PENDING 유지)
+     * @return 저장된 결제 (PENDING 이면 PG 응답 후 주문이 확정됨)
      */
     @Transactional
-    public void processPayment(Long orderId, Long userId, Long totalAmount, PaymentMethod paymentMethod, String idempotencyKey) {
+    public Payment processPayment(Long orderId, Long userId, Long totalAmount, PaymentMethod paymentMethod, String idempotencyKey) {
         Payment payment = Payment.create(orderId, idempotencyKey, paymentMethod, totalAmount);
 
         if (payment == null) {
             throw new ApiException(PAYMENT_INFO_NOT_EXIST);
         }
 
-        // 주문별 분산락 적용 (같은 주문의 중복 결제 방지)
-        distributedLockService.executePaymentLock(orderId, () -> {
-            log.info("결제 처리 시작 - 주문 ID: {}, 사용자 ID: {}", orderId, userId);
-            
-            Payment savedPayment = validateAndSavePayment(orderId, payment);
-            processPaymentWithLock(savedPayment, userId);
-            
-            return null;
-        });
+        log.info("결제 처리 시작 - 주문 ID: {}, 사용자 ID: {}", orderId, userId);
+
+        Payment savedPayment = validateAndSavePayment(payment);
+        approvePayment(savedPayment, userId);
+        return savedPayment;
+    }
+
+    /**
+     * 결제 요청 (payment.approval-mode=outbox)
+     * 주문 트랜잭션 안에서 PENDING 결제와 아웃박스 항목만 저장하고 반환 (포인트 차감은 PaymentOutboxRelay 가 커밋 이후 처리)
+     * 주문당 결제 중복은 멱등성 키 선점과 결제 테이블 유니크 인덱스로 막으므로 주문별 결제 락을 잡지 않음
+     */
+    @Transactional
+    public Payment requestPayment(Long orderId, Long userId, Long totalAmount, PaymentMethod paymentMethod, String idempotencyKey) {
+        Payment payment = Payment.create(orderId, idempotencyKey, paymentMethod, totalAmount);
+
+        if (payment == null) {
+            throw new ApiException(PAYMENT_INFO_NOT_EXIST);
+        }
+
+        Payment savedPayment = validateAndSavePayment(payment);
+        if (savedPayment.getPaymentMethod() != PaymentMethod.POINT) {
+            paymentGatewayApprovalService.requestApprovalAfterCommit(savedPayment);
+        } else {
+            paymentOutboxRepository.insert(savedPayment.getId(), orderId, userId);
+        }
+
+        log.info("결제 요청 저장 - 결제 ID: {}, 주문 ID: {}", savedPayment.getId(), orderId);
+        return savedPayment;
+    }
+
+    /**
+     * 아웃박스로 요청된 결제 승인
+     * 이미 승인/실패 처리된 결제(재전달된 아웃박스 항목)는 건너뜀
+     * @return 이번 호출에서 승인했으면 true
+     */
+    @Transactional
+    public boolean approvePendingPayment(Long paymentId, Long userId) {
+        Payment payment = getPayment(paymentId);
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.info("이미 처리된 결제 - 결제 ID: {}, 상태: {}", paymentId, payment.getStatus());
+            return false;
+        }
+
+        deductPoint(payment, userId);
+        payment.markAsApproved();
+        log.info("결제 처리 완료 - 결제 ID: {}", paymentId);
+        return true;
+    }
+
+    /**
+     * 아웃박스로 요청된 결제의 실패 기록 (승인 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void failPendingPayment(Long paymentId) {
+        Payment payment = getPayment(paymentId);
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            payment.markAsFailed();
+        }
+    }
+
+    public boolean isOutboxApproval() {
+        return OUTBOX_APPROVAL_MODE.equals(approvalMode);
+    }
+
+    private Payment getPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new ApiException(PAYMENT_INFO_NOT_EXIST));
     }
 
     /**
      * 결제 검증 및 저장
      */
-    private Payment validateAndSavePayment(Long orderId, Payment payment) {
-        checkDuplicatePayment(orderId, payment);
+    private Payment validateAndSavePayment(Payment payment) {
+        checkDuplicatePayment(payment);
         return savePayment(payment);
     }
 
     /**
-     * 중복 결제 체크
+     * 중복 결제 체크 (Redis 멱등성 저장소, 장애 시 DB 조회)
      */
-    private void checkDuplicatePayment(Long orderId, Payment payment) {
-        if (paymentRepository.existsByIdempotencyKey(payment.getIdempotencyKey())) {
-            log.warn("중복 결제 감지 - 주문 ID: {}, 중복 방지 키: {}", orderId, payment.getIdempotencyKey());
-            throw new ApiException(DUPLICATE_PAYMENT);
-        }
+    private void checkDuplicatePayment(Payment payment) {
+        paymentIdempotencyService.acquire(payment);
     }
 
     /**
-     * 결제별 분산락을 적용한 결제 처리
+     * 결제 처리
+     * 새로 생성된 결제는 다른 요청이 접근할 수 없으므로 별도 결제 락 없이 사용자 주문 락 범위 안에서 처리
      */
-    private void processPaymentWithLock(Payment payment, Long userId) {
-        distributedLockService.executePaymentLock(payment.getId(), () -> {
-            deductPoint(payment, userId);
-            payment.markAsApproved();
-            log.info("결제 처리 완료 - 결제 ID: {}", payment.getId());
-            return null;
-        });
+    private void approvePayment(Payment payment, Long userId) {
+        if (payment.getPaymentMethod() != PaymentMethod.POINT) {
+            paymentGatewayApprovalService.requestApprovalAfterCommit(payment);
+            log.info("PG 결제 승인 대기 - 결제 ID: {}, 결제 수단: {}", payment.getId(), payment.getPaymentMethod());
+            return;
+        }
+
+        deductPoint(payment, userId);
+        payment.markAsApproved();
+        log.info("결제 처리 완료 - 결제 ID: {}", payment.getId());
     }
 
     /**
-     * 포인트 차감 (사용자별 분산락 적용)
+     * 포인트 차감
+     * PointService 가 잔액이 충분할 때만 차감하는 조건부 UPDATE(ledger/redis 모드는 각 저장소의 원자적 잔액 검증)로 처리하므로
+     * 사용자 락 없이 동시 차감에도 음수 잔액이 생기지 않음
+     * 잔액이 부족하면 NOT_ENOUGH_POINT 로 실패하고 결제 트랜잭션 전체가 롤백됨
      */
     private void deductPoint(Payment payment, Long userId) {
-        if (payment.getPaymentMethod() == PaymentMethod.POINT) {
-            distributedLockService.executePointLock(userId, () -> {
-                pointService.usePoint(userId, payment.getAmount());
-                log.debug("포인트 차감 완료 - 사용자 ID: {}, 차감 금액: {}", userId, payment.getAmount());
-                return null;
-            });
-        }
+        pointService.usePoint(userId, payment.getAmount());
+        log.debug("포인트 차감 완료 - 사용자 ID: {}, 차감 금액: {}", userId, payment.getAmount());
     }
 
     private Payment savePayment(Payment payment) {
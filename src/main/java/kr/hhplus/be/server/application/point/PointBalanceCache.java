@@ -0,0 +1,198 @@
+package kr.hhplus.be.server.application.point;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 포인트 잔액 2단계 캐시
+ * - L1: 인스턴스 로컬 Caffeine 캐시 (짧은 TTL)
+ * - L2: Redis (point:balance:{userId})
+ * 충전/사용이 커밋되면 사용자별 무효화 버전을 올리고 L2 를 삭제한 뒤 무효화 메시지를 발행해 모든 인스턴스의 L1 을 비움
+ * 캐시 미스 시에는 DB 조회 전에 읽은 버전이 그대로일 때만 L2 에 기록하여,
+ * 이전 잔액을 읽은 조회가 커밋 후 무효화보다 늦게 기록해 이전 잔액이 남는 경우를 막음
+ * Redis 장애 시 L2 를 건너뛰고 DB 에서 조회
+ * point.balance.cache 카운터(result: l1 / l2 / miss)로 조회 결과를 기록
+ */
+@Slf4j
+@Component
+public class PointBalanceCache {
+
+    private static final String KEY_PREFIX = "point:balance:";
+    private static final String VERSION_KEY_PREFIX = "point:balance:version:";
+    static final String INVALIDATION_CHANNEL = "point:balance:invalidation";
+    // 무효화 버전은 DB 조회 한 번보다 충분히 길게만 유지하면 됨 (만료되면 진행 중인 기록은 버전 불일치로 건너뜀)
+    private static final long VERSION_TTL_MILLIS = Duration.ofHours(1).toMillis();
+
+    /**
+     * KEYS[1]: 잔액 키, KEYS[2]: 버전 키
+     * ARGV: DB 조회 전에 읽은 버전(없으면 빈 문자열), 잔액, TTL(ms)
+     * 반환: 기록했으면 1, 그 사이 무효화되었으면 0
+     */
+    private static final RedisScript<Long> SET_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '' " +
+            "if version ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1]: 잔액 키, KEYS[2]: 버전 키
+     * ARGV: 버전 TTL(ms), 무효화 채널, 사용자 ID
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('PUBLISH', ARGV[2], ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<Long, Long> localCache;
+    private final Duration redisTtl;
+    private final boolean enabled;
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+
+    public PointBalanceCache(StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Value("${point.cache.enabled:true}") boolean enabled,
+                             @Value("${point.cache.local-ttl-ms:1000}") long localTtlMillis,
+                             @Value("${point.cache.local-max-size:10000}") long localMaxSize,
+                             @Value("${point.cache.redis-ttl-seconds:5}") long redisTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(localMaxSize)
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.l1HitCounter = counter(meterRegistry, "l1");
+        this.l2HitCounter = counter(meterRegistry, "l2");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(message), new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 잔액 조회, L1 -> L2 -> loader(DB) 순서로 조회하고 하위 단계에서 찾은 값은 상위 캐시에 채움
+     */
+    public long get(Long userId, LongSupplier loader) {
+        if (!enabled) {
+            return loader.getAsLong();
+        }
+
+        Long cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            l1HitCounter.increment();
+            return cached;
+        }
+
+        List<String> keys = List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId);
+        String version;
+        try {
+            // 잔액과 무효화 버전을 한 번에 조회 (버전은 DB 조회 이후 기록 가능 여부 판단용)
+            List<String> stored = stringRedisTemplate.opsForValue().multiGet(keys);
+            if (stored != null && stored.get(0) != null) {
+                long balance = Long.parseLong(stored.get(0));
+                l2HitCounter.increment();
+                localCache.put(userId, balance);
+                return balance;
+            }
+            version = stored == null || stored.get(1) == null ? "" : stored.get(1);
+        } catch (DataAccessException e) {
+            log.warn("포인트 잔액 캐시 조회 실패, DB 에서 조회 - 사용자 ID: {}", userId, e);
+            missCounter.increment();
+            return loader.getAsLong();
+        }
+
+        missCounter.increment();
+        long balance = loader.getAsLong();
+        try {
+            Long stored = stringRedisTemplate.execute(SET_IF_VERSION_SCRIPT, keys,
+                    version, String.valueOf(balance), String.valueOf(redisTtl.toMillis()));
+            if (stored != null && stored == 1) {
+                localCache.put(userId, balance);
+            } else {
+                log.debug("조회 중 잔액이 변경되어 캐시에 기록하지 않음 - 사용자 ID: {}", userId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("포인트 잔액 캐시 저장 실패 - 사용자 ID: {}", userId, e);
+        }
+        return balance;
+    }
+
+    /**
+     * 잔액 변경이 커밋된 뒤 캐시 무효화 (트랜잭션 밖에서 호출되면 즉시 무효화)
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    private void evict(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            stringRedisTemplate.execute(INVALIDATE_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    String.valueOf(VERSION_TTL_MILLIS), INVALIDATION_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.error("포인트 잔액 캐시 무효화 실패 - 사용자 ID: {}", userId, e);
+        }
+    }
+
+    private void onInvalidation(Message message) {
+        localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("point.balance.cache")
+                .description("포인트 잔액 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
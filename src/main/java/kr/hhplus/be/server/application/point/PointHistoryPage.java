@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryRow;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 한 페이지
+ * nextCursor: 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PointHistoryPage {
+    private final List<PointHistoryRow> histories;
+    private final Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
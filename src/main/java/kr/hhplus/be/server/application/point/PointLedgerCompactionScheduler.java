@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 원장 모드 전용 스케줄러
+ * 스냅샷 이후 원장이 일정 건수 이상 쌓인 사용자의 스냅샷을 전진시켜 잔액 계산 시 합산할 원장 수를 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.mode", havingValue = "ledger")
+public class PointLedgerCompactionScheduler {
+
+    private static final String COMPACTION_LOCK_KEY = "point:ledger:compaction";
+
+    private final PointLedgerService pointLedgerService;
+    private final DistributedLockService distributedLockService;
+
+    @Value("${point.ledger.compaction.min-tail-size:100}")
+    private int minTailSize = 100;
+
+    @Value("${point.ledger.compaction.batch-size:100}")
+    private int batchSize = 100;
+
+    /**
+     * 여러 인스턴스가 같은 사용자를 동시에 압축하지 않도록 분산락 안에서 처리
+     * (동시에 실행되더라도 스냅샷 행 락으로 정합성은 보장됨)
+     */
+    @Scheduled(fixedDelayString = "${point.ledger.compaction.interval-ms:60000}")
+    public void compactSnapshots() {
+        try {
+            distributedLockService.executeWithLock(COMPACTION_LOCK_KEY, 0, 60, this::compact);
+        } catch (RuntimeException e) {
+            log.debug("포인트 스냅샷 압축 스킵 - 다른 인스턴스에서 처리 중이거나 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void compact() {
+        List<Long> userIds = pointLedgerService.findUsersToCompact(minTailSize, batchSize);
+        int compacted = 0;
+        for (Long userId : userIds) {
+            try {
+                if (pointLedgerService.compact(userId)) {
+                    compacted++;
+                }
+            } catch (RuntimeException e) {
+                log.error("포인트 스냅샷 압축 실패 - 사용자 ID: {}", userId, e);
+            }
+        }
+        if (compacted > 0) {
+            log.info("포인트 스냅샷 압축 완료 - 사용자 수: {}", compacted);
+        }
+    }
+}
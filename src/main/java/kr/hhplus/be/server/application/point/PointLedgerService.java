@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.domain.point.Point;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointLedgerEntry;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.*;
+
+/**
+ * 포인트 원장 모드 (point.mode=ledger)
+ * 충전/사용은 잔액 행을 갱신하지 않고 point_ledger 에 원장만 추가하며,
+ * 잔액은 스냅샷 + 이후 원장 합계로 계산
+ * - 첫 사용 시 point.volume 을 시작 잔액으로 스냅샷 생성
+ * - 같은 사용자의 충전/사용은 스냅샷 행을 배타 락으로 먼저 잡은 뒤 조건부 원장 추가 (교착 상태 없이 직렬화)
+ *   락 대기 시간 초과/교착 상태 희생은 POINT_UPDATE_CONFLICT 로 응답
+ * - 스냅샷 이후 원장이 쌓인 사용자는 PointLedgerCompactionScheduler 가 주기적으로 스냅샷을 전진
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final PointLedgerRepository pointLedgerRepository;
+
+    /**
+     * 충전 원장 추가
+     * @return 충전 후 잔액
+     */
+    @Transactional
+    public long charge(Long userId, Long amount) {
+        Point.validateChargeAmount(amount);
+
+        append(userId, () -> pointLedgerRepository.appendCharge(userId, amount, Point.MAX_VOLUME), EXCEEDS_MAXIMUM_POINT);
+        return getBalance(userId);
+    }
+
+    /**
+     * 사용 원장 추가
+     * @return 사용 후 잔액
+     */
+    @Transactional
+    public long use(Long userId, Long amount) {
+        Point.validateUseAmount(amount);
+
+        append(userId, () -> pointLedgerRepository.appendUse(userId, amount), NOT_ENOUGH_POINT);
+        return getBalance(userId);
+    }
+
+    /**
+     * 잔액 조회 (스냅샷 + 이후 원장 합계)
+     * 스냅샷이 없으면 원장도 없으므로 point.volume 이 잔액
+     */
+    @Transactional(readOnly = true)
+    public long getBalance(Long userId) {
+        return pointLedgerRepository.findBalance(userId)
+                .or(() -> pointLedgerRepository.findInitialBalance(userId))
+                .orElseThrow(() -> new ApiException(USER_NOT_FOUND));
+    }
+
+    /**
+     * 잔액 규칙을 이미 통과한 원장 일괄 추가 (Redis 지갑 모드)
+     * 스냅샷이 없는 사용자는 point.volume 으로 먼저 스냅샷을 만들어 잔액 계산 기준을 고정
+     */
+    @Transactional
+    public void appendVerified(List<PointLedgerEntry> entries) {
+        entries.stream()
+                .map(PointLedgerEntry::getUserId)
+                .distinct()
+                .forEach(pointLedgerRepository::initializeSnapshot);
+        pointLedgerRepository.appendVerified(entries);
+    }
+
+    /**
+     * 스냅샷 전진 (사용자 단위 트랜잭션)
+     */
+    @Transactional
+    public boolean compact(Long userId) {
+        return pointLedgerRepository.advanceSnapshot(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUsersToCompact(int minTailSize, int limit) {
+        return pointLedgerRepository.findUsersToCompact(minTailSize, limit);
+    }
+
+    /**
+     * 스냅샷 행을 잠근 뒤 조건부 원장 추가, 스냅샷이 없으면 먼저 만든 뒤 잠금
+     */
+    private void append(Long userId, BooleanSupplier appendLedger, ErrorCode rejectedErrorCode) {
+        try {
+            lockSnapshot(userId);
+            if (appendLedger.getAsBoolean()) {
+                return;
+            }
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("포인트 원장 락 충돌 - 사용자 ID: {}, 사유: {}", userId, e.getMessage());
+            throw new ApiException(POINT_UPDATE_CONFLICT);
+        }
+        log.warn("포인트 원장 추가 거절 - 사용자 ID: {}, 사유: {}", userId, rejectedErrorCode.getCode());
+        throw new ApiException(rejectedErrorCode);
+    }
+
+    private void lockSnapshot(Long userId) {
+        if (pointLedgerRepository.lockSnapshot(userId)) {
+            return;
+        }
+        if (!pointLedgerRepository.initializeSnapshot(userId)) {
+            throw new ApiException(USER_NOT_FOUND);
+        }
+        pointLedgerRepository.lockSnapshot(userId);
+    }
+}
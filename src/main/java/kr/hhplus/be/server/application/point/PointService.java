@@ -2,62 +2,155 @@ package kr.hhplus.be.server.application.point;
 
 import kr.hhplus.be.server.common.exception.ApiException;
 import kr.hhplus.be.server.domain.point.Point;
-import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryQueryRepository;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryRow;
 import kr.hhplus.be.server.infrastructure.persistence.point.PointRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import static kr.hhplus.be.server.common.exception.ErrorCode.USER_NOT_FOUND;
+import java.util.List;
 
+import static kr.hhplus.be.server.common.exception.ErrorCode.*;
+
+/**
+ * 포인트 충전/사용/조회
+ * point.mode 설정에 따라 잔액 관리 방식을 선택
+ * - balance: point.volume 을 조건부 UPDATE 로 갱신 (기본값)
+ * - ledger: point_ledger 에 원장만 추가하고 잔액은 스냅샷 + 원장 합계로 계산 ({@link PointLedgerService})
+ * - redis: Redis 지갑에서 Lua 스크립트로 잔액을 갱신하고 원장은 비동기로 MySQL 에 반영 ({@link PointWalletService})
+ *   충전/사용이 반환하는 Point 는 모든 모드에서 변경 후 잔액을 담은 비영속 객체
+ * balance/ledger 모드의 잔액 조회는 {@link PointBalanceCache} 를 거치며, 충전/사용이 커밋되면 캐시를 무효화
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final String LEDGER_MODE = "ledger";
+    private static final String REDIS_MODE = "redis";
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final PointRepository pointRepository;
-    private final DistributedLockService distributedLockService;
+    private final PointLedgerService pointLedgerService;
+    private final PointWalletService pointWalletService;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointHistoryQueryRepository pointHistoryQueryRepository;
+
+    @Value("${point.mode:balance}")
+    private String pointMode;
 
     /**
-     * 포인트 충전 (분산락 적용)
+     * 포인트 충전 (조건부 UPDATE)
+     * 충전 후 잔액이 한도 이하일 때만 DB 에서 원자적으로 증가시키므로 분산락 없이 동시 충전을 처리
+     * 충전 후 잔액은 UPDATE 결과로 받고, 조회한 엔티티는 이력 저장에만 사용 (엔티티 잔액은 갱신 전 값)
      */
     @Transactional
     public Point chargePoint(Long userId, Long chargeAmount) {
-        return distributedLockService.executePointLock(userId, () -> {
-            log.info("포인트 충전 시작 - 사용자 ID: {}, 충전 금액: {}", userId, chargeAmount);
-            
-            Point point = findPointByUserId(userId);
-            point.charge(chargeAmount);
-            point.addChargePointHistory(chargeAmount);
-            Point savedPoint = pointRepository.save(point);
-            
-            log.info("포인트 충전 완료 - 사용자 ID: {}, 충전 후 잔액: {}", userId, savedPoint.getVolume());
-            return savedPoint;
-        });
+        log.info("포인트 충전 시작 - 사용자 ID: {}, 충전 금액: {}", userId, chargeAmount);
+        if (isRedisMode()) {
+            return Point.create(userId, pointWalletService.charge(userId, chargeAmount));
+        }
+        pointBalanceCache.evictAfterCommit(userId);
+        if (isLedgerMode()) {
+            return Point.create(userId, pointLedgerService.charge(userId, chargeAmount));
+        }
+        Point.validateChargeAmount(chargeAmount);
+
+        Point point = findPointByUserId(userId);
+        long balance = pointRepository.increaseVolume(userId, chargeAmount, Point.MAX_VOLUME)
+                .orElseThrow(() -> new ApiException(EXCEEDS_MAXIMUM_POINT));
+        point.addChargePointHistory(chargeAmount);
+
+        log.info("포인트 충전 완료 - 사용자 ID: {}, 충전 후 잔액: {}", userId, balance);
+        return Point.create(userId, balance);
     }
 
     @Transactional(readOnly = true)
     public Point getPoint(Long userId) {
+        if (isLedgerMode()) {
+            return Point.create(userId, pointLedgerService.getBalance(userId));
+        }
+        if (isRedisMode()) {
+            return Point.create(userId, pointWalletService.getBalance(userId));
+        }
         return findPointByUserId(userId);
     }
 
     /**
-     * 포인트 사용 (분산락 적용)
+     * 잔액 조회 (캐시 우선)
+     * 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 조회
+     */
+    public long getBalance(Long userId) {
+        if (isRedisMode()) {
+            return pointWalletService.getBalance(userId);
+        }
+        return pointBalanceCache.get(userId, () -> isLedgerMode()
+                ? pointLedgerService.getBalance(userId)
+                : findPointByUserId(userId).getVolume());
+    }
+
+    /**
+     * 포인트 이력 최신순 키셋 페이지 조회
+     * balance 모드는 point_history, ledger/redis 모드는 point_ledger 에서 조회 (redis 모드는 원장 반영 주기만큼 늦을 수 있음)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    @Transactional(readOnly = true)
+    public PointHistoryPage getPointHistories(Long userId, Long cursor, int size) {
+        if (size <= 0 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new ApiException(INVALID_INPUT_VALUE);
+        }
+
+        Long pointId = pointHistoryQueryRepository.findPointId(userId)
+                .orElseThrow(() -> new ApiException(USER_NOT_FOUND));
+        long from = cursor == null ? Long.MAX_VALUE : cursor;
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<PointHistoryRow> rows = isLedgerMode() || isRedisMode()
+                ? pointHistoryQueryRepository.findLedgerHistories(userId, from, size + 1)
+                : pointHistoryQueryRepository.findHistories(pointId, from, size + 1);
+
+        if (rows.size() <= size) {
+            return new PointHistoryPage(rows, null);
+        }
+        List<PointHistoryRow> page = rows.subList(0, size);
+        return new PointHistoryPage(page, page.get(size - 1).getId());
+    }
+
+    /**
+     * 포인트 사용 (조건부 UPDATE)
+     * 잔액이 충분할 때만 DB 에서 원자적으로 차감하므로 분산락 없이 동시 사용을 처리
+     * 사용 이력은 같은 트랜잭션에서 함께 저장하고, 사용 후 잔액은 UPDATE 결과로 받음
      */
     @Transactional
     public Point usePoint(Long userId, Long useAmount) {
-        return distributedLockService.executePointLock(userId, () -> {
-            log.info("포인트 사용 시작 - 사용자 ID: {}, 사용 금액: {}", userId, useAmount);
-            
-            Point point = findPointByUserId(userId);
-            point.use(useAmount);
-            point.addUsePointHistory(useAmount);
-            Point savedPoint = pointRepository.save(point);
-            
-            log.info("포인트 사용 완료 - 사용자 ID: {}, 사용 후 잔액: {}", userId, savedPoint.getVolume());
-            return savedPoint;
-        });
+        log.info("포인트 사용 시작 - 사용자 ID: {}, 사용 금액: {}", userId, useAmount);
+        if (isRedisMode()) {
+            return Point.create(userId, pointWalletService.use(userId, useAmount));
+        }
+        pointBalanceCache.evictAfterCommit(userId);
+        if (isLedgerMode()) {
+            return Point.create(userId, pointLedgerService.use(userId, useAmount));
+        }
+        Point.validateUseAmount(useAmount);
+
+        Point point = findPointByUserId(userId);
+        long balance = pointRepository.decreaseVolume(userId, useAmount)
+                .orElseThrow(() -> new ApiException(NOT_ENOUGH_POINT));
+        point.addUsePointHistory(useAmount);
+
+        log.info("포인트 사용 완료 - 사용자 ID: {}, 사용 후 잔액: {}", userId, balance);
+        return Point.create(userId, balance);
+    }
+
+    private boolean isLedgerMode() {
+        return LEDGER_MODE.equalsIgnoreCase(pointMode);
+    }
+
+    private boolean isRedisMode() {
+        return REDIS_MODE.equalsIgnoreCase(pointMode);
     }
 
     // 중복 제거를 위한 private 메서드
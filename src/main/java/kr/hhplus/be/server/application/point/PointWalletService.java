@@ -0,0 +1,189 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.domain.point.Point;
+import kr.hhplus.be.server.domain.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.*;
+
+/**
+ * Redis 포인트 지갑 (point.mode=redis)
+ * 사용자 잔액을 Redis 해시에 두고 충전/사용을 Lua 스크립트 한 번으로 처리
+ * - 잔액 규칙(NOT_ENOUGH_POINT, EXCEEDS_MAXIMUM_POINT) 검증, 잔액 변경, 원장 스트림 추가를 원자적으로 수행
+ * - 스트림에 쌓인 원장은 PointWalletWriter 가 MySQL point_ledger 에 배치로 반영
+ * - 지갑이 없으면 MySQL 잔액(스냅샷 + 원장)으로 적재
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointWalletService {
+
+    public static final String LEDGER_STREAM_KEY = "point:wallet:ledger";
+    private static final String WALLET_KEY_PREFIX = "point:wallet:";
+    private static final String BALANCE_FIELD = "balance";
+
+    private static final long REJECTED = -1L;
+    private static final long NOT_LOADED = -2L;
+
+    /**
+     * KEYS[1]: 지갑 해시, KEYS[2]: 원장 스트림
+     * ARGV: 사용자 ID, 변경 금액(충전 양수/사용 음수), 거래 유형, 최대 잔액
+     * 반환: 변경 후 잔액, 규칙 위반 시 -1, 지갑이 없으면 -2
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local balance = redis.call('HGET', KEYS[1], 'balance') " +
+            "if not balance then return -2 end " +
+            "local amount = tonumber(ARGV[2]) " +
+            "local updated = tonumber(balance) + amount " +
+            "if updated < 0 or (amount > 0 and updated > tonumber(ARGV[4])) then return -1 end " +
+            "redis.call('HSET', KEYS[1], 'balance', updated) " +
+            "redis.call('XADD', KEYS[2], '*', 'userId', ARGV[1], 'amount', ARGV[2], 'type', ARGV[3]) " +
+            "return updated",
+            Long.class
+    );
+
+    /**
+     * 롤백된 충전/사용을 되돌리는 스크립트 (잔액 규칙을 적용하지 않음)
+     * 충전이 롤백되기 전에 이미 사용했으면 잔액이 음수가 될 수 있으며, 그래도 되돌려야 DB 와 일치함
+     * KEYS/ARGV 는 APPLY_SCRIPT 와 같음 (최대 잔액 제외)
+     * 반환: 변경 후 잔액 (음수 가능), 지갑이 없으면 nil
+     */
+    private static final RedisScript<Long> REVERT_SCRIPT = new DefaultRedisScript<>(
+            "local balance = redis.call('HGET', KEYS[1], 'balance') " +
+            "if not balance then return false end " +
+            "local updated = tonumber(balance) + tonumber(ARGV[2]) " +
+            "redis.call('HSET', KEYS[1], 'balance', updated) " +
+            "redis.call('XADD', KEYS[2], '*', 'userId', ARGV[1], 'amount', ARGV[2], 'type', ARGV[3]) " +
+            "return updated",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PointLedgerService pointLedgerService;
+
+    /**
+     * 포인트 충전
+     * @return 충전 후 잔액
+     */
+    public long charge(Long userId, Long amount) {
+        Point.validateChargeAmount(amount);
+        long balance = apply(userId, amount, TransactionType.CHARGE, Point.MAX_VOLUME, EXCEEDS_MAXIMUM_POINT);
+        revertOnRollback(userId, -amount, TransactionType.USE);
+        return balance;
+    }
+
+    /**
+     * 포인트 사용
+     * @return 사용 후 잔액
+     */
+    public long use(Long userId, Long amount) {
+        Point.validateUseAmount(amount);
+        long balance = apply(userId, -amount, TransactionType.USE, Point.MAX_VOLUME, NOT_ENOUGH_POINT);
+        revertOnRollback(userId, amount, TransactionType.CHARGE);
+        return balance;
+    }
+
+    public long getBalance(Long userId) {
+        String balance = (String) stringRedisTemplate.opsForHash().get(walletKey(userId), BALANCE_FIELD);
+        if (balance != null) {
+            return Long.parseLong(balance);
+        }
+        return loadWallet(userId);
+    }
+
+    private long apply(Long userId, long amount, TransactionType type, long maxVolume, ErrorCode rejectedErrorCode) {
+        Long result = execute(userId, amount, type, maxVolume);
+        if (result != null && result == NOT_LOADED) {
+            loadWallet(userId);
+            result = execute(userId, amount, type, maxVolume);
+        }
+
+        if (result == null || result == NOT_LOADED) {
+            throw new ApiException(POINT_WALLET_UNAVAILABLE);
+        }
+        if (result == REJECTED) {
+            log.warn("포인트 지갑 변경 거절 - 사용자 ID: {}, 금액: {}", userId, amount);
+            throw new ApiException(rejectedErrorCode);
+        }
+        return result;
+    }
+
+    private Long execute(Long userId, long amount, TransactionType type, long maxVolume) {
+        return stringRedisTemplate.execute(APPLY_SCRIPT,
+                List.of(walletKey(userId), LEDGER_STREAM_KEY),
+                String.valueOf(userId), String.valueOf(amount), type.name(), String.valueOf(maxVolume));
+    }
+
+    /**
+     * MySQL 잔액으로 지갑 적재 (이미 적재된 지갑은 유지)
+     */
+    private long loadWallet(Long userId) {
+        long balance = pointLedgerService.getBalance(userId);
+        stringRedisTemplate.opsForHash().putIfAbsent(walletKey(userId), BALANCE_FIELD, String.valueOf(balance));
+        return Long.parseLong((String) stringRedisTemplate.opsForHash().get(walletKey(userId), BALANCE_FIELD));
+    }
+
+    /**
+     * Redis 지갑 변경은 DB 트랜잭션과 함께 롤백되지 않으므로 롤백 시 반대 원장을 추가해 되돌림
+     * 되돌리는 원장은 잔액 규칙(부족/최대 잔액)을 적용하지 않으며, 되돌리지 못하면 수동 대사가 필요하므로 오류로 남김
+     */
+    private void revertOnRollback(Long userId, long amount, TransactionType type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    revert(userId, amount, type);
+                } catch (Exception e) {
+                    log.error("포인트 지갑 변경 취소 실패, 수동 대사 필요 - 사용자 ID: {}, 금액: {}, 유형: {}",
+                            userId, amount, type, e);
+                }
+            }
+        });
+    }
+
+    private void revert(Long userId, long amount, TransactionType type) {
+        Long balance = executeRevert(userId, amount, type);
+        if (balance == null) {
+            // 지갑이 사라졌으면 MySQL 잔액(이미 반영된 원장 포함)으로 다시 적재한 뒤 되돌림
+            loadWallet(userId);
+            balance = executeRevert(userId, amount, type);
+        }
+
+        if (balance == null) {
+            log.error("포인트 지갑 변경 취소 실패, 수동 대사 필요 - 사용자 ID: {}, 금액: {}, 유형: {}", userId, amount, type);
+            return;
+        }
+        if (balance < 0) {
+            log.warn("포인트 지갑 변경 취소로 잔액이 음수가 됨 - 사용자 ID: {}, 잔액: {}", userId, balance);
+        }
+        log.info("포인트 지갑 변경 취소 - 사용자 ID: {}, 금액: {}, 취소 후 잔액: {}", userId, amount, balance);
+    }
+
+    private Long executeRevert(Long userId, long amount, TransactionType type) {
+        return stringRedisTemplate.execute(REVERT_SCRIPT,
+                List.of(walletKey(userId), LEDGER_STREAM_KEY),
+                String.valueOf(userId), String.valueOf(amount), type.name());
+    }
+
+    private String walletKey(Long userId) {
+        return WALLET_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.domain.point.TransactionType;
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointLedgerEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static kr.hhplus.be.server.application.point.PointWalletService.LEDGER_STREAM_KEY;
+
+/**
+ * Redis 지갑 모드 전용 원장 기록기
+ * 1. 애플리케이션 시작 시 소비자 그룹을 만들고 이전에 반영하지 못한 원장을 모두 MySQL 에 반영
+ * 2. 스트림에 쌓인 원장을 주기적으로 point_ledger 에 배치 반영
+ * 스트림 항목 ID 를 source_id 로 저장하므로 반영 후 ACK 전에 중단되어 다시 읽더라도 중복 저장되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.mode", havingValue = "redis")
+public class PointWalletWriter {
+
+    private static final String FLUSH_LOCK_KEY = "point:wallet:flush";
+    private static final String CONSUMER_GROUP = "point-wallet-writer";
+    // 분산락으로 한 번에 하나의 인스턴스만 읽으므로 소비자 이름을 고정해 미확인 항목(PEL)을 인스턴스 간에 이어받음
+    private static final Consumer CONSUMER = Consumer.from(CONSUMER_GROUP, "writer");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PointLedgerService pointLedgerService;
+    private final DistributedLockService distributedLockService;
+
+    @Value("${point.wallet.batch-size:500}")
+    private int batchSize = 500;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        createConsumerGroup();
+        distributedLockService.executeWithLock(FLUSH_LOCK_KEY, 10, 60, () -> {
+            int flushed = 0;
+            int count;
+            while ((count = flush()) > 0) {
+                flushed += count;
+            }
+            log.info("포인트 지갑 원장 복구 반영 완료 - 원장 수: {}", flushed);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${point.wallet.flush-interval-ms:200}")
+    public void flushLedger() {
+        try {
+            distributedLockService.executeWithLock(FLUSH_LOCK_KEY, 0, 30, this::flush);
+        } catch (RuntimeException e) {
+            log.debug("포인트 지갑 원장 반영 스킵 - 다른 인스턴스에서 처리 중이거나 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이전에 읽고 확인하지 못한 항목을 먼저 반영하고, 없으면 새 항목을 읽어 반영
+     * @return 반영한 원장 수
+     */
+    int flush() {
+        List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"));
+        if (records.isEmpty()) {
+            records = read(ReadOffset.lastConsumed());
+        }
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        pointLedgerService.appendVerified(records.stream().map(this::toEntry).toList());
+
+        RecordId[] recordIds = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(LEDGER_STREAM_KEY, CONSUMER_GROUP, recordIds);
+        stringRedisTemplate.opsForStream().delete(LEDGER_STREAM_KEY, recordIds);
+        log.debug("포인트 지갑 원장 DB 반영 완료 - 원장 수: {}", records.size());
+        return records.size();
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset readOffset) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                CONSUMER,
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(LEDGER_STREAM_KEY, readOffset));
+        return records == null ? List.of() : records;
+    }
+
+    private PointLedgerEntry toEntry(MapRecord<String, Object, Object> record) {
+        return new PointLedgerEntry(
+                Long.valueOf((String) record.getValue().get("userId")),
+                Long.parseLong((String) record.getValue().get("amount")),
+                TransactionType.valueOf((String) record.getValue().get("type")),
+                record.getId().getValue());
+    }
+
+    /**
+     * 스트림이 아직 없어도 그룹을 만들 수 있도록 MKSTREAM 옵션 사용, 이미 있으면 무시
+     */
+    private void createConsumerGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    LEDGER_STREAM_KEY.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+}
@@ -6,8 +6,10 @@ import kr.hhplus.be.server.infrastructure.persistence.product.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +47,108 @@ public class ProductService {
                 .orElseThrow(() -> new ApiException(PRODUCT_NOT_FOUND));
     }
 
+    /**
+     * 여러 상품의 재고를 조건부 UPDATE 배치로 한 번에 차감
+     * 하나라도 재고가 부족하면 예외를 던져 주문 트랜잭션 전체를 롤백
+     */
+    @Transactional
+    public void decreaseStocks(Map<Long, Long> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
+        }
+
+        List<Long> failedProductIds = productRepository.decreaseStocks(quantityByProductId);
+        if (failedProductIds.isEmpty()) {
+            log.info("상품 재고 일괄 차감 완료 - 상품 수: {}", quantityByProductId.size());
+            return;
+        }
+
+        if (productRepository.findByIds(failedProductIds).size() < failedProductIds.size()) {
+            throw new ApiException(PRODUCT_NOT_FOUND);
+        }
+        log.warn("상품 재고 부족 - 상품 ID: {}", failedProductIds);
+        throw new ApiException(OUT_OF_STOCK_PRODUCT);
+    }
+
+    /**
+     * 실패한 주문이 차감했던 재고를 조건 없는 UPDATE 배치로 복구 (호출자 트랜잭션)
+     */
+    @Transactional
+    public void increaseStocks(Map<Long, Long> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
+        }
+        productRepository.increaseStocks(quantityByProductId);
+        log.info("상품 재고 일괄 복구 완료 - 상품 수: {}", quantityByProductId.size());
+    }
+
+    /**
+     * 인스턴스 로컬 할당용 재고 임대 (호출자 트랜잭션)
+     * 별도 커넥션 없이 조건부 UPDATE 로 임대 단위만큼 차감하고, 그만큼 남아 있지 않으면 최소 수량만 차감
+     * 호출자 트랜잭션이 롤백되면 임대도 함께 롤백됨
+     * @return 실제로 임대된 수량 (최소 수량도 남아 있지 않으면 0)
+     */
+    @Transactional
+    public long leaseStockInCurrentTransaction(Long productId, long amount, long minimum) {
+        if (productRepository.decreaseStocks(Map.of(productId, amount)).isEmpty()) {
+            return amount;
+        }
+        if (amount > minimum && productRepository.decreaseStocks(Map.of(productId, minimum)).isEmpty()) {
+            return minimum;
+        }
+        return 0;
+    }
+
+    /**
+     * 인스턴스 로컬 할당용 재고 임대 (비관적 락)
+     * 비동기 보충용으로 요청 트랜잭션과 독립적으로 커밋되어야 하므로 별도 트랜잭션에서 처리
+     * @return 실제로 임대된 수량 (남은 재고가 요청보다 적으면 남은 재고 전부)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long leaseStock(Long productId, long amount) {
+        Product product = getProductWithPessimisticLock(productId);
+        long leased = Math.min(product.getStock(), amount);
+        if (leased > 0) {
+            product.decreaseStock(leased);
+        }
+        return leased;
+    }
+
+    /**
+     * 사용하지 않은 임대 재고 반납
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void returnStock(Long productId, long amount) {
+        Product product = getProductWithPessimisticLock(productId);
+        product.increaseStock(amount);
+    }
+
+    /**
+     * 외부 재고 원장에서 누적된 차감분을 DB 재고에 일괄 반영
+     * 배치 ID 를 차감과 같은 트랜잭션에 기록하여 이미 반영된 배치는 건너뜀
+     * @return 이번 호출에서 반영했으면 true, 이미 반영된 배치면 false
+     */
+    @Transactional
+    public boolean applyStockDecrements(String batchId, Map<Long, Long> quantityByProductId) {
+        if (!productRepository.recordStockFlush(batchId)) {
+            log.warn("이미 반영된 재고 차감 배치 - 배치 ID: {}", batchId);
+            return false;
+        }
+        if (!quantityByProductId.isEmpty()) {
+            productRepository.applyStockDecrements(quantityByProductId);
+        }
+        return true;
+    }
+
+    /**
+     * 보관 기간이 지난 재고 반영 이력 삭제
+     */
+    @Transactional
+    public void deleteStockFlushRecordsBefore(LocalDateTime cutoff) {
+        int deleted = productRepository.deleteStockFlushRecordsBefore(cutoff);
+        log.info("재고 반영 이력 정리 - 삭제 건수: {}", deleted);
+    }
+
     /**
      * 상품 ID 목록으로 일괄 조회
      */
@@ -0,0 +1,215 @@
+package kr.hhplus.be.server.application.product;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.exception.ApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+
+/**
+ * 인기 상품 재고 에스크로
+ * 인스턴스마다 중앙 재고(product.stock)에서 일정 수량을 미리 임대받아 JVM 로컬 할당량으로 차감
+ * 경합이 요청 수가 아닌 인스턴스 수에 비례하도록 분산
+ * - 할당량이 부족하면 주문 트랜잭션의 커넥션에서 조건부 UPDATE 로 동기 임대하고, 주문 수량을 뺀 나머지는 커밋 후 할당량에 적립
+ * - 할당량이 임대 단위의 일정 비율 아래로 떨어지면 비동기로 미리 보충
+ * - 일정 시간 사용되지 않은 할당량과 종료 시 남은 할당량은 중앙 재고로 반납
+ */
+@Slf4j
+@Service
+public class ProductStockEscrowService {
+
+    private static final int REFILL_THRESHOLD_RATIO = 5; // 임대 단위의 1/5 이하로 떨어지면 보충
+
+    private final ProductService productService;
+    private final Executor taskExecutor;
+    private final Map<Long, StockQuota> quotas = new ConcurrentHashMap<>();
+
+    @Value("${inventory.escrow.product-ids:}")
+    private Set<Long> escrowProductIds = Set.of();
+
+    @Value("${inventory.escrow.lease-size:50}")
+    private long leaseSize = 50;
+
+    @Value("${inventory.escrow.idle-return-seconds:60}")
+    private long idleReturnSeconds = 60;
+
+    public ProductStockEscrowService(ProductService productService,
+                                     @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.productService = productService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public boolean isEscrowProduct(Long productId) {
+        return escrowProductIds.contains(productId);
+    }
+
+    /**
+     * 로컬 할당량에서 재고 예약
+     * 하나라도 부족하면 이미 예약한 상품을 되돌리고 예외 발생
+     * @return 로컬 할당량에서 차감한 수량 (주문 실패 시 이 수량만 할당량으로 되돌려야 함)
+     *         동기 임대로 중앙 재고에서 바로 차감한 수량은 주문 트랜잭션과 함께 롤백되므로 제외
+     */
+    public Map<Long, Long> reserve(Map<Long, Long> quantityByProductId) {
+        Map<Long, Long> reservedFromQuota = new HashMap<>();
+
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(quantityByProductId).entrySet()) {
+            Long productId = entry.getKey();
+            long quantity = entry.getValue();
+            ReserveResult result = tryReserve(productId, quantity);
+            if (result == ReserveResult.OUT_OF_STOCK) {
+                release(reservedFromQuota);
+                log.warn("에스크로 재고 부족 - 상품 ID: {}, 수량: {}", productId, quantity);
+                throw new ApiException(OUT_OF_STOCK_PRODUCT);
+            }
+            if (result == ReserveResult.FROM_QUOTA) {
+                reservedFromQuota.put(productId, quantity);
+            }
+        }
+        return reservedFromQuota;
+    }
+
+    /**
+     * 예약했던 재고를 로컬 할당량으로 되돌림 (주문 실패 시 보상)
+     */
+    public void release(Map<Long, Long> quantityByProductId) {
+        quantityByProductId.forEach(this::release);
+    }
+
+    /**
+     * 일정 시간 사용되지 않은 할당량을 중앙 재고로 반납
+     */
+    @Scheduled(fixedDelayString = "${inventory.escrow.idle-check-interval-ms:10000}")
+    public void returnIdleQuotas() {
+        long idleThreshold = System.nanoTime() - TimeUnit.SECONDS.toNanos(idleReturnSeconds);
+        quotas.forEach((productId, quota) -> {
+            if (quota.lastAccessNanos < idleThreshold) {
+                returnQuota(productId, quota);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void returnAllQuotas() {
+        quotas.forEach(this::returnQuota);
+    }
+
+    private ReserveResult tryReserve(Long productId, long quantity) {
+        StockQuota quota = quotas.computeIfAbsent(productId, id -> new StockQuota());
+        quota.lastAccessNanos = System.nanoTime();
+
+        if (quota.tryDecrease(quantity)) {
+            refillAsyncIfLow(productId, quota);
+            return ReserveResult.FROM_QUOTA;
+        }
+
+        // 할당량 부족: 별도 커넥션(REQUIRES_NEW)이나 모니터를 잡지 않고 주문 트랜잭션의 커넥션에서 바로 임대
+        // 커넥션 풀이 작을 때 주문 트랜잭션들이 커넥션을 모두 쥔 채 임대용 커넥션을 기다리는 교착을 피함
+        long leased = productService.leaseStockInCurrentTransaction(productId, Math.max(leaseSize, quantity), quantity);
+        if (leased < quantity) {
+            return ReserveResult.OUT_OF_STOCK;
+        }
+        log.info("에스크로 재고 동기 임대 - 상품 ID: {}, 임대 수량: {}", productId, leased);
+        creditAfterCommit(productId, quota, leased - quantity);
+        return ReserveResult.FROM_LEASE;
+    }
+
+    /**
+     * 동기 임대분 중 주문에 쓰고 남은 수량은 임대가 커밋된 뒤에만 할당량에 적립
+     * 주문 트랜잭션이 롤백되면 중앙 재고 차감도 롤백되므로 적립하지 않음
+     */
+    private void creditAfterCommit(Long productId, StockQuota quota, long surplus) {
+        if (surplus <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            quota.available.addAndGet(surplus);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                quota.available.addAndGet(surplus);
+                log.debug("에스크로 임대 잔여분 적립 - 상품 ID: {}, 수량: {}", productId, surplus);
+            }
+        });
+    }
+
+    private void release(Long productId, long quantity) {
+        quotas.computeIfAbsent(productId, id -> new StockQuota()).available.addAndGet(quantity);
+    }
+
+    private void refillAsyncIfLow(Long productId, StockQuota quota) {
+        if (quota.available.get() > leaseSize / REFILL_THRESHOLD_RATIO) {
+            return;
+        }
+        if (!quota.refilling.compareAndSet(false, true)) {
+            return;
+        }
+
+        // 요청 스레드가 아닌 별도 스레드에서 자체 트랜잭션으로 임대하며, refilling 플래그로 상품당 하나만 실행
+        taskExecutor.execute(() -> {
+            try {
+                long leased = productService.leaseStock(productId, leaseSize);
+                quota.available.addAndGet(leased);
+                log.debug("에스크로 재고 비동기 보충 - 상품 ID: {}, 임대 수량: {}", productId, leased);
+            } catch (Exception e) {
+                log.error("에스크로 재고 비동기 보충 실패 - 상품 ID: {}", productId, e);
+            } finally {
+                quota.refilling.set(false);
+            }
+        });
+    }
+
+    private void returnQuota(Long productId, StockQuota quota) {
+        long remaining = quota.available.getAndSet(0);
+        if (remaining <= 0) {
+            return;
+        }
+
+        try {
+            productService.returnStock(productId, remaining);
+            log.info("에스크로 재고 반납 - 상품 ID: {}, 반납 수량: {}", productId, remaining);
+        } catch (Exception e) {
+            quota.available.addAndGet(remaining);
+            log.error("에스크로 재고 반납 실패 - 상품 ID: {}, 수량: {}", productId, remaining, e);
+        }
+    }
+
+    private enum ReserveResult {
+        FROM_QUOTA, FROM_LEASE, OUT_OF_STOCK
+    }
+
+    private static class StockQuota {
+        private final AtomicLong available = new AtomicLong();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private boolean tryDecrease(long quantity) {
+            long current;
+            do {
+                current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - quantity));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.application.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Redis 재고 원장에서 MySQL 로 반영할 차감분 묶음
+ * batchId 는 flushing 해시를 만들 때 함께 기록되어, 같은 해시를 다시 반영하면 같은 ID 로 재시도됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductStockFlushBatch {
+
+    private static final ProductStockFlushBatch EMPTY = new ProductStockFlushBatch(null, Map.of());
+
+    private final String batchId;
+    private final Map<Long, Long> decrements;
+
+    public static ProductStockFlushBatch empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return batchId == null;
+    }
+}
@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 재고 모드 전용 스케줄러
+ * 1. 애플리케이션 시작 시 Redis에 없는 상품 재고를 DB에서 적재
+ * 2. 누적된 차감분을 주기적으로 MySQL에 일괄 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.mode", havingValue = "redis")
+public class ProductStockFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "inventory:flush";
+
+    private final ProductStockRedisService productStockRedisService;
+    private final ProductService productService;
+    private final DistributedLockService distributedLockService;
+
+    @Value("${inventory.redis.flush-record-retention-days:7}")
+    private int flushRecordRetentionDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedStocks() {
+        productStockRedisService.seedAllStocks();
+    }
+
+    /**
+     * 여러 인스턴스가 같은 차감분을 중복 반영하지 않도록 분산락 안에서 처리
+     */
+    @Scheduled(fixedDelayString = "${inventory.redis.flush-interval-ms:1000}")
+    public void flushPendingDecrements() {
+        try {
+            distributedLockService.executeWithLock(FLUSH_LOCK_KEY, 0, 30, this::flush);
+        } catch (RuntimeException e) {
+            log.debug("재고 반영 스킵 - 다른 인스턴스에서 처리 중이거나 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반영 대기 중인 차감분을 모두 반영한 뒤 Redis 재고를 DB 값으로 재구성
+     * 주문 유입이 없는 점검 시간에만 사용
+     */
+    public void rebuildStocks() {
+        distributedLockService.executeWithLock(FLUSH_LOCK_KEY, 10, 60, () -> {
+            while (productStockRedisService.hasPendingDecrements()) {
+                flush();
+            }
+            productStockRedisService.rebuildAllStocks();
+        });
+    }
+
+    /**
+     * 반영 이력 정리 (보관 기간이 지난 배치 ID 는 다시 반영될 일이 없음)
+     */
+    @Scheduled(cron = "${inventory.redis.flush-record-cleanup-cron:0 30 4 * * *}")
+    public void deleteExpiredFlushRecords() {
+        productService.deleteStockFlushRecordsBefore(LocalDateTime.now().minusDays(flushRecordRetentionDays));
+    }
+
+    /**
+     * 배치 ID 를 차감과 같은 트랜잭션에 기록하므로,
+     * DB 커밋 후 flushing 해시 제거 전에 중단되거나 락 임대가 만료되어 같은 배치를 다시 반영해도 한 번만 차감됨
+     */
+    private void flush() {
+        ProductStockFlushBatch batch = productStockRedisService.prepareFlush();
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (productService.applyStockDecrements(batch.getBatchId(), batch.getDecrements())) {
+            log.info("Redis 재고 차감분 DB 반영 완료 - 배치 ID: {}, 상품 수: {}",
+                    batch.getBatchId(), batch.getDecrements().size());
+        }
+        productStockRedisService.completeFlush(batch.getBatchId());
+    }
+}
@@ -0,0 +1,236 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.infrastructure.persistence.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.PRODUCT_NOT_FOUND;
+
+/**
+ * Redis 재고 원장
+ * 상품 재고를 Redis에 미러링하고, 주문 단위로 모든 상품 재고를 Lua 스크립트 하나로 원자 차감
+ * 차감분은 pending 해시에 누적되어 스케줄러가 MySQL에 일괄 반영 (write-behind)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockRedisService {
+
+    private static final String STOCK_KEY_PREFIX = "inventory:stock:";
+    private static final String PENDING_KEY = "inventory:pending";
+    private static final String FLUSHING_KEY = "inventory:pending:flushing";
+    private static final String FLUSHING_BATCH_KEY = "inventory:pending:flushing:batch";
+
+    /**
+     * KEYS: 상품 재고 키들 + 마지막에 pending 해시 키
+     * ARGV: (상품 ID, 수량) 쌍
+     * 반환: 0 성공, i 번째 상품 재고 부족 시 i, i 번째 상품 재고 키가 없으면 -i
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local count = #KEYS - 1 " +
+            "for i = 1, count do " +
+            "  local stock = redis.call('GET', KEYS[i]) " +
+            "  if not stock then return -i end " +
+            "  if tonumber(stock) < tonumber(ARGV[i * 2]) then return i end " +
+            "end " +
+            "for i = 1, count do " +
+            "  redis.call('DECRBY', KEYS[i], ARGV[i * 2]) " +
+            "  redis.call('HINCRBY', KEYS[#KEYS], ARGV[i * 2 - 1], ARGV[i * 2]) " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local count = #KEYS - 1 " +
+            "for i = 1, count do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('INCRBY', KEYS[i], ARGV[i * 2]) " +
+            "    redis.call('HINCRBY', KEYS[#KEYS], ARGV[i * 2 - 1], -tonumber(ARGV[i * 2])) " +
+            "  end " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    /**
+     * 처리 중인 flushing 해시가 없을 때만 pending 해시를 flushing 으로 옮기고 배치 ID 를 기록
+     * 이전 반영이 끝나지 않아 flushing 해시가 남아 있으면 기존 배치 ID 그대로 재시도
+     * KEYS: pending, flushing, 배치 ID 키 / ARGV: 새 배치 ID
+     * 반환: 반영할 배치 ID, 반영할 차감분이 없으면 nil
+     */
+    private static final RedisScript<String> PREPARE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  local batchId = redis.call('GET', KEYS[3]) " +
+            "  if batchId then return batchId end " +
+            "  redis.call('SET', KEYS[3], ARGV[1]) " +
+            "  return ARGV[1] " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "return ARGV[1]",
+            String.class
+    );
+
+    /**
+     * 반영을 마친 배치의 flushing 해시 제거
+     * 락 임대 만료 등으로 늦게 끝난 반영이 이후 배치를 지우지 않도록 배치 ID 가 같을 때만 제거
+     */
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductRepository productRepository;
+
+    /**
+     * 주문 상품 재고를 원자적으로 예약
+     * Redis에 재고가 적재되지 않은 상품이 있으면 DB에서 적재 후 한 번 재시도
+     */
+    public void reserve(Map<Long, Long> quantityByProductId) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantityByProductId).entrySet());
+
+        Long result = executeReserve(entries);
+        if (result != null && result < 0) {
+            seedStocks(entries.stream().map(Map.Entry::getKey).toList());
+            result = executeReserve(entries);
+        }
+
+        if (result == null || result != 0) {
+            handleReserveFailure(entries, result);
+        }
+        log.debug("Redis 재고 예약 완료 - 상품 수: {}", entries.size());
+    }
+
+    /**
+     * 예약했던 재고 반환 (주문 트랜잭션 롤백 시 보상)
+     */
+    public void release(Map<Long, Long> quantityByProductId) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantityByProductId).entrySet());
+        stringRedisTemplate.execute(RELEASE_SCRIPT, buildKeys(entries), buildArgs(entries));
+        log.info("Redis 재고 예약 반환 - 상품 수: {}", entries.size());
+    }
+
+    /**
+     * Redis에 없는 상품 재고만 DB 값으로 적재 (이미 적재된 값은 유지)
+     */
+    public void seedStocks(List<Long> productIds) {
+        List<Product> products = productRepository.findByIds(productIds);
+        for (Product product : products) {
+            stringRedisTemplate.opsForValue()
+                    .setIfAbsent(STOCK_KEY_PREFIX + product.getId(), String.valueOf(product.getStock()));
+        }
+        log.info("Redis 재고 적재 - 요청 상품 수: {}, 적재 대상 수: {}", productIds.size(), products.size());
+    }
+
+    /**
+     * 전체 상품 재고 적재 (애플리케이션 시작 시)
+     */
+    public void seedAllStocks() {
+        List<Product> products = productRepository.findAll();
+        for (Product product : products) {
+            stringRedisTemplate.opsForValue()
+                    .setIfAbsent(STOCK_KEY_PREFIX + product.getId(), String.valueOf(product.getStock()));
+        }
+        log.info("Redis 전체 재고 적재 완료 - 상품 수: {}", products.size());
+    }
+
+    /**
+     * 전체 상품 재고를 DB 값으로 덮어써 재구성
+     * 반영 대기 중인 차감분이 모두 DB에 반영된 뒤에만 호출해야 함
+     */
+    public void rebuildAllStocks() {
+        List<Product> products = productRepository.findAll();
+        for (Product product : products) {
+            stringRedisTemplate.opsForValue()
+                    .set(STOCK_KEY_PREFIX + product.getId(), String.valueOf(product.getStock()));
+        }
+        log.info("Redis 전체 재고 재구성 완료 - 상품 수: {}", products.size());
+    }
+
+    /**
+     * DB에 반영할 누적 차감분 조회
+     */
+    public ProductStockFlushBatch prepareFlush() {
+        String batchId = stringRedisTemplate.execute(PREPARE_FLUSH_SCRIPT,
+                List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_BATCH_KEY), UUID.randomUUID().toString());
+        if (batchId == null) {
+            return ProductStockFlushBatch.empty();
+        }
+
+        Map<Long, Long> decrements = new HashMap<>();
+        stringRedisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY).forEach((productId, quantity) -> {
+            long value = Long.parseLong(quantity);
+            if (value != 0) {
+                decrements.put(Long.valueOf(productId), value);
+            }
+        });
+        return new ProductStockFlushBatch(batchId, decrements);
+    }
+
+    /**
+     * DB 반영 완료 후 flushing 해시 제거
+     */
+    public void completeFlush(String batchId) {
+        Long completed = stringRedisTemplate.execute(COMPLETE_FLUSH_SCRIPT,
+                List.of(FLUSHING_KEY, FLUSHING_BATCH_KEY), batchId);
+        if (completed == null || completed == 0) {
+            log.warn("이미 정리된 재고 반영 배치 - 배치 ID: {}", batchId);
+        }
+    }
+
+    public boolean hasPendingDecrements() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(PENDING_KEY))
+                || Boolean.TRUE.equals(stringRedisTemplate.hasKey(FLUSHING_KEY));
+    }
+
+    private Long executeReserve(List<Map.Entry<Long, Long>> entries) {
+        return stringRedisTemplate.execute(RESERVE_SCRIPT, buildKeys(entries), buildArgs(entries));
+    }
+
+    private void handleReserveFailure(List<Map.Entry<Long, Long>> entries, Long result) {
+        if (result == null || result < 0) {
+            log.warn("Redis 재고 예약 실패 - 존재하지 않는 상품 포함: {}", entries);
+            throw new ApiException(PRODUCT_NOT_FOUND);
+        }
+        Long productId = entries.get(result.intValue() - 1).getKey();
+        log.warn("Redis 재고 부족 - 상품 ID: {}", productId);
+        throw new ApiException(OUT_OF_STOCK_PRODUCT);
+    }
+
+    private List<String> buildKeys(List<Map.Entry<Long, Long>> entries) {
+        List<String> keys = new ArrayList<>(entries.size() + 1);
+        for (Map.Entry<Long, Long> entry : entries) {
+            keys.add(STOCK_KEY_PREFIX + entry.getKey());
+        }
+        keys.add(PENDING_KEY);
+        return keys;
+    }
+
+    private Object[] buildArgs(List<Map.Entry<Long, Long>> entries) {
+        Object[] args = new Object[entries.size() * 2];
+        for (int i = 0; i < entries.size(); i++) {
+            args[i * 2] = String.valueOf(entries.get(i).getKey());
+            args[i * 2 + 1] = String.valueOf(entries.get(i).getValue());
+        }
+        return args;
+    }
+}
@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.application.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주문 재고 예약 진입점
+ * inventory.mode 설정에 따라 재고 차감 방식을 선택
+ * - db: 조건부 UPDATE 배치로 MySQL 재고를 직접 차감 (기본값)
+ * - redis: Redis 재고 원장에서 Lua 스크립트로 차감 후 MySQL에 비동기 반영
+ * inventory.escrow.product-ids 에 지정된 인기 상품은 모드와 무관하게 인스턴스 로컬 할당량에서 먼저 차감
+ * inventory.shard.product-ids 에 지정된 인기 상품은 모드와 무관하게 재고 샤드에서 차감 (에스크로보다 우선)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockService {
+
+    private static final String REDIS_MODE = "redis";
+
+    private final ProductService productService;
+    private final ProductStockRedisService productStockRedisService;
+    private final ProductStockEscrowService productStockEscrowService;
+    private final ProductStockShardService productStockShardService;
+
+    @Value("${inventory.mode:db}")
+    private String inventoryMode;
+
+    /**
+     * 주문 상품 재고 예약
+     * 하나라도 재고가 부족하면 예외가 발생하며 어떤 상품도 차감되지 않음
+     */
+    public void reserveStocks(Map<Long, Long> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> escrowQuantities = new HashMap<>();
+        Map<Long, Long> shardQuantities = new HashMap<>();
+        Map<Long, Long> centralQuantities = new HashMap<>();
+        quantityByProductId.forEach((productId, quantity) -> {
+            if (productStockShardService.isShardedProduct(productId)) {
+                shardQuantities.put(productId, quantity);
+            } else if (productStockEscrowService.isEscrowProduct(productId)) {
+                escrowQuantities.put(productId, quantity);
+            } else {
+                centralQuantities.put(productId, quantity);
+            }
+        });
+
+        // 에스크로 동기 임대분은 주문 트랜잭션과 함께 롤백되므로 로컬 할당량에서 차감한 수량만 되돌림
+        Map<Long, Long> escrowReserved = escrowQuantities.isEmpty()
+                ? Map.of()
+                : productStockEscrowService.reserve(escrowQuantities);
+
+        try {
+            if (!shardQuantities.isEmpty()) {
+                productStockShardService.reserve(shardQuantities);
+            }
+            reserveCentralStocks(centralQuantities);
+        } catch (RuntimeException e) {
+            if (!escrowReserved.isEmpty()) {
+                productStockEscrowService.release(escrowReserved);
+            }
+            throw e;
+        }
+
+        if (!escrowReserved.isEmpty()) {
+            releaseOnRollback(() -> productStockEscrowService.release(escrowReserved), escrowReserved);
+        }
+    }
+
+    /**
+     * 이미 커밋된 주문의 재고 복구 (결제 실패 보상, 호출자 트랜잭션)
+     * - 샤드 상품: 샤드 재고에 더함
+     * - 에스크로 상품: 할당량이 어느 인스턴스에 있는지 알 수 없으므로 중앙 재고로 복구
+     * - 그 외: redis 모드면 커밋 이후 Redis 원장에 반환(pending 차감분도 함께 줄어 MySQL 반영됨), db 모드면 중앙 재고로 복구
+     */
+    public void restoreStocks(Map<Long, Long> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> shardQuantities = new HashMap<>();
+        Map<Long, Long> escrowQuantities = new HashMap<>();
+        Map<Long, Long> centralQuantities = new HashMap<>();
+        quantityByProductId.forEach((productId, quantity) -> {
+            if (productStockShardService.isShardedProduct(productId)) {
+                shardQuantities.put(productId, quantity);
+            } else if (productStockEscrowService.isEscrowProduct(productId)) {
+                escrowQuantities.put(productId, quantity);
+            } else {
+                centralQuantities.put(productId, quantity);
+            }
+        });
+
+        if (!shardQuantities.isEmpty()) {
+            productStockShardService.restore(shardQuantities);
+        }
+        if (isRedisMode()) {
+            if (!escrowQuantities.isEmpty()) {
+                productService.increaseStocks(escrowQuantities);
+            }
+            releaseOnCommit(() -> productStockRedisService.release(centralQuantities), centralQuantities);
+            return;
+        }
+        escrowQuantities.forEach(centralQuantities::merge);
+        if (!centralQuantities.isEmpty()) {
+            productService.increaseStocks(centralQuantities);
+        }
+    }
+
+    public boolean isRedisMode() {
+        return REDIS_MODE.equalsIgnoreCase(inventoryMode);
+    }
+
+    private void reserveCentralStocks(Map<Long, Long> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
+        }
+
+        if (isRedisMode()) {
+            productStockRedisService.reserve(quantityByProductId);
+            releaseOnRollback(() -> productStockRedisService.release(quantityByProductId), quantityByProductId);
+            return;
+        }
+
+        productService.decreaseStocks(quantityByProductId);
+    }
+
+    /**
+     * 보상 트랜잭션이 커밋된 뒤에만 Redis 원장에 반환 (롤백 후 재시도 시 중복 반환 방지)
+     */
+    private void releaseOnCommit(Runnable release, Map<Long, Long> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    release.run();
+                } catch (Exception e) {
+                    log.error("재고 복구 반환 실패 - 상품: {}", quantityByProductId, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Redis/에스크로 차감은 DB 트랜잭션과 함께 롤백되지 않으므로 롤백 시 예약분을 반환
+     */
+    private void releaseOnRollback(Runnable release, Map<Long, Long> quantityByProductId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    release.run();
+                } catch (Exception e) {
+                    log.error("재고 예약 반환 실패 - 상품: {}", quantityByProductId, e);
+                }
+            }
+        });
+    }
+}
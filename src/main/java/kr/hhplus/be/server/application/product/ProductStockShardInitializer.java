@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.application.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 inventory.shard.product-ids 상품의 재고를 샤드로 분할
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockShardInitializer {
+
+    private final ProductStockShardService productStockShardService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeShards() {
+        for (Long productId : productStockShardService.getShardProductIds()) {
+            try {
+                productStockShardService.splitIntoShards(productId);
+            } catch (Exception e) {
+                log.error("상품 재고 샤드 분할 실패 - 상품 ID: {}", productId, e);
+            }
+        }
+    }
+}
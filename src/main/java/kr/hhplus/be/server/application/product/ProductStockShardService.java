@@ -0,0 +1,164 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.infrastructure.persistence.product.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+
+/**
+ * 인기 상품 샤드 재고
+ * 상품 재고를 product_stock_shard 의 K개 행으로 나누어 보관하고,
+ * 주문마다 임의의 샤드 한 행만 조건부 UPDATE 하여 단일 상품 행에 몰리는 락 경합을 분산
+ * - 선택한 샤드가 부족하면 다음 샤드들을 순서대로 시도
+ * - 단일 샤드로 채울 수 없는 주문은 모든 샤드를 잠그고 여러 샤드에서 나누어 차감
+ * 샤드 차감은 주문 트랜잭션 안에서 수행되므로 롤백 시 함께 복구됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockShardService {
+
+    private final ProductService productService;
+    private final ProductStockShardRepository productStockShardRepository;
+
+    @Value("${inventory.shard.product-ids:}")
+    private Set<Long> shardProductIds = Set.of();
+
+    @Value("${inventory.shard.shard-count:8}")
+    private int shardCount = 8;
+
+    public boolean isShardedProduct(Long productId) {
+        return shardProductIds.contains(productId);
+    }
+
+    public Set<Long> getShardProductIds() {
+        return shardProductIds;
+    }
+
+    /**
+     * 샤드로 분할된 상품의 샤드 재고 합계 (조회용)
+     * 설정된 샤드 상품만 조회하므로 샤드 상품이 없으면 쿼리를 실행하지 않음
+     * @return 상품 ID별 샤드 재고 합계 (샤드 상품이 아니면 결과에 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getShardedStocks(Collection<Long> productIds) {
+        List<Long> shardedProductIds = productIds.stream()
+                .filter(this::isShardedProduct)
+                .distinct()
+                .toList();
+        if (shardedProductIds.isEmpty()) {
+            return Map.of();
+        }
+        return productStockShardRepository.sumStocksByProductIds(shardedProductIds);
+    }
+
+    /**
+     * 샤드 재고 예약
+     * 하나라도 부족하면 예외를 던져 주문 트랜잭션 전체를 롤백
+     */
+    @Transactional
+    public void reserve(Map<Long, Long> quantityByProductId) {
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(quantityByProductId).entrySet()) {
+            Long productId = entry.getKey();
+            long quantity = entry.getValue();
+
+            if (tryDecreaseSingleShard(productId, quantity)) {
+                continue;
+            }
+            decreaseAcrossShards(productId, quantity);
+        }
+    }
+
+    /**
+     * 실패한 주문이 차감했던 샤드 재고 복구
+     * 임의의 샤드 하나에 더하며, 샤드가 없으면 중앙 재고로 복구
+     */
+    @Transactional
+    public void restore(Map<Long, Long> quantityByProductId) {
+        Map<Long, Long> centralQuantities = new TreeMap<>();
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(quantityByProductId).entrySet()) {
+            int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+            if (!productStockShardRepository.increase(entry.getKey(), shardNo, entry.getValue())) {
+                centralQuantities.put(entry.getKey(), entry.getValue());
+            }
+        }
+        productService.increaseStocks(centralQuantities);
+    }
+
+    /**
+     * 중앙 재고(product.stock)를 샤드로 분할
+     * 이미 샤드가 있는 상품은 건너뜀
+     */
+    @Transactional
+    public void splitIntoShards(Long productId) {
+        Product product = productService.getProductWithPessimisticLock(productId);
+        if (productStockShardRepository.countShards(productId) > 0) {
+            return;
+        }
+
+        long totalStock = product.getStock();
+        List<Long> stocks = new ArrayList<>();
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            // 나머지는 앞 샤드부터 하나씩 배분
+            stocks.add(totalStock / shardCount + (shardNo < totalStock % shardCount ? 1 : 0));
+        }
+
+        productStockShardRepository.createShards(productId, stocks);
+        if (totalStock > 0) {
+            product.decreaseStock(totalStock);
+        }
+        log.info("상품 재고 샤드 분할 완료 - 상품 ID: {}, 샤드 수: {}, 재고: {}", productId, shardCount, totalStock);
+    }
+
+    /**
+     * 임의의 샤드부터 시작해 재고가 충분한 샤드 하나에서 차감
+     */
+    private boolean tryDecreaseSingleShard(Long productId, long quantity) {
+        int startShardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int offset = 0; offset < shardCount; offset++) {
+            int shardNo = (startShardNo + offset) % shardCount;
+            if (productStockShardRepository.decrease(productId, shardNo, quantity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 샤드를 샤드 번호 순서로 잠근 뒤 여러 샤드에서 나누어 차감
+     */
+    private void decreaseAcrossShards(Long productId, long quantity) {
+        Map<Integer, Long> stockByShardNo = productStockShardRepository.findShardStocksForUpdate(productId);
+        long totalStock = stockByShardNo.values().stream().mapToLong(Long::longValue).sum();
+        if (stockByShardNo.isEmpty() || totalStock < quantity) {
+            log.warn("샤드 재고 부족 - 상품 ID: {}, 요청 수량: {}, 남은 재고: {}", productId, quantity, totalStock);
+            throw new ApiException(OUT_OF_STOCK_PRODUCT);
+        }
+
+        long remaining = quantity;
+        for (Map.Entry<Integer, Long> shard : stockByShardNo.entrySet()) {
+            long taken = Math.min(shard.getValue(), remaining);
+            if (taken > 0) {
+                productStockShardRepository.decrease(productId, shard.getKey(), taken);
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+}
@@ -20,7 +20,9 @@ public enum ErrorCode {
     PRODUCT_NOT_FOUND("PRODUCT_NOT_FOUND", HttpStatus.NOT_FOUND, "상품이 존재하지 않습니다."),
     COUPON_NOT_FOUND("COUPON_NOT_FOUND", HttpStatus.NOT_FOUND, "쿠폰을 찾을 수 없습니다."),
     BESTSELLER_NOT_FOUND("BESTSELLER_NOT_FOUND", HttpStatus.NOT_FOUND, "베스트셀러를 찾을 수 없습니다."),
+    ORDER_NOT_FOUND("ORDER_NOT_FOUND", HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
     PAYMENT_INFO_NOT_EXIST("PAYMENT_INFO_NOT_EXIST", HttpStatus.NOT_FOUND, "결제 정보가 없습니다."),
+    COUPON_ISSUE_REQUEST_NOT_FOUND("COUPON_ISSUE_REQUEST_NOT_FOUND", HttpStatus.NOT_FOUND, "쿠폰 발급 요청을 찾을 수 없습니다."),
     
     // 409 Conflict - 충돌 (중복, 이미 사용됨 등)
     DUPLICATE_PAYMENT("DUPLICATE_PAYMENT", HttpStatus.CONFLICT, "이미 처리된 결제 요청입니다."),
@@ -28,6 +30,7 @@ public enum ErrorCode {
     ALREADY_APPLIED_COUPON("ALREADY_APPLIED_COUPON", HttpStatus.CONFLICT, "이미 적용된 쿠폰입니다."),
     NOT_OWNED_USER_COUPON("NOT_OWNED_USER_COUPON", HttpStatus.CONFLICT, "소유하지 않은 쿠폰입니다."),
     COUPON_ALREADY_ISSUED("COUPON_ALREADY_ISSUED", HttpStatus.CONFLICT, "이미 발급된 쿠폰입니다."),
+    ORDER_REQUEST_IN_PROGRESS("ORDER_REQUEST_IN_PROGRESS", HttpStatus.CONFLICT, "동일한 주문 요청이 처리 중입니다."),
     
     // 422 Unprocessable Entity - 비즈니스 로직 오류
     EXCEEDS_MAXIMUM_POINT("EXCEEDS_MAXIMUM_POINT", HttpStatus.UNPROCESSABLE_ENTITY, "충전 후 포인트가 300만을 초과할 수 없습니다."),
@@ -41,6 +44,14 @@ public enum ErrorCode {
     PAYMENT_FAILED("PAYMENT_FAILED", HttpStatus.INTERNAL_SERVER_ERROR, "결제에 실패했습니다."),
     COUPON_ISSUANCE_FAILED("COUPON_ISSUANCE_FAILED", HttpStatus.INTERNAL_SERVER_ERROR, "쿠폰 발급에 실패했습니다."),
     ORDER_CREATION_FAILED("ORDER_CREATION_FAILED", HttpStatus.INTERNAL_SERVER_ERROR, "주문 생성에 실패했습니다."),
+    POINT_WALLET_UNAVAILABLE("POINT_WALLET_UNAVAILABLE", HttpStatus.INTERNAL_SERVER_ERROR, "포인트 지갑을 처리할 수 없습니다."),
+
+    // 503 Service Unavailable - 일시적으로 처리할 수 없음 (재시도 가능)
+    ORDER_PROCESSING_TIMEOUT("ORDER_PROCESSING_TIMEOUT", HttpStatus.SERVICE_UNAVAILABLE, "주문 처리 대기 시간이 초과되었습니다."),
+    LOCK_QUEUE_FULL("LOCK_QUEUE_FULL", HttpStatus.SERVICE_UNAVAILABLE, "동일 사용자의 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_ISSUE_GATE_UNAVAILABLE("COUPON_ISSUE_GATE_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE, "쿠폰 발급 요청을 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    LOCK_WAIT_TIMEOUT("LOCK_WAIT_TIMEOUT", HttpStatus.SERVICE_UNAVAILABLE, "락 대기 시간이 초과되었습니다."),
+    POINT_UPDATE_CONFLICT("POINT_UPDATE_CONFLICT", HttpStatus.SERVICE_UNAVAILABLE, "포인트 처리 요청이 충돌했습니다. 잠시 후 다시 시도해주세요."),
 
     // 기타 예상치 못한 오류
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 ID를 미리 채번하는 식별자 생성 전략
+ * IDENTITY 전략과 달리 INSERT 전에 ID가 결정되므로 Hibernate JDBC 배치 INSERT 가 가능
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnowflakeId {
+}
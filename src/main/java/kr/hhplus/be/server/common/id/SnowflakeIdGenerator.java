@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * {@link SnowflakeId} 가 붙은 식별자에 대해 JVM 공용 시퀀스에서 ID를 발급하는 Hibernate 생성기
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    private static final SnowflakeIdSequence SEQUENCE = SnowflakeIdSequence.fromEnvironment();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return SEQUENCE.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * Snowflake 방식의 시간 순 정렬 ID 발급기
+ * JSON 으로 내려가는 ID 를 JavaScript 에서도 정확히 표현할 수 있도록 53비트 안에 구성
+ * - 41비트: 기준 시각(2024-01-01 UTC) 이후 경과 밀리초 (약 69년)
+ * - 5비트: 노드 ID (0 ~ 31)
+ * - 7비트: 같은 밀리초 내 순번 (노드당 밀리초마다 128개)
+ * 순번이 소진되거나 시계가 뒤로 가면 마지막 발급 시각을 1ms 씩 앞당겨 단조 증가를 유지
+ */
+@Slf4j
+public class SnowflakeIdSequence {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String NODE_ID_PROPERTY = "snowflake.node-id";
+    private static final String NODE_ID_ENV = "SNOWFLAKE_NODE_ID";
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdSequence(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 시스템 프로퍼티(snowflake.node-id) 또는 환경 변수(SNOWFLAKE_NODE_ID)로 노드 ID 결정
+     * 두 인스턴스가 같은 노드 ID 를 쓰면 같은 밀리초에 같은 ID 가 발급되어 PK 가 충돌하므로
+     * 추측한 값(호스트 이름 해시 등)으로 대신하지 않고 설정이 없으면 기동을 중단
+     */
+    public static SnowflakeIdSequence fromEnvironment() {
+        String configured = System.getProperty(NODE_ID_PROPERTY, System.getenv(NODE_ID_ENV));
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("Snowflake 노드 ID 미설정 - 인스턴스마다 고유한 "
+                    + NODE_ID_PROPERTY + " 시스템 프로퍼티 또는 " + NODE_ID_ENV + " 환경 변수(0 ~ " + MAX_NODE_ID + ")를 지정해야 합니다.");
+        }
+
+        long nodeId = Long.parseLong(configured.trim());
+        log.info("Snowflake 노드 ID: {}", nodeId);
+        return new SnowflakeIdSequence(nodeId);
+    }
+
+    /**
+     * 해당 시각에 발급될 수 있는 가장 작은 ID
+     * 이보다 작은 ID 는 모두 그 시각 이전에 발급된 것이므로 생성 시각 컬럼 없이 ID 범위로 오래된 행을 찾을 때 사용
+     */
+    public static long minIdAt(Instant instant) {
+        return (instant.toEpochMilli() - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(currentMillis(), lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    protected long currentMillis() {
+        return System.currentTimeMillis();
+    }
+}
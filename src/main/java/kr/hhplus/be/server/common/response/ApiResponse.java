@@ -20,6 +20,14 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> accepted(T data, String msg) {
+        return ApiResponse.<T>builder()
+                .code(202)
+                .message(msg)
+                .data(data)
+                .build();
+    }
+
     @Builder
     public ApiResponse(int code, String message, T data) {
         this.code = code;
@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.domain.coupon;
+
+/**
+ * 쿠폰 발급 실패 유형 (발급 결과 이벤트에 실어 선점 반환 방식을 결정)
+ */
+public enum CouponIssueFailureType {
+    /** 이미 발급받은 사용자 */
+    DUPLICATE_ISSUED,
+    /** DB 재고 소진 */
+    OUT_OF_STOCK,
+    /** 처리 중 오류 */
+    ERROR
+}
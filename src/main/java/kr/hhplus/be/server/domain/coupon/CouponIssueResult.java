@@ -10,32 +10,35 @@ public class CouponIssueResult {
     private final String errorMessage;
     private final Long userCouponId;
     private final Long remainingStock;
+    private final CouponIssueFailureType failureType;
     private final CouponIssueRequestEventDto requestEvent;
 
     private CouponIssueResult(boolean success, String errorMessage, Long userCouponId,
-                            Long remainingStock, CouponIssueRequestEventDto requestEvent) {
+                            Long remainingStock, CouponIssueFailureType failureType,
+                            CouponIssueRequestEventDto requestEvent) {
         this.success = success;
         this.errorMessage = errorMessage;
         this.userCouponId = userCouponId;
         this.remainingStock = remainingStock;
+        this.failureType = failureType;
         this.requestEvent = requestEvent;
     }
 
     public static CouponIssueResult success(CouponIssueRequestEventDto requestEvent,
                                           Long userCouponId, Long remainingStock) {
-        return new CouponIssueResult(true, null, userCouponId, remainingStock, requestEvent);
+        return new CouponIssueResult(true, null, userCouponId, remainingStock, null, requestEvent);
     }
 
     public static CouponIssueResult duplicateIssued(CouponIssueRequestEventDto requestEvent, String message) {
-        return new CouponIssueResult(false, message, null, 0L, requestEvent);
+        return new CouponIssueResult(false, message, null, 0L, CouponIssueFailureType.DUPLICATE_ISSUED, requestEvent);
     }
 
     public static CouponIssueResult outOfStock(CouponIssueRequestEventDto requestEvent, String message) {
-        return new CouponIssueResult(false, message, null, 0L, requestEvent);
+        return new CouponIssueResult(false, message, null, 0L, CouponIssueFailureType.OUT_OF_STOCK, requestEvent);
     }
 
     public static CouponIssueResult error(CouponIssueRequestEventDto requestEvent, String message) {
-        return new CouponIssueResult(false, message, null, 0L, requestEvent);
+        return new CouponIssueResult(false, message, null, 0L, CouponIssueFailureType.ERROR, requestEvent);
     }
 
     public CouponIssueResultEventDto toEventDto() {
@@ -44,13 +47,15 @@ public class CouponIssueResult {
                 requestEvent.getRequestId(),
                 requestEvent.getUserId(),
                 requestEvent.getCouponId(),
-                userCouponId
+                userCouponId,
+                remainingStock
             );
         } else {
             return CouponIssueResultEventDto.failure(
                 requestEvent.getRequestId(),
                 requestEvent.getUserId(),
                 requestEvent.getCouponId(),
+                failureType,
                 errorMessage
             );
         }
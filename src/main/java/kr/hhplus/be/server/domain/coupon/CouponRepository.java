@@ -5,4 +5,16 @@ import java.util.Optional;
 public interface CouponRepository {
     Coupon save(Coupon coupon);
     Optional<Coupon> findById(Long id);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 현재 재고를 잠금 조회 (SELECT ... FOR UPDATE)
+     * 트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽고, 트랜잭션이 끝날 때까지 다른 차감을 막음
+     */
+    Optional<Long> findStockByIdForUpdate(Long couponId);
+
+    /**
+     * 재고가 quantity 이상일 때만 조건부 UPDATE 로 한 번에 차감
+     * @return 차감 여부
+     */
+    boolean decreaseStock(Long couponId, long quantity);
 }
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.domain.coupon;
 
 import jakarta.persistence.*;
 import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.id.SnowflakeId;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,7 +18,7 @@ import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 public class UserCoupon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "user_coupon_id")
     private Long id;
     private Long userId;
@@ -42,6 +43,13 @@ public class UserCoupon {
         this.isUsed = true;
     }
 
+    /**
+     * 사용 취소 (주문 실패 보상)
+     */
+    public void cancelUse() {
+        this.isUsed = false;
+    }
+
     public void isExpired() {
         if (LocalDateTime.now().isAfter(this.expiredAt)) {
             throw new ApiException(EXPIRED_COUPON);
@@ -1,12 +1,16 @@
 package kr.hhplus.be.server.domain.coupon;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserCouponRepository {
     UserCoupon save(UserCoupon userCoupon);
+    List<UserCoupon> saveAll(List<UserCoupon> userCoupons);
     Optional<UserCoupon> findById(Long userCouponId);
     List<UserCoupon> findAll();
     List<UserCoupon> findUnusedByUserId(Long userId);
     boolean existsByUserIdAndCouponId(Long userId, Long couponId);
+    List<Long> findUserIdsByCouponId(Long couponId);
+    List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
 }
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.domain.order;
 
 import jakarta.persistence.*;
 import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.id.SnowflakeId;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import static kr.hhplus.be.server.common.exception.ErrorCode.ALREADY_APPLIED_COU
 @Table(name = "orders")
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_id")
     private Long id;
     private Long userId;
@@ -54,4 +55,8 @@ public class Order {
     public void markAsFailed() {
         this.status = OrderStatus.FAILED;
     }
+
+    public void markAsPending() {
+        this.status = OrderStatus.PENDING;
+    }
 }
\ No newline at end of file
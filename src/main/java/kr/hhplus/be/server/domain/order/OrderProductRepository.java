@@ -1,5 +1,9 @@
 package kr.hhplus.be.server.domain.order;
 
+import java.util.List;
+
 public interface OrderProductRepository {
     void save(OrderProduct orderProduct);
+    void saveAll(List<OrderProduct> orderProducts);
+    List<OrderProduct> findByOrderId(Long orderId);
 }
@@ -1,9 +1,11 @@
 package kr.hhplus.be.server.domain.order;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository {
     Order save(Order order);
+    Optional<Order> findById(Long orderId);
     List<Order> findAll();
     void deleteAllInBatch();
 }
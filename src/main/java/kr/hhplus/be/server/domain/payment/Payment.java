@@ -2,6 +2,7 @@ package kr.hhplus.be.server.domain.payment;
 
 import jakarta.persistence.*;
 import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.id.SnowflakeId;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +17,7 @@ import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "payment_id")
     private Long id;
     
@@ -33,6 +34,9 @@ public class Payment {
     private LocalDateTime approvedAt;
     private LocalDateTime canceledAt;
 
+    // 외부 결제 대행사(PG) 승인 거래 ID (CARD/CASH)
+    private String pgTransactionId;
+
     @Builder
     private Payment(Long id, Long orderId, String idempotencyKey, Long amount, PaymentMethod paymentMethod, PaymentStatus status) {
         this.id = id;
@@ -62,6 +66,15 @@ public class Payment {
         this.approvedAt = LocalDateTime.now();
     }
 
+    public void markAsApprovedByGateway(String pgTransactionId) {
+        markAsApproved();
+        this.pgTransactionId = pgTransactionId;
+    }
+
+    public void markAsFailed() {
+        this.status = PaymentStatus.FAILED;
+    }
+
     public void markAsCanceled() {
         this.status = PaymentStatus.CANCELED;
         this.canceledAt = LocalDateTime.now();
@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.domain.payment;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 결제 대행사(PG) 승인 포트
+ * 구현체는 호출 스레드를 막지 않고 결과를 CompletableFuture 로 전달하며,
+ * 실패도 예외 대신 {@link PaymentGatewayResult} 로 표현하여 승인 여부를 알 수 없는 경우를 구분
+ */
+public interface PaymentGateway {
+
+    CompletableFuture<PaymentGatewayResult> approve(PaymentGatewayRequest request);
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.domain.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PG 승인 요청 (결제 멱등성 키를 그대로 전달하여 PG 에서도 중복 승인을 막음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentGatewayRequest {
+    private final Long paymentId;
+    private final Long orderId;
+    private final Long amount;
+    private final PaymentMethod paymentMethod;
+    private final String idempotencyKey;
+
+    public static PaymentGatewayRequest from(Payment payment) {
+        return new PaymentGatewayRequest(
+                payment.getId(),
+                payment.getOrderId(),
+                payment.getAmount(),
+                payment.getPaymentMethod(),
+                payment.getIdempotencyKey()
+        );
+    }
+}
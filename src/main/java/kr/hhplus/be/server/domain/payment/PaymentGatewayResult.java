@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.domain.payment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PG 승인 결과
+ * - APPROVED: 승인됨
+ * - DECLINED: PG 가 거절함
+ * - NOT_SENT: 요청을 보내지 않음 (서킷 브레이커 열림, 동시 호출 제한 초과)
+ * - UNKNOWN: 요청은 보냈으나 결과를 알 수 없음 (타임아웃, 연결 오류, PG 서버 오류) - 같은 멱등성 키로 재요청하여 확정
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentGatewayResult {
+
+    public enum Outcome {
+        APPROVED,
+        DECLINED,
+        NOT_SENT,
+        UNKNOWN
+    }
+
+    private final Outcome outcome;
+    private final String transactionId;
+    private final String reason;
+
+    public static PaymentGatewayResult approved(String transactionId) {
+        return new PaymentGatewayResult(Outcome.APPROVED, transactionId, null);
+    }
+
+    public static PaymentGatewayResult declined(String reason) {
+        return new PaymentGatewayResult(Outcome.DECLINED, null, reason);
+    }
+
+    public static PaymentGatewayResult notSent(String reason) {
+        return new PaymentGatewayResult(Outcome.NOT_SENT, null, reason);
+    }
+
+    public static PaymentGatewayResult unknown(String reason) {
+        return new PaymentGatewayResult(Outcome.UNKNOWN, null, reason);
+    }
+}
@@ -9,4 +9,5 @@ public interface PaymentRepository {
     Optional<Payment> findByIdempotencyKey(String idempotencyKey);
     boolean existsByIdempotencyKey(String idempotencyKey);
     List<Payment> findAll();
+    List<Payment> findPendingGatewayPayments(Long beforeId, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.domain.payment.event;
+
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 보류(PENDING) 결제의 승인/실패 확정 이벤트
+ * 결제 결과를 반영한 트랜잭션 안에서 동기로 발행되며, 리스너는 같은 트랜잭션에서 주문 상태를 확정
+ */
+@Getter
+public class PaymentResultEvent extends ApplicationEvent {
+
+    private final Long paymentId;
+    private final Long orderId;
+    private final PaymentStatus status;
+
+    private PaymentResultEvent(Object source, Long paymentId, Long orderId, PaymentStatus status) {
+        super(source);
+        this.paymentId = paymentId;
+        this.orderId = orderId;
+        this.status = status;
+    }
+
+    public static PaymentResultEvent of(Object source, Payment payment) {
+        return new PaymentResultEvent(source, payment.getId(), payment.getOrderId(), payment.getStatus());
+    }
+
+    public boolean isApproved() {
+        return status == PaymentStatus.APPROVED;
+    }
+}
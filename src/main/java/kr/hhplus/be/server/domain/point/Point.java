@@ -19,6 +19,8 @@ import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Point extends BaseTimeEntity {
 
+    public static final long MAX_VOLUME = 3_000_000L;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "point_id")
@@ -47,11 +49,9 @@ public class Point extends BaseTimeEntity {
     }
 
     public void charge(Long amount) {
-        if (amount <= 0) {
-            throw new ApiException(NEGATIVE_CHARGE_POINT);
-        }
+        validateChargeAmount(amount);
 
-        if (this.volume + amount > 3_000_000) {
+        if (this.volume + amount > MAX_VOLUME) {
             throw new ApiException(EXCEEDS_MAXIMUM_POINT);
         }
 
@@ -64,9 +64,7 @@ public class Point extends BaseTimeEntity {
     }
 
     public void use(Long amount) {
-        if (amount <= 0) {
-            throw new ApiException(NEGATIVE_USE_POINT);
-        }
+        validateUseAmount(amount);
 
         if (this.volume < amount) {
             throw new ApiException(NOT_ENOUGH_POINT);
@@ -79,4 +77,16 @@ public class Point extends BaseTimeEntity {
         PointHistory pointHistory = PointHistory.create(this, amount, TransactionType.USE);
         this.pointHistories.add(pointHistory);
     }
+
+    public static void validateChargeAmount(Long amount) {
+        if (amount <= 0) {
+            throw new ApiException(NEGATIVE_CHARGE_POINT);
+        }
+    }
+
+    public static void validateUseAmount(Long amount) {
+        if (amount <= 0) {
+            throw new ApiException(NEGATIVE_USE_POINT);
+        }
+    }
 }
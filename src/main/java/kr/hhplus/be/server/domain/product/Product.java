@@ -47,4 +47,8 @@ public class Product extends BaseTimeEntity {
         }
         this.stock -= quantity;
     }
+
+    public void increaseStock(Long quantity) {
+        this.stock += quantity;
+    }
 }
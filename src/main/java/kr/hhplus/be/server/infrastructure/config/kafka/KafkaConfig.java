@@ -4,6 +4,7 @@ import kr.hhplus.be.server.domain.order.event.dto.OrderCompletedEventDto;
 import kr.hhplus.be.server.domain.order.event.dto.OrderCompletedDlqEventDto;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueRequestEventDto;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import kr.hhplus.be.server.interfaces.web.order.dto.event.OrderPlacementRequestEventDto;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -29,6 +30,9 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:test-group}")
     private String groupId;
 
+    @Value("${coupon.issue.consumer.max-poll-records:500}")
+    private int couponIssueMaxPollRecords;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -68,6 +72,22 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * 쿠폰 발급 요청 배치 Consumer 설정
+     * 한 번의 poll 로 받은 요청(최대 max-poll-records 건)을 리스트로 전달하여 쿠폰별로 묶어 처리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> couponIssueBatchKafkaListenerContainerFactory() {
+        Map<String, Object> configProps = new HashMap<>(consumerFactory().getConfigurationProperties());
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, couponIssueMaxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        return factory;
+    }
+
     /**
      * String 메시지 전용 설정 (기존 테스트용)
      */
@@ -128,6 +148,27 @@ public class KafkaConfig {
         return new KafkaTemplate<>(orderCompletedProducerFactory());
     }
 
+    /**
+     * OrderPlacementRequestEventDto 전용 설정
+     */
+    @Bean
+    public ProducerFactory<String, OrderPlacementRequestEventDto> orderPlacementRequestProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, OrderPlacementRequestEventDto> orderPlacementRequestKafkaTemplate() {
+        return new KafkaTemplate<>(orderPlacementRequestProducerFactory());
+    }
+
     /**
      * CouponIssueRequestEventDto 전용 설정
      */
@@ -18,6 +18,11 @@ public final class KafkaTopicConstants {
      */
     public static final String ORDER_COMPLETED_DLQ = "order-completed-dlq";
     
+    /**
+     * 주문 접수 후 비동기 처리 요청 토픽
+     */
+    public static final String ORDER_PLACEMENT_REQUEST = "order-placement-request";
+    
     /**
      * 쿠폰 발급 요청 토픽
      */
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 실행 전에 분산락을 획득
+ * {@link DistributedLockAspect} 가 트랜잭션 프록시보다 바깥에서 동작하므로
+ * 락을 모두 획득한 뒤에야 트랜잭션(DB 커넥션)이 시작됨
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedLock {
+
+    /**
+     * 락 키 SpEL 표현식 목록 (메서드 파라미터를 #이름 으로 참조)
+     * 예: "'point:user:' + #userId"
+     */
+    String[] keys();
+
+    /**
+     * 락 대기 시간 (초)
+     */
+    long waitTime() default 10;
+
+    /**
+     * 락 유지 시간 (초)
+     */
+    long leaseTime() default 30;
+}
@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DistributedLock} 처리 Aspect
+ * 트랜잭션 Advisor(LOWEST_PRECEDENCE)보다 먼저 실행되어 락 대기 중에는 DB 커넥션을 점유하지 않음
+ * - distributed.lock.wait: 락 획득까지 대기한 시간 (outcome: acquired / failed)
+ * - distributed.lock.hold: 락을 보유한 채 메서드(트랜잭션 포함)를 실행한 시간, 커넥션 점유 시간의 상한 (outcome: success / failure)
+ * Timer 는 메서드별로 한 번만 등록하고 이후 호출에서는 캐시된 Timer 를 사용
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DistributedLockAspect {
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final DistributedLockService distributedLockService;
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, LockTimers> timersByMethod = new ConcurrentHashMap<>();
+
+    @Around("@annotation(distributedLock)")
+    public Object lock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        LockTimers timers = timersByMethod.computeIfAbsent(method, this::registerTimers);
+
+        LockPlan plan = LockPlan.of(
+                resolveKeys(distributedLock.keys(), method, joinPoint.getArgs()),
+                distributedLock.waitTime(),
+                distributedLock.leaseTime()
+        );
+
+        long requestedAt = System.nanoTime();
+        long[] acquiredAt = {0L};
+        try {
+            return distributedLockService.executeWithLockPlan(plan, () -> {
+                acquiredAt[0] = System.nanoTime();
+                timers.waitAcquired().record(acquiredAt[0] - requestedAt, TimeUnit.NANOSECONDS);
+                boolean succeeded = false;
+                try {
+                    Object result = joinPoint.proceed();
+                    succeeded = true;
+                    return result;
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new CheckedInvocationException(t);
+                } finally {
+                    Timer holdTimer = succeeded ? timers.holdSuccess() : timers.holdFailure();
+                    holdTimer.record(System.nanoTime() - acquiredAt[0], TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (CheckedInvocationException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            if (acquiredAt[0] == 0L) {
+                timers.waitFailed().record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+            }
+            throw e;
+        }
+    }
+
+    private List<String> resolveKeys(String[] expressions, Method method, Object[] args) {
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, args, PARAMETER_NAME_DISCOVERER);
+        return Arrays.stream(expressions)
+                .map(expression -> PARSER.parseExpression(expression).getValue(context, String.class))
+                .toList();
+    }
+
+    private LockTimers registerTimers(Method method) {
+        String operation = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new LockTimers(
+                timer("distributed.lock.wait", operation, "acquired"),
+                timer("distributed.lock.wait", operation, "failed"),
+                timer("distributed.lock.hold", operation, "success"),
+                timer("distributed.lock.hold", operation, "failure")
+        );
+    }
+
+    private Timer timer(String name, String operation, String outcome) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record LockTimers(Timer waitAcquired, Timer waitFailed, Timer holdSuccess, Timer holdFailure) {
+    }
+
+    /**
+     * 검사 예외를 Supplier 밖으로 전달하기 위한 래퍼
+     */
+    private static class CheckedInvocationException extends RuntimeException {
+        private CheckedInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -1,23 +1,97 @@
 package kr.hhplus.be.server.infrastructure.config.redis;
 
+import kr.hhplus.be.server.common.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_WAIT_TIMEOUT;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DistributedLockService {
 
+    /**
+     * 현재 스레드가 보유 중인 락 키
+     * 락 계획으로 이미 획득한 키를 하위 호출에서 다시 요청하면 Redis 왕복 없이 그대로 실행
+     */
+    private static final ThreadLocal<Set<String>> HELD_KEYS = ThreadLocal.withInitial(HashSet::new);
+
     private final RedissonClient redissonClient;
+    private final UserMailboxExecutor userMailboxExecutor;
+
+    /**
+     * 락 계획에 포함된 모든 키를 정렬된 순서로 한 번에 획득한 뒤 작업을 실행하고 한 번에 해제
+     * 이미 보유 중인 키는 제외하며, 모두 보유 중이면 락 없이 바로 실행
+     * @param plan 락 계획
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T executeWithLockPlan(LockPlan plan, Supplier<T> task) {
+        List<String> lockKeys = plan.getKeys().stream()
+                .filter(key -> !isHeldByCurrentThread(key))
+                .toList();
+
+        if (lockKeys.isEmpty()) {
+            return task.get();
+        }
+        if (lockKeys.size() == 1) {
+            return executeWithUserLock(lockKeys.get(0), plan.getWaitTime(), plan.getLeaseTime(), task);
+        }
+
+        RLock[] locks = lockKeys.stream()
+                .map(redissonClient::getLock)
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+
+        try {
+            log.debug("락 일괄 획득 시도 - 키: {}", lockKeys);
+
+            if (!multiLock.tryLock(plan.getWaitTime(), plan.getLeaseTime(), TimeUnit.SECONDS)) {
+                log.warn("락 일괄 획득 실패 - 키: {}", lockKeys);
+                throw new ApiException(LOCK_WAIT_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("락 일괄 획득 중 인터럽트 발생 - 키: {}", lockKeys, e);
+            throw new ApiException(LOCK_WAIT_TIMEOUT);
+        }
+
+        HELD_KEYS.get().addAll(lockKeys);
+        try {
+            log.debug("락 일괄 획득 성공 - 키: {}", lockKeys);
+            return task.get();
+        } finally {
+            lockKeys.forEach(HELD_KEYS.get()::remove);
+            try {
+                multiLock.unlock();
+                log.debug("락 일괄 해제 완료 - 키: {}", lockKeys);
+            } catch (IllegalMonitorStateException e) {
+                log.warn("락 일괄 해제 실패 (이미 만료됨) - 키: {}", lockKeys);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 해당 키의 락을 보유 중인지 확인
+     */
+    public boolean isHeldByCurrentThread(String lockKey) {
+        return HELD_KEYS.get().contains(lockKey);
+    }
 
     /**
      * 분산락을 사용하여 작업을 실행
+     * 현재 스레드가 이미 보유 중인 키라면 다시 획득하지 않고 바로 실행
+     * 대기 시간 안에 락을 얻지 못하거나 대기 중 인터럽트되면 LOCK_WAIT_TIMEOUT
      * @param lockKey 락 키
      * @param waitTime 락 대기 시간 (초)
      * @param leaseTime 락 유지 시간 (초)
@@ -25,16 +99,23 @@ public class DistributedLockService {
      * @return 작업 결과
      */
     public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, Supplier<T> task) {
+        if (isHeldByCurrentThread(lockKey)) {
+            log.debug("이미 보유 중인 락 - 키: {}", lockKey);
+            return task.get();
+        }
+
         RLock lock = redissonClient.getLock(lockKey);
         
         try {
             log.debug("락 획득 시도 - 키: {}", lockKey);
             
             if (lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS)) {
+                HELD_KEYS.get().add(lockKey);
                 try {
                     log.debug("락 획득 성공 - 키: {}", lockKey);
                     return task.get();
                 } finally {
+                    HELD_KEYS.get().remove(lockKey);
                     if (lock.isHeldByCurrentThread()) {
                         lock.unlock();
                         log.debug("락 해제 완료 - 키: {}", lockKey);
@@ -42,15 +123,29 @@ public class DistributedLockService {
                 }
             } else {
                 log.warn("락 획득 실패 - 키: {}", lockKey);
-                throw new RuntimeException("락 획득 실패: " + lockKey);
+                throw new ApiException(LOCK_WAIT_TIMEOUT);
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("락 획득 중 인터럽트 발생 - 키: {}", lockKey, e);
-            throw new RuntimeException("락 획득 중 인터럽트 발생: " + lockKey, e);
+            throw new ApiException(LOCK_WAIT_TIMEOUT);
         }
     }
 
+    /**
+     * 사용자 단위 락 키는 {@link UserMailboxExecutor} 로 같은 사용자 요청을 로컬 큐에 모아 락 한 번으로 연속 실행
+     * 메일박스를 사용할 수 없는 호출(비활성, 트랜잭션 진행 중, 다른 락 보유 중)은 바로 분산락을 획득
+     * 메일박스 대기는 락 대기 시간 + 락 유지 시간을 넘기지 않음
+     */
+    private <T> T executeWithUserLock(String lockKey, long waitTime, long leaseTime, Supplier<T> task) {
+        if (!userMailboxExecutor.accepts(lockKey, !HELD_KEYS.get().isEmpty())) {
+            return executeWithLock(lockKey, waitTime, leaseTime, task);
+        }
+        return userMailboxExecutor.execute(lockKey, task,
+                batch -> executeWithLock(lockKey, waitTime, leaseTime, batch),
+                TimeUnit.SECONDS.toMillis(waitTime + leaseTime));
+    }
+
     /**
      * 분산락을 사용하여 작업을 실행 (반환값 없음)
      * @param lockKey 락 키
@@ -72,18 +167,18 @@ public class DistributedLockService {
      * @return 작업 결과
      */
     public <T> T executeOrderLock(Long userId, Supplier<T> task) {
-        String lockKey = "order:user:" + userId;
-        return executeWithLock(lockKey, 10, 30, task);
+        String lockKey = LockPlan.orderUserKey(userId);
+        return executeWithUserLock(lockKey, 10, 30, task);
     }
 
     /**
-     * 결제 처리용 분산락
-     * @param paymentId 결제 ID
+     * 결제 처리용 분산락 (주문 단위)
+     * @param orderId 주문 ID
      * @param task 실행할 작업
      * @return 작업 결과
      */
-    public <T> T executePaymentLock(Long paymentId, Supplier<T> task) {
-        String lockKey = "payment:" + paymentId;
+    public <T> T executePaymentLock(Long orderId, Supplier<T> task) {
+        String lockKey = LockPlan.paymentKey(orderId);
         return executeWithLock(lockKey, 10, 30, task);
     }
 
@@ -94,8 +189,8 @@ public class DistributedLockService {
      * @return 작업 결과
      */
     public <T> T executePointLock(Long userId, Supplier<T> task) {
-        String lockKey = "point:user:" + userId;
-        return executeWithLock(lockKey, 10, 30, task);
+        String lockKey = LockPlan.pointUserKey(userId);
+        return executeWithUserLock(lockKey, 10, 30, task);
     }
 
     /**
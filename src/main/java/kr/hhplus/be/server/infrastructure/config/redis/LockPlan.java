@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 하나의 작업에 필요한 분산락 키 묶음
+ * 키를 정렬된 순서로 보관하여 어떤 작업이든 같은 순서로 획득하도록 보장 (교착 상태 방지)
+ */
+@Getter
+@EqualsAndHashCode
+public class LockPlan {
+
+    public static final String ORDER_USER_PREFIX = "order:user:";
+    public static final String PAYMENT_PREFIX = "payment:";
+    public static final String POINT_USER_PREFIX = "point:user:";
+
+    private final SortedSet<String> keys;
+    private final long waitTime;
+    private final long leaseTime;
+
+    private LockPlan(SortedSet<String> keys, long waitTime, long leaseTime) {
+        this.keys = Collections.unmodifiableSortedSet(keys);
+        this.waitTime = waitTime;
+        this.leaseTime = leaseTime;
+    }
+
+    public static LockPlan of(List<String> keys, long waitTime, long leaseTime) {
+        return new LockPlan(new TreeSet<>(keys), waitTime, leaseTime);
+    }
+
+    public static String orderUserKey(Long userId) {
+        return ORDER_USER_PREFIX + userId;
+    }
+
+    public static String paymentKey(Long orderId) {
+        return PAYMENT_PREFIX + orderId;
+    }
+
+    public static String pointUserKey(Long userId) {
+        return POINT_USER_PREFIX + userId;
+    }
+}
@@ -0,0 +1,274 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.exception.ApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_QUEUE_FULL;
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_WAIT_TIMEOUT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.UNEXPECTED_ERROR;
+
+/**
+ * 사용자 단위 메일박스 실행기
+ * 같은 사용자 락 키(order:user:, point:user:)를 요청한 작업을 키별 로컬 큐에 모아 하나씩 실행
+ * - 큐가 비어 있다가 작업이 들어오면 공용 스레드 풀에서 큐를 비우는(drain) 작업을 한 번만 예약
+ * - 한 번의 drain 은 분산락을 한 번만 획득한 채 대기 중인 작업을 최대 max-batch-size 건까지 연속 실행
+ *   같은 사용자 요청이 몰려도 요청마다 Redis 락 대기/획득을 반복하지 않고 로컬 큐 대기로 처리됨
+ * - 다른 인스턴스와의 상호 배제는 여전히 분산락이 보장 (로드밸런서가 사용자 단위로 라우팅하면 락 경합 없이 한 번에 획득)
+ * 호출 스레드는 작업이 끝날 때까지 최대 대기 시간만큼 대기하며, 시간이 지나면 아직 실행 전인 작업은 큐에서 빼고 실패 처리
+ * 이미 실행이 시작된 작업은 결과가 확정될 때까지 기다려 실제 결과를 돌려줌
+ * 진행 중인 트랜잭션이 있거나 이미 다른 락을 보유한 호출은 다른 스레드로 옮기면 트랜잭션/락 문맥을 잃으므로 메일박스를 거치지 않음
+ */
+@Slf4j
+@Component
+public class UserMailboxExecutor {
+
+    private final ConcurrentHashMap<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executorService;
+    private final boolean enabled;
+    private final int maxPending;
+    private final int maxBatchSize;
+    private final long maxBatchHoldNanos;
+
+    public UserMailboxExecutor(@Value("${distributed-lock.mailbox.enabled:false}") boolean enabled,
+                               @Value("${distributed-lock.mailbox.threads:16}") int threads,
+                               @Value("${distributed-lock.mailbox.max-pending:64}") int maxPending,
+                               @Value("${distributed-lock.mailbox.max-batch-size:16}") int maxBatchSize,
+                               @Value("${distributed-lock.mailbox.max-batch-hold-ms:2000}") long maxBatchHoldMillis) {
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchHoldNanos = TimeUnit.MILLISECONDS.toNanos(maxBatchHoldMillis);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-mailbox-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * 메일박스로 실행할 수 있는 호출인지 확인
+     * @param lockKey 락 키
+     * @param holdsOtherLocks 호출 스레드가 이미 다른 락을 보유 중인지 여부
+     */
+    public boolean accepts(String lockKey, boolean holdsOtherLocks) {
+        return enabled
+                && !holdsOtherLocks
+                && isUserKey(lockKey)
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * 작업을 키별 메일박스에 넣고 완료될 때까지 대기
+     * @param lockKey 락 키
+     * @param task 실행할 작업
+     * @param batchLocker 분산락을 획득한 채 전달받은 배치를 실행하는 함수
+     * @param waitTimeoutMillis 작업 완료까지 최대 대기 시간 (밀리초)
+     * @return 작업 결과
+     */
+    public <T> T execute(String lockKey, Supplier<T> task, Consumer<Runnable> batchLocker, long waitTimeoutMillis) {
+        PendingTask<T> pendingTask = new PendingTask<>(task);
+        Mailbox mailbox = reserve(lockKey);
+        mailbox.tasks.add(pendingTask);
+        schedule(lockKey, mailbox, batchLocker);
+        return await(lockKey, mailbox, pendingTask, waitTimeoutMillis);
+    }
+
+    int pendingCount(String lockKey) {
+        Mailbox mailbox = mailboxes.get(lockKey);
+        return mailbox == null ? 0 : mailbox.size.get();
+    }
+
+    /**
+     * 메일박스 자리 확보, 대기 작업 수 증가와 빈 메일박스 제거가 같은 키 안에서 원자적으로 일어나도록 compute 사용
+     */
+    private Mailbox reserve(String lockKey) {
+        AtomicBoolean full = new AtomicBoolean();
+        Mailbox mailbox = mailboxes.compute(lockKey, (key, current) -> {
+            Mailbox target = current == null ? new Mailbox() : current;
+            if (target.size.get() >= maxPending) {
+                full.set(true);
+            } else {
+                target.size.incrementAndGet();
+            }
+            return target;
+        });
+
+        if (full.get()) {
+            log.warn("락 대기열 초과 - 키: {}, 대기 작업 수: {}", lockKey, maxPending);
+            throw new ApiException(LOCK_QUEUE_FULL);
+        }
+        return mailbox;
+    }
+
+    private void schedule(String lockKey, Mailbox mailbox, Consumer<Runnable> batchLocker) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            executorService.execute(() -> drain(lockKey, mailbox, batchLocker));
+        }
+    }
+
+    private void drain(String lockKey, Mailbox mailbox, Consumer<Runnable> batchLocker) {
+        AtomicBoolean started = new AtomicBoolean();
+        try {
+            batchLocker.accept(() -> {
+                started.set(true);
+                runBatch(mailbox);
+            });
+        } catch (RuntimeException | Error e) {
+            if (!started.get()) {
+                // 락을 얻지 못했다면 같은 키를 기다리던 작업도 모두 같은 이유로 실패 처리
+                failQueued(mailbox, e);
+            }
+        } finally {
+            mailbox.scheduled.set(false);
+            mailboxes.computeIfPresent(lockKey, (key, current) -> current.size.get() == 0 ? null : current);
+            if (!mailbox.tasks.isEmpty()) {
+                schedule(lockKey, mailbox, batchLocker);
+            }
+        }
+    }
+
+    /**
+     * 락 유지 시간을 넘기지 않도록 최대 건수/최대 보유 시간까지만 연속 실행, 남은 작업은 다음 drain 에서 처리
+     */
+    private void runBatch(Mailbox mailbox) {
+        long deadline = System.nanoTime() + maxBatchHoldNanos;
+        int executed = 0;
+        PendingTask<?> pendingTask;
+        while (executed < maxBatchSize && System.nanoTime() < deadline
+                && (pendingTask = mailbox.tasks.poll()) != null) {
+            mailbox.size.decrementAndGet();
+            pendingTask.run();
+            executed++;
+        }
+    }
+
+    private void failQueued(Mailbox mailbox, Throwable cause) {
+        PendingTask<?> pendingTask;
+        while ((pendingTask = mailbox.tasks.poll()) != null) {
+            mailbox.size.decrementAndGet();
+            pendingTask.future.completeExceptionally(cause);
+        }
+    }
+
+    private <T> T await(String lockKey, Mailbox mailbox, PendingTask<T> pendingTask, long waitTimeoutMillis) {
+        try {
+            return pendingTask.future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(lockKey, e);
+        } catch (TimeoutException e) {
+            if (withdraw(lockKey, mailbox, pendingTask)) {
+                throw new ApiException(LOCK_WAIT_TIMEOUT);
+            }
+            return awaitStarted(lockKey, pendingTask, false);
+        } catch (InterruptedException e) {
+            if (withdraw(lockKey, mailbox, pendingTask)) {
+                Thread.currentThread().interrupt();
+                log.error("메일박스 작업 대기 중 인터럽트 발생 - 키: {}", lockKey, e);
+                throw new ApiException(LOCK_WAIT_TIMEOUT);
+            }
+            return awaitStarted(lockKey, pendingTask, true);
+        }
+    }
+
+    /**
+     * 아직 큐에 남아 있는 작업이면 빼서 실행되지 않도록 함
+     * @return 큐에서 뺐다면 true, 이미 꺼내져 실행 중(또는 완료)이면 false
+     */
+    private boolean withdraw(String lockKey, Mailbox mailbox, PendingTask<?> pendingTask) {
+        if (!mailbox.tasks.remove(pendingTask)) {
+            return false;
+        }
+        mailbox.size.decrementAndGet();
+        mailboxes.computeIfPresent(lockKey, (key, current) ->
+                current.size.get() == 0 && !current.scheduled.get() ? null : current);
+        log.warn("메일박스 작업 대기 시간 초과, 실행 전 작업 취소 - 키: {}", lockKey);
+        return true;
+    }
+
+    /**
+     * 이미 실행이 시작된 작업은 커밋될 수 있으므로 결과를 버리지 않고 끝날 때까지 대기
+     * 시간 초과로 응답하면 호출자는 실제로 반영된 요청을 실패로 오인하게 됨
+     * 대기 중 인터럽트는 기억해 두었다가 결과를 받은 뒤 복원
+     */
+    private <T> T awaitStarted(String lockKey, PendingTask<T> pendingTask, boolean interrupted) {
+        log.warn("메일박스 작업 대기 시간 초과, 이미 실행 중인 작업이 끝날 때까지 대기 - 키: {}", lockKey);
+        try {
+            while (true) {
+                try {
+                    return pendingTask.future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw rethrow(lockKey, e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private RuntimeException rethrow(String lockKey, ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        log.error("메일박스 작업 실행 중 예상치 못한 오류 발생 - 키: {}", lockKey, cause);
+        return new ApiException(UNEXPECTED_ERROR);
+    }
+
+    private static boolean isUserKey(String lockKey) {
+        return lockKey.startsWith(LockPlan.ORDER_USER_PREFIX) || lockKey.startsWith(LockPlan.POINT_USER_PREFIX);
+    }
+
+    private static class Mailbox {
+        private final Queue<PendingTask<?>> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private static class PendingTask<T> {
+        private final Supplier<T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingTask(Supplier<T> task) {
+            this.task = task;
+        }
+
+        private void run() {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
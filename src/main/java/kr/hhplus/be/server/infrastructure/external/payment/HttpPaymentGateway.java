@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.infrastructure.external.payment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import kr.hhplus.be.server.domain.payment.PaymentGateway;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayRequest;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * HTTP PG 승인 어댑터
+ * - JDK HttpClient 비동기 호출 (커넥션은 클라이언트 안에서 재사용), 요청별 응답 타임아웃
+ * - Bulkhead: 동시 PG 호출 수 제한, 초과 시 대기하지 않고 NOT_SENT
+ * - CircuitBreaker: 타임아웃/연결 오류/5xx 비율이 높으면 일정 시간 호출을 차단하고 NOT_SENT
+ * 응답 본문: {"status": "APPROVED" | "DECLINED", "transactionId": "...", "reason": "..."}
+ */
+@Slf4j
+@Component
+public class HttpPaymentGateway implements PaymentGateway {
+
+    private static final String APPROVE_PATH = "/v1/payments/approve";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI approveUri;
+    private final Duration requestTimeout;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public HttpPaymentGateway(ObjectMapper objectMapper,
+                              @Value("${payment.gateway.base-url:http://localhost:18080}") String baseUrl,
+                              @Value("${payment.gateway.connect-timeout-ms:1000}") long connectTimeoutMillis,
+                              @Value("${payment.gateway.request-timeout-ms:3000}") long requestTimeoutMillis,
+                              @Value("${payment.gateway.max-concurrent-calls:50}") int maxConcurrentCalls,
+                              @Value("${payment.gateway.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                              @Value("${payment.gateway.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                              @Value("${payment.gateway.circuit-breaker.wait-in-open-state-ms:10000}") long waitInOpenStateMillis) {
+        this.objectMapper = objectMapper;
+        this.approveUri = URI.create(baseUrl + APPROVE_PATH);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        this.bulkhead = Bulkhead.of("payment-gateway", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.circuitBreaker = CircuitBreaker.of("payment-gateway", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenStateMillis))
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<PaymentGatewayResult> approve(PaymentGatewayRequest request) {
+        CompletionStage<PaymentGatewayResult> call = Bulkhead.decorateCompletionStage(bulkhead,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker, () -> send(request))).get();
+
+        return call.toCompletableFuture()
+                .exceptionally(e -> toFailureResult(request, e));
+    }
+
+    CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private CompletionStage<PaymentGatewayResult> send(PaymentGatewayRequest request) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(approveUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", request.getIdempotencyKey())
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(request)))
+                .build();
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> toResult(request, response));
+    }
+
+    /**
+     * 5xx 는 PG 처리 여부를 알 수 없으므로 예외로 던져 서킷 브레이커 실패로 집계
+     */
+    private PaymentGatewayResult toResult(PaymentGatewayRequest request, HttpResponse<String> response) {
+        if (response.statusCode() >= 500) {
+            throw new PaymentGatewayServerException(response.statusCode());
+        }
+
+        JsonNode body = readJson(response.body());
+        if (response.statusCode() == 200 && "APPROVED".equals(body.path("status").asText())) {
+            log.info("PG 승인 완료 - 결제 ID: {}, 거래 ID: {}", request.getPaymentId(), body.path("transactionId").asText());
+            return PaymentGatewayResult.approved(body.path("transactionId").asText());
+        }
+
+        String reason = body.path("reason").asText("HTTP " + response.statusCode());
+        log.warn("PG 승인 거절 - 결제 ID: {}, 사유: {}", request.getPaymentId(), reason);
+        return PaymentGatewayResult.declined(reason);
+    }
+
+    private PaymentGatewayResult toFailureResult(PaymentGatewayRequest request, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+            log.warn("PG 승인 요청 차단 - 결제 ID: {}, 사유: {}", request.getPaymentId(), cause.getMessage());
+            return PaymentGatewayResult.notSent(cause.getClass().getSimpleName());
+        }
+        log.error("PG 승인 결과 확인 불가 - 결제 ID: {}", request.getPaymentId(), cause);
+        return PaymentGatewayResult.unknown(cause.getClass().getSimpleName());
+    }
+
+    private String toJson(PaymentGatewayRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paymentId", request.getPaymentId());
+        body.put("orderId", request.getOrderId());
+        body.put("amount", request.getAmount());
+        body.put("method", request.getPaymentMethod().name());
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readJson(String body) {
+        try {
+            return objectMapper.readTree(body == null || body.isBlank() ? "{}" : body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * PG 서버 오류 (처리 여부 불명)
+     */
+    static class PaymentGatewayServerException extends RuntimeException {
+        PaymentGatewayServerException(int statusCode) {
+            super("PG 서버 오류: HTTP " + statusCode);
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package kr.hhplus.be.server.infrastructure.kafka.coupon;
 
-import kr.hhplus.be.server.common.exception.ApiException;
 import kr.hhplus.be.server.common.exception.RetryableException;
-import kr.hhplus.be.server.domain.coupon.Coupon;
 import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
 import kr.hhplus.be.server.domain.coupon.CouponRepository;
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
@@ -10,128 +8,194 @@ import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
 import kr.hhplus.be.server.infrastructure.config.kafka.KafkaTopicConstants;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueRequestEventDto;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import static kr.hhplus.be.server.common.exception.ErrorCode.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
+import static kr.hhplus.be.server.common.exception.ErrorCode.COUPON_NOT_FOUND;
+
+/**
+ * 쿠폰 발급 요청 배치 Consumer
+ * 한 번의 poll 로 받은 요청을 쿠폰 ID 별로 묶어 한 트랜잭션에서 처리
+ * - 쿠폰별로 재고 잠금 조회 1회, 기발급 사용자 조회 1회, 조건부 UPDATE 1회로 당첨 수량만큼 재고를 차감
+ *   잠금 조회(FOR UPDATE)는 최신 커밋 값을 읽고 행을 잠그므로 조회한 재고만큼은 반드시 차감됨
+ * - 당첨된 UserCoupon 은 배치 INSERT 로 저장
+ * - 커밋 후 결과 이벤트를 모두 전송 버퍼에 넣고 flush 한 번으로 발행한 뒤 배치 전체를 ack
+ *   결과 발행에 실패하면 ack 하지 않고 예외를 던져 배치를 다시 전달받음
+ *   (이미 커밋된 당첨자는 재처리 시 기발급 사용자로 걸러져 DUPLICATE_ISSUED 로 발행되며 재고는 다시 차감되지 않음)
+ * 같은 쿠폰 ID의 요청은 같은 파티션에서 순차 처리되므로 배치 안의 순서(오프셋 순)대로 선착순 당첨
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CouponIssueConsumer {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponKafkaEventService couponKafkaEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final long retryBackoffMillis;
+
+    public CouponIssueConsumer(CouponRepository couponRepository,
+                               UserCouponRepository userCouponRepository,
+                               CouponKafkaEventService couponKafkaEventService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${coupon.issue.consumer.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.couponKafkaEventService = couponKafkaEventService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
 
     /**
-     * 쿠폰 발급 요청을 처리하는 Kafka Consumer
-     * 같은 쿠폰 ID의 요청은 같은 파티션에서 순차 처리됨
+     * 쿠폰 발급 요청 배치 처리
+     * - 일시적 오류: 배치 트랜잭션이 롤백되므로 ACK 하지 않고 예외를 던져 배치 전체를 재전달
+     * - 그 외 오류: 어떤 요청이 원인인지 알 수 없으므로 요청별 트랜잭션으로 다시 처리하여 실패한 요청만 실패 결과를 발행
      */
     @KafkaListener(
             topics = KafkaTopicConstants.COUPON_ISSUE_REQUEST,
             groupId = "coupon-issue-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "couponIssueBatchKafkaListenerContainerFactory"
     )
-    @Transactional
-    public void handleCouponIssueRequest(
-            @Payload CouponIssueRequestEventDto requestEvent,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment ack) {
-        
-        log.debug("쿠폰 발급 요청 처리 시작 - 파티션: {}, 오프셋: {}, 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}",
-                partition, offset, requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId());
-        
-        try {
-            CouponIssueResult result = processCouponIssue(requestEvent);
-            publishResult(result);
+    public void handleCouponIssueRequests(@Payload List<CouponIssueRequestEventDto> requestEvents, Acknowledgment ack) {
+        log.debug("쿠폰 발급 요청 배치 처리 시작 - 건수: {}", requestEvents.size());
 
-            if (result.isSuccess()) {
-                log.debug("쿠폰 발급 처리 완료 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, UserCoupon ID: {}, 남은 재고: {}",
-                        requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId(),
-                        result.getUserCouponId(), result.getRemainingStock());
-            } else {
-                log.warn("쿠폰 발급 실패 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, 사유: {}",
-                        requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId(), result.getErrorMessage());
-            }
-            
-            ack.acknowledge();
-            
-        } catch (RetryableException e) {
-            log.warn("일시적 오류 발생, 재시도 예정 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, 오류: {}",
-                    requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId(), e.getMessage());
+        List<CouponIssueResult> results;
+        try {
+            results = transactionTemplate.execute(status -> processBatch(requestEvents));
+        } catch (RetryableException | DataAccessException e) {
+            log.warn("일시적 오류 발생, 배치 재시도 예정 - 건수: {}, 오류: {}", requestEvents.size(), e.getMessage());
             // ACK 처리 X
-            throw e;
+            throw e instanceof RetryableException retryable ? retryable : new RetryableException("데이터베이스 접근 오류", e);
         } catch (Exception e) {
-            log.error("처리 불가능한 오류 발생 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, 오류: {}",
-                    requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId(), e.getMessage());
-
-            handleNonRetryableError(requestEvent, e);
-            ack.acknowledge();
+            log.error("쿠폰 발급 배치 처리 실패, 요청별로 다시 처리 - 건수: {}, 오류: {}", requestEvents.size(), e.getMessage());
+            processIndividually(requestEvents, ack);
+            return;
         }
+
+        publishResults(results);
+        ack.acknowledge();
+        logSummary(results);
     }
 
-    private CouponIssueResult processCouponIssue(CouponIssueRequestEventDto requestEvent) {
-        try {
-            Coupon coupon = findCouponById(requestEvent.getCouponId());
-            
-            if (isAlreadyIssued(requestEvent.getUserId(), requestEvent.getCouponId())) {
-                return CouponIssueResult.duplicateIssued(requestEvent, "이미 발급받은 쿠폰입니다.");
-            }
-            
-            if (coupon.getStock() <= 0) {
-                return CouponIssueResult.outOfStock(requestEvent, "쿠폰 재고가 부족합니다.");
+    /**
+     * 요청별 트랜잭션으로 처리
+     * 일시적 오류가 나면 그 앞까지의 결과만 발행/커밋하고 해당 요청부터 다시 전달받음
+     */
+    private void processIndividually(List<CouponIssueRequestEventDto> requestEvents, Acknowledgment ack) {
+        List<CouponIssueResult> results = new ArrayList<>();
+        for (int index = 0; index < requestEvents.size(); index++) {
+            CouponIssueRequestEventDto requestEvent = requestEvents.get(index);
+            try {
+                results.addAll(transactionTemplate.execute(status -> processBatch(List.of(requestEvent))));
+            } catch (RetryableException | DataAccessException e) {
+                log.warn("일시적 오류 발생, 재시도 예정 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, 오류: {}",
+                        requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId(), e.getMessage());
+                publishResults(results);
+                ack.nack(index, Duration.ofMillis(retryBackoffMillis));
+                return;
+            } catch (Exception e) {
+                log.error("처리 불가능한 오류 발생 - 요청 ID: {}, 사용자 ID: {}, 쿠폰 ID: {}, 오류: {}",
+                        requestEvent.getRequestId(), requestEvent.getUserId(), requestEvent.getCouponId(), e.getMessage());
+                results.add(createErrorResult(requestEvent, e.getMessage()));
             }
-            
-            return issueCoupon(requestEvent, coupon);
-            
-        } catch (OptimisticLockingFailureException e) {
-            throw new RetryableException("쿠폰 발급 중 동시성 충돌 발생", e);
-        } catch (DataAccessException e) {
-            throw new RetryableException("데이터베이스 접근 오류", e);
         }
-    }
 
-    private CouponIssueResult issueCoupon(CouponIssueRequestEventDto requestEvent, Coupon coupon) {
-        coupon.decreaseStock();
-        couponRepository.save(coupon);
-        
-        UserCoupon userCoupon = UserCoupon.of(requestEvent.getUserId(), requestEvent.getCouponId());
-        UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
-        
-        return CouponIssueResult.success(requestEvent, savedUserCoupon.getId(), coupon.getStock());
+        publishResults(results);
+        ack.acknowledge();
+        logSummary(results);
     }
 
-    private void publishResult(CouponIssueResult result) {
-        CouponIssueResultEventDto resultEvent = result.toEventDto();
-        couponKafkaEventService.publishCouponIssueResult(resultEvent);
+    /**
+     * 쿠폰 ID 별로 묶어 발급 (호출자 트랜잭션 안에서 실행)
+     */
+    List<CouponIssueResult> processBatch(List<CouponIssueRequestEventDto> requestEvents) {
+        // 쿠폰 ID 순서로 잠가 여러 쿠폰을 묶은 배치끼리 교착되지 않도록 함
+        Map<Long, List<CouponIssueRequestEventDto>> requestsByCouponId = new TreeMap<>();
+        for (CouponIssueRequestEventDto requestEvent : requestEvents) {
+            requestsByCouponId.computeIfAbsent(requestEvent.getCouponId(), couponId -> new ArrayList<>()).add(requestEvent);
+        }
+
+        List<CouponIssueResult> results = new ArrayList<>(requestEvents.size());
+        requestsByCouponId.forEach((couponId, requests) -> results.addAll(issueCoupons(couponId, requests)));
+        return results;
     }
 
-    private void handleNonRetryableError(CouponIssueRequestEventDto requestEvent, Exception e) {
-        CouponIssueResult errorResult = createErrorResult(requestEvent, e);
-        publishResult(errorResult);
+    /**
+     * 한 쿠폰에 대한 요청 묶음 처리
+     * 1. 이미 발급받은 사용자(배치 안의 중복 요청 포함) 제외
+     * 2. 남은 재고만큼 앞선 요청부터 당첨시키고 조건부 UPDATE 한 번으로 차감
+     * 3. 당첨자 UserCoupon 일괄 저장
+     */
+    private List<CouponIssueResult> issueCoupons(Long couponId, List<CouponIssueRequestEventDto> requests) {
+        List<CouponIssueResult> results = new ArrayList<>(requests.size());
+
+        Optional<Long> currentStock = couponRepository.findStockByIdForUpdate(couponId);
+        if (currentStock.isEmpty()) {
+            requests.forEach(request -> results.add(createErrorResult(request, COUPON_NOT_FOUND.getMessage())));
+            return results;
+        }
+
+        Set<Long> issuedUserIds = new HashSet<>(userCouponRepository.findIssuedUserIds(couponId,
+                requests.stream().map(CouponIssueRequestEventDto::getUserId).distinct().toList()));
+        List<CouponIssueRequestEventDto> eligibleRequests = new ArrayList<>();
+        for (CouponIssueRequestEventDto request : requests) {
+            if (issuedUserIds.add(request.getUserId())) {
+                eligibleRequests.add(request);
+            } else {
+                results.add(CouponIssueResult.duplicateIssued(request, "이미 발급받은 쿠폰입니다."));
+            }
+        }
+
+        long stock = currentStock.get();
+        int granted = (int) Math.max(0, Math.min(stock, eligibleRequests.size()));
+        if (granted > 0 && !couponRepository.decreaseStock(couponId, granted)) {
+            // 행을 잠근 채 조회한 재고이므로 일어나지 않아야 함, 배치 트랜잭션을 롤백하고 다시 전달받음
+            throw new RetryableException("쿠폰 재고 차감 실패 - 쿠폰 ID: " + couponId);
+        }
+
+        List<CouponIssueRequestEventDto> winners = eligibleRequests.subList(0, granted);
+        List<UserCoupon> savedUserCoupons = userCouponRepository.saveAll(winners.stream()
+                .map(request -> UserCoupon.of(request.getUserId(), couponId))
+                .toList());
+        long remainingStock = stock - granted;
+        for (int i = 0; i < winners.size(); i++) {
+            results.add(CouponIssueResult.success(winners.get(i), savedUserCoupons.get(i).getId(), remainingStock));
+        }
+        eligibleRequests.subList(granted, eligibleRequests.size())
+                .forEach(request -> results.add(CouponIssueResult.outOfStock(request, "쿠폰 재고가 부족합니다.")));
+        return results;
     }
 
-    private CouponIssueResult createErrorResult(CouponIssueRequestEventDto requestEvent, Exception e) {
-        return CouponIssueResult.error(requestEvent, "쿠폰 발급 처리 중 오류가 발생했습니다: " + e.getMessage());
+    private void publishResults(List<CouponIssueResult> results) {
+        List<CouponIssueResultEventDto> resultEvents = results.stream()
+                .map(CouponIssueResult::toEventDto)
+                .toList();
+        couponKafkaEventService.publishCouponIssueResults(resultEvents);
     }
 
-    private Coupon findCouponById(Long couponId) {
-        return couponRepository.findById(couponId)
-                .orElseThrow(() -> new ApiException(COUPON_NOT_FOUND));
+    private void logSummary(List<CouponIssueResult> results) {
+        long successCount = results.stream().filter(CouponIssueResult::isSuccess).count();
+        log.info("쿠폰 발급 요청 배치 처리 완료 - 건수: {}, 성공: {}, 실패: {}",
+                results.size(), successCount, results.size() - successCount);
     }
 
-    private boolean isAlreadyIssued(Long userId, Long couponId) {
-        return userCouponRepository.existsByUserIdAndCouponId(userId, couponId);
+    private CouponIssueResult createErrorResult(CouponIssueRequestEventDto requestEvent, String message) {
+        return CouponIssueResult.error(requestEvent, "쿠폰 발급 처리 중 오류가 발생했습니다: " + message);
     }
-} 
\ No newline at end of file
+}
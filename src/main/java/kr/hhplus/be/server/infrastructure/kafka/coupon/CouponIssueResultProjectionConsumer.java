@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.infrastructure.kafka.coupon;
+
+import kr.hhplus.be.server.application.coupon.CouponIssueGate;
+import kr.hhplus.be.server.application.coupon.CouponIssueStatusService;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.infrastructure.config.kafka.KafkaTopicConstants;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 쿠폰 발급 결과를 Redis 프로젝션에 반영하는 Consumer
+ * 발급에 실패한 결과는 {@link CouponIssueGate} 의 선점도 반환 (coupon.issue.mode=redis)
+ * 반영과 반환 모두 요청 ID 기준으로 멱등이므로 Redis 오류 시 ACK 하지 않고 배치 전체를 다시 전달받아 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueResultProjectionConsumer {
+
+    private final CouponIssueStatusService couponIssueStatusService;
+    private final CouponIssueGate couponIssueGate;
+
+    @KafkaListener(
+            topics = KafkaTopicConstants.COUPON_ISSUE_RESULT,
+            groupId = "coupon-issue-result-projection-group",
+            containerFactory = "couponIssueBatchKafkaListenerContainerFactory"
+    )
+    public void handleCouponIssueResults(@Payload List<CouponIssueResultEventDto> resultEvents, Acknowledgment ack) {
+        int projected = 0;
+        for (CouponIssueResultEventDto resultEvent : resultEvents) {
+            try {
+                if (couponIssueStatusService.project(resultEvent)) {
+                    projected++;
+                }
+                if (!resultEvent.isSuccess() && couponIssueGate.isEnabled()) {
+                    couponIssueGate.releaseRejected(resultEvent.getRequestId(), resultEvent.getUserId(),
+                            resultEvent.getCouponId(), resultEvent.getFailureType());
+                }
+            } catch (DataAccessException e) {
+                log.warn("쿠폰 발급 결과 반영 실패, 재시도 예정 - 요청 ID: {}, 오류: {}", resultEvent.getRequestId(), e.getMessage());
+                // ACK 처리 X
+                throw new RetryableException("쿠폰 발급 결과 반영 실패", e);
+            }
+        }
+
+        ack.acknowledge();
+        log.debug("쿠폰 발급 결과 반영 완료 - 수신: {}, 반영: {}", resultEvents.size(), projected);
+    }
+}
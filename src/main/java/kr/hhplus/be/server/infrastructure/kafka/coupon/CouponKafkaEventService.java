@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.infrastructure.kafka.coupon;
 
+import kr.hhplus.be.server.common.exception.RetryableException;
 import kr.hhplus.be.server.infrastructure.config.kafka.KafkaTopicConstants;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueRequestEventDto;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
@@ -9,13 +10,21 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponKafkaEventService {
 
+    // flush 이후에는 전송이 끝나 있어야 하므로 완료 확인만을 위한 짧은 대기
+    private static final long RESULT_SEND_TIMEOUT_SECONDS = 10;
+
     private final KafkaTemplate<String, CouponIssueRequestEventDto> couponIssueRequestKafkaTemplate;
     private final KafkaTemplate<String, CouponIssueResultEventDto> couponIssueResultKafkaTemplate;
 
@@ -65,4 +74,39 @@ public class CouponKafkaEventService {
                     }
                 });
     }
-} 
\ No newline at end of file
+
+    /**
+     * 쿠폰 발급 결과 이벤트 일괄 발행
+     * 모든 결과를 전송 버퍼에 넣은 뒤 flush 한 번으로 브로커에 전송 (요청 배치를 ack 하기 전에 호출)
+     * 한 건이라도 전송에 실패하면 RetryableException 을 던져 호출자가 요청 배치를 ack 하지 않고 다시 전달받게 함
+     */
+    public void publishCouponIssueResults(List<CouponIssueResultEventDto> resultEvents) {
+        if (resultEvents.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<SendResult<String, CouponIssueResultEventDto>>> futures = new ArrayList<>(resultEvents.size());
+        for (CouponIssueResultEventDto resultEvent : resultEvents) {
+            futures.add(couponIssueResultKafkaTemplate.send(KafkaTopicConstants.COUPON_ISSUE_RESULT, resultEvent.getCouponId().toString(), resultEvent)
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            log.error("쿠폰 발급 결과 이벤트 발행 실패 - 요청 ID: {}", resultEvent.getRequestId(), throwable);
+                        }
+                    }));
+        }
+        couponIssueResultKafkaTemplate.flush();
+        awaitSent(futures);
+        log.info("쿠폰 발급 결과 이벤트 일괄 발행 - 건수: {}", resultEvents.size());
+    }
+
+    private void awaitSent(List<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(RESULT_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new RetryableException("쿠폰 발급 결과 이벤트 발행 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryableException("쿠폰 발급 결과 이벤트 발행 대기 중 인터럽트 발생", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.infrastructure.kafka.order;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import kr.hhplus.be.server.infrastructure.config.kafka.KafkaTopicConstants;
+import kr.hhplus.be.server.interfaces.web.order.dto.event.OrderPlacementRequestEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_CREATION_FAILED;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderKafkaEventService {
+
+    private static final long SEND_TIMEOUT_SECONDS = 3;
+
+    private final KafkaTemplate<String, OrderPlacementRequestEventDto> orderPlacementRequestKafkaTemplate;
+
+    /**
+     * 접수된 주문의 처리 요청 이벤트를 Kafka로 발행
+     * 클라이언트에게 접수 완료를 응답하기 전에 브로커 기록까지 확인
+     */
+    public void publishOrderPlacementRequest(Order order, List<OrderProduct> orderProducts) {
+        OrderPlacementRequestEventDto event = OrderPlacementRequestEventDto.of(order, orderProducts);
+        String key = order.getUserId().toString(); // 사용자 ID를 키로 사용하여 같은 사용자의 주문은 순차 처리
+
+        try {
+            SendResult<String, OrderPlacementRequestEventDto> result = orderPlacementRequestKafkaTemplate
+                    .send(KafkaTopicConstants.ORDER_PLACEMENT_REQUEST, key, event)
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            log.info("주문 처리 요청 이벤트 발행 성공 - 주문 ID: {}, 사용자 ID: {}, 파티션: {}, 오프셋: {}",
+                    order.getId(), order.getUserId(),
+                    result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ORDER_CREATION_FAILED);
+        } catch (Exception e) {
+            log.error("주문 처리 요청 이벤트 발행 실패 - 주문 ID: {}, 사용자 ID: {}", order.getId(), order.getUserId(), e);
+            throw new ApiException(ORDER_CREATION_FAILED);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.infrastructure.kafka.order;
+
+import kr.hhplus.be.server.application.order.OrderService;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.infrastructure.config.kafka.KafkaTopicConstants;
+import kr.hhplus.be.server.interfaces.web.order.dto.event.OrderPlacementRequestEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPlacementConsumer {
+
+    private final OrderService orderService;
+
+    /**
+     * 접수된 주문을 처리하는 Kafka Consumer
+     * 같은 사용자의 주문은 같은 파티션에서 순차 처리되고, 파티션 간에는 concurrency 만큼 병렬 처리
+     * 처리에 실패한 주문은 FAILED 상태로 기록하고 ACK 하여 클라이언트가 상태 조회로 결과를 확인
+     * 일시적 오류(DB 장애, 락 대기 시간 초과 등)는 주문 트랜잭션이 롤백되어 주문이 WAITING 으로 남으므로
+     * ACK 하지 않고 예외를 던져 재전달받음 (재처리 시 WAITING 이 아닌 주문은 건너뜀)
+     */
+    @KafkaListener(
+            topics = KafkaTopicConstants.ORDER_PLACEMENT_REQUEST,
+            groupId = "order-placement-group",
+            containerFactory = "kafkaListenerContainerFactory",
+            concurrency = "${order.async.consumer-concurrency:3}"
+    )
+    public void handleOrderPlacementRequest(
+            @Payload OrderPlacementRequestEventDto requestEvent,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment ack) {
+
+        log.debug("주문 처리 요청 수신 - 파티션: {}, 오프셋: {}, 주문 ID: {}, 사용자 ID: {}",
+                partition, offset, requestEvent.getOrderId(), requestEvent.getUserId());
+
+        try {
+            orderService.placeAcceptedOrder(requestEvent.getOrderId(), requestEvent.getUserId(), requestEvent.toOrderProducts());
+        } catch (RetryableException | DataAccessException | TransactionException e) {
+            log.warn("일시적 오류 발생, 재시도 예정 - 주문 ID: {}, 오류: {}", requestEvent.getOrderId(), e.getMessage());
+            // ACK 처리 X
+            throw e instanceof RetryableException retryable ? retryable : new RetryableException("주문 처리 중 일시적 오류", e);
+        } catch (ApiException e) {
+            log.warn("주문 처리 실패 - 주문 ID: {}, 사유: {}", requestEvent.getOrderId(), e.getMessage());
+            orderService.markOrderAsFailed(requestEvent.getOrderId());
+        } catch (Exception e) {
+            log.error("주문 처리 중 예기치 못한 오류 - 주문 ID: {}", requestEvent.getOrderId(), e);
+            orderService.markOrderAsFailed(requestEvent.getOrderId());
+        }
+
+        ack.acknowledge();
+    }
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.infrastructure.persistence.coupon;
 import kr.hhplus.be.server.domain.coupon.Coupon;
 import kr.hhplus.be.server.domain.coupon.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,7 +12,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CouponRepositoryImpl implements CouponRepository {
 
+    private static final String FIND_STOCK_FOR_UPDATE_SQL =
+            "SELECT stock FROM coupon WHERE coupon_id = ? FOR UPDATE";
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE coupon SET stock = stock - ? WHERE coupon_id = ? AND stock >= ?";
+
     private final CouponJpaRepository couponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Coupon save(Coupon coupon) {
@@ -22,4 +29,14 @@ public class CouponRepositoryImpl implements CouponRepository {
     public Optional<Coupon> findById(Long id) {
         return couponJpaRepository.findById(id);
     }
+
+    @Override
+    public Optional<Long> findStockByIdForUpdate(Long couponId) {
+        return jdbcTemplate.queryForList(FIND_STOCK_FOR_UPDATE_SQL, Long.class, couponId).stream().findFirst();
+    }
+
+    @Override
+    public boolean decreaseStock(Long couponId, long quantity) {
+        return jdbcTemplate.update(DECREASE_STOCK_SQL, quantity, couponId, quantity) > 0;
+    }
 }
@@ -2,10 +2,19 @@ package kr.hhplus.be.server.infrastructure.persistence.coupon;
 
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserCouponJpaRepository extends JpaRepository<UserCoupon, Long> {
     List<UserCoupon> findByUserIdAndIsUsedFalse(Long userId);
     boolean existsByUserIdAndCouponId(Long userId, Long couponId);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
 }
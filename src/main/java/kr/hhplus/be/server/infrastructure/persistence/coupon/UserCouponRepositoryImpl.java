@@ -5,6 +5,7 @@ import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,14 @@ public class UserCouponRepositoryImpl implements UserCouponRepository {
         return userCouponJpaRepository.save(userCoupon);
     }
 
+    /**
+     * ID 를 애플리케이션에서 채번하므로 flush 시점에 하나의 배치 INSERT 로 전송됨
+     */
+    @Override
+    public List<UserCoupon> saveAll(List<UserCoupon> userCoupons) {
+        return userCouponJpaRepository.saveAll(userCoupons);
+    }
+
     @Override
     public Optional<UserCoupon> findById(Long userCouponId) {
         return userCouponJpaRepository.findById(userCouponId);
@@ -38,4 +47,17 @@ public class UserCouponRepositoryImpl implements UserCouponRepository {
     public boolean existsByUserIdAndCouponId(Long userId, Long couponId) {
         return userCouponJpaRepository.existsByUserIdAndCouponId(userId, couponId);
     }
+
+    @Override
+    public List<Long> findUserIdsByCouponId(Long couponId) {
+        return userCouponJpaRepository.findUserIdsByCouponId(couponId);
+    }
+
+    @Override
+    public List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userCouponJpaRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds);
+    }
 }
@@ -5,6 +5,8 @@ import kr.hhplus.be.server.domain.order.OrderProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class OrderProductRepositoryImpl implements OrderProductRepository {
@@ -15,4 +17,14 @@ public class OrderProductRepositoryImpl implements OrderProductRepository {
     public void save(OrderProduct orderProduct) {
         orderProductJpaRepository.save(orderProduct);
     }
+
+    @Override
+    public void saveAll(List<OrderProduct> orderProducts) {
+        orderProductJpaRepository.saveAll(orderProducts);
+    }
+
+    @Override
+    public List<OrderProduct> findByOrderId(Long orderId) {
+        return orderProductJpaRepository.findByOrderId(orderId);
+    }
 }
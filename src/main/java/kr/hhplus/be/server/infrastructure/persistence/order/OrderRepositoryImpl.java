@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
@@ -18,6 +19,11 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.save(order);
     }
 
+    @Override
+    public Optional<Order> findById(Long orderId) {
+        return orderJpaRepository.findById(orderId);
+    }
+
     @Override
     public List<Order> findAll() {
         return orderJpaRepository.findAll();
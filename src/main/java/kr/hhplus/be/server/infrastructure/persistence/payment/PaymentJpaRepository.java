@@ -1,11 +1,23 @@
 package kr.hhplus.be.server.infrastructure.persistence.payment;
 
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByIdempotencyKey(String idempotencyKey);
     boolean existsByIdempotencyKey(String idempotencyKey);
+
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.paymentMethod <> :excludedMethod AND p.id < :beforeId ORDER BY p.id ASC")
+    List<Payment> findByStatusExcludingMethodBefore(@Param("status") PaymentStatus status,
+                                                    @Param("excludedMethod") PaymentMethod excludedMethod,
+                                                    @Param("beforeId") Long beforeId,
+                                                    Pageable pageable);
 }
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 승인 아웃박스 항목
+ * attempts: 지금까지 승인을 시도했다가 일시적 오류로 미뤄진 횟수
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentOutboxEntry {
+    private final Long outboxId;
+    private final Long paymentId;
+    private final Long orderId;
+    private final Long userId;
+    private final int attempts;
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 결제 승인 아웃박스(payment_outbox) 접근
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO payment_outbox (payment_id, order_id, user_id, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, 0, NOW(6), NOW(6))";
+    // 다른 릴레이가 잠근 행은 건너뛰므로 여러 인스턴스가 대기 없이 서로 다른 행을 가져감
+    private static final String SELECT_DUE_FOR_UPDATE_SQL =
+            "SELECT outbox_id, payment_id, order_id, user_id, attempts FROM payment_outbox " +
+            "WHERE next_attempt_at <= NOW(6) ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_SQL =
+            "UPDATE payment_outbox SET next_attempt_at = NOW(6) + INTERVAL ? SECOND WHERE outbox_id = ?";
+    private static final String RESCHEDULE_SQL =
+            "UPDATE payment_outbox SET attempts = attempts + 1, next_attempt_at = NOW(6) + INTERVAL ? SECOND WHERE outbox_id = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM payment_outbox WHERE outbox_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(Long paymentId, Long orderId, Long userId) {
+        jdbcTemplate.update(INSERT_SQL, paymentId, orderId, userId);
+    }
+
+    /**
+     * 처리할 항목을 잠근 뒤 임대 시간만큼 뒤로 미뤄 다른 릴레이가 가져가지 않게 함 (호출자 트랜잭션 안에서 실행)
+     * 임대 시간 안에 처리(삭제/재예약)되지 않으면 다시 가져갈 수 있음
+     */
+    public List<PaymentOutboxEntry> claimDue(int limit, long leaseSeconds) {
+        List<PaymentOutboxEntry> entries = jdbcTemplate.query(SELECT_DUE_FOR_UPDATE_SQL,
+                (rs, rowNum) -> new PaymentOutboxEntry(
+                        rs.getLong("outbox_id"),
+                        rs.getLong("payment_id"),
+                        rs.getLong("order_id"),
+                        rs.getLong("user_id"),
+                        rs.getInt("attempts")),
+                limit);
+        if (!entries.isEmpty()) {
+            jdbcTemplate.batchUpdate(LEASE_SQL, entries, entries.size(), (ps, entry) -> {
+                ps.setLong(1, leaseSeconds);
+                ps.setLong(2, entry.getOutboxId());
+            });
+        }
+        return entries;
+    }
+
+    public void reschedule(Long outboxId, long delaySeconds) {
+        jdbcTemplate.update(RESCHEDULE_SQL, delaySeconds, outboxId);
+    }
+
+    public void delete(Long outboxId) {
+        jdbcTemplate.update(DELETE_SQL, outboxId);
+    }
+}
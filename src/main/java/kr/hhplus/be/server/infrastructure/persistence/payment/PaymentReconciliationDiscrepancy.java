@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 승인된 포인트 결제와 포인트 사용 이력의 건수 또는 금액이 맞지 않는 사용자
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentReconciliationDiscrepancy {
+    private final Long userId;
+    private final long paymentCount;
+    private final long paymentAmount;
+    private final long ledgerCount;
+    private final long ledgerAmount;
+}
@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 결제-포인트 사용 이력 대사 조회/기록
+ * 사용자 ID 범위 (fromUserId, toUserId] 단위로 사용자별 합계만 읽으며, 결과는 MySQL 스트리밍 fetch 로 한 행씩 전달
+ * 모든 조회는 트랜잭션 없이 한 문장씩 실행되므로 긴 트랜잭션이나 잠금을 만들지 않음
+ */
+@Repository
+public class PaymentReconciliationRepository {
+
+    private static final String FIND_PAYMENT_USER_RANGE_SQL =
+            "SELECT MIN(user_id), MAX(user_id) FROM orders";
+    private static final String FIND_POINT_USER_RANGE_SQL =
+            "SELECT MIN(user_id), MAX(user_id) FROM point";
+    private static final String FIND_LEDGER_USER_RANGE_SQL =
+            "SELECT MIN(user_id), MAX(user_id) FROM point_ledger";
+    private static final String PAYMENT_TOTALS_SQL =
+            "SELECT o.user_id, COUNT(*) AS cnt, SUM(p.amount) AS total FROM orders o " +
+            "JOIN payment p ON p.order_id = o.order_id " +
+            "WHERE o.user_id > ? AND o.user_id <= ? " +
+            "AND p.payment_method = 'POINT' AND p.status = 'APPROVED' AND p.approved_at < ? " +
+            "GROUP BY o.user_id";
+    private static final String HISTORY_USE_TOTALS_SQL =
+            "SELECT pt.user_id, SUM(h.created_at < ?) AS settled_cnt, " +
+            "SUM(CASE WHEN h.created_at < ? THEN h.amount ELSE 0 END) AS settled_total, " +
+            "COUNT(*) AS cnt, SUM(h.amount) AS total FROM point pt " +
+            "JOIN point_history h ON h.point_id = pt.point_id " +
+            "WHERE pt.user_id > ? AND pt.user_id <= ? " +
+            "AND h.transaction_type = 'USE' AND h.created_at < ? " +
+            "GROUP BY pt.user_id";
+    // 원장의 사용 금액은 음수로 저장됨
+    private static final String LEDGER_USE_TOTALS_SQL =
+            "SELECT user_id, SUM(created_at < ?) AS settled_cnt, " +
+            "-SUM(CASE WHEN created_at < ? THEN amount ELSE 0 END) AS settled_total, " +
+            "COUNT(*) AS cnt, -SUM(amount) AS total FROM point_ledger " +
+            "WHERE user_id > ? AND user_id <= ? " +
+            "AND transaction_type = 'USE' AND created_at < ? " +
+            "GROUP BY user_id";
+    private static final String INSERT_REPORT_SQL =
+            "INSERT INTO payment_reconciliation_report " +
+            "(run_id, user_id, payment_count, payment_amount, ledger_count, ledger_amount, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, NOW(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public PaymentReconciliationRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 번에 받지 않고 한 행씩 스트리밍
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 대사 대상 사용자 ID 범위 (결제 쪽과 포인트 쪽을 합친 범위, 데이터가 없으면 empty)
+     * @param fromLedger true 면 point_ledger, false 면 point 기준
+     */
+    public Optional<long[]> findUserIdRange(boolean fromLedger) {
+        long[] paymentRange = findRange(FIND_PAYMENT_USER_RANGE_SQL);
+        long[] pointRange = findRange(fromLedger ? FIND_LEDGER_USER_RANGE_SQL : FIND_POINT_USER_RANGE_SQL);
+        if (paymentRange == null && pointRange == null) {
+            return Optional.empty();
+        }
+        if (paymentRange == null || pointRange == null) {
+            return Optional.of(paymentRange == null ? pointRange : paymentRange);
+        }
+        return Optional.of(new long[]{
+                Math.min(paymentRange[0], pointRange[0]),
+                Math.max(paymentRange[1], pointRange[1])
+        });
+    }
+
+    private long[] findRange(String sql) {
+        return jdbcTemplate.query(sql, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+    }
+
+    /**
+     * 사용자별 승인된 포인트 결제 합계 (cutoff 이전 승인분)
+     */
+    public void streamPaymentTotals(long fromUserId, long toUserId, LocalDateTime cutoff, Consumer<UserPaymentTotal> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(
+                new UserPaymentTotal(rs.getLong("user_id"), rs.getLong("cnt"), rs.getLong("total")));
+        streamingJdbcTemplate.query(PAYMENT_TOTALS_SQL, handler, fromUserId, toUserId, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * 사용자별 포인트 사용 합계 (recordedBefore 이전 기록분, 그중 settledBefore 이전 기록분 합계 포함)
+     * @param fromLedger true 면 point_ledger, false 면 point_history 기준
+     */
+    public void streamUseTotals(boolean fromLedger, long fromUserId, long toUserId,
+                                LocalDateTime settledBefore, LocalDateTime recordedBefore,
+                                Consumer<UserUseTotal> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(new UserUseTotal(
+                rs.getLong("user_id"),
+                rs.getLong("settled_cnt"),
+                rs.getLong("settled_total"),
+                rs.getLong("cnt"),
+                rs.getLong("total")));
+        Timestamp settled = Timestamp.valueOf(settledBefore);
+        streamingJdbcTemplate.query(fromLedger ? LEDGER_USE_TOTALS_SQL : HISTORY_USE_TOTALS_SQL, handler,
+                settled, settled, fromUserId, toUserId, Timestamp.valueOf(recordedBefore));
+    }
+
+    public void insertDiscrepancies(String runId, List<PaymentReconciliationDiscrepancy> discrepancies) {
+        if (discrepancies.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_REPORT_SQL, discrepancies, discrepancies.size(), (ps, discrepancy) -> {
+            ps.setString(1, runId);
+            ps.setLong(2, discrepancy.getUserId());
+            ps.setLong(3, discrepancy.getPaymentCount());
+            ps.setLong(4, discrepancy.getPaymentAmount());
+            ps.setLong(5, discrepancy.getLedgerCount());
+            ps.setLong(6, discrepancy.getLedgerAmount());
+        });
+    }
+}
@@ -1,8 +1,11 @@
 package kr.hhplus.be.server.infrastructure.persistence.payment;
 
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentMethod;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -38,4 +41,13 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public List<Payment> findAll() {
         return paymentJpaRepository.findAll();
     }
+
+    /**
+     * PG 결제(CARD/CASH) 중 beforeId 이전에 생성되어 아직 PENDING 인 결제 (오래된 순)
+     */
+    @Override
+    public List<Payment> findPendingGatewayPayments(Long beforeId, int limit) {
+        return paymentJpaRepository.findByStatusExcludingMethodBefore(
+                PaymentStatus.PENDING, PaymentMethod.POINT, beforeId, PageRequest.of(0, limit));
+    }
 }
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대사용 사용자별 건수/금액 합계 (승인된 포인트 결제 또는 포인트 사용 이력)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPaymentTotal {
+    private final Long userId;
+    private final long count;
+    private final long amount;
+}
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대사용 사용자별 포인트 사용 합계
+ * 결제 승인 시각과 사용 기록 시각은 조금씩 어긋나므로, 확실히 끝난 사용분(settled)과 여유 시간까지 기록된 사용분을 함께 보관
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserUseTotal {
+    private final Long userId;
+    private final long settledCount;
+    private final long settledAmount;
+    private final long count;
+    private final long amount;
+
+    /**
+     * 결제 합계가 확실히 끝난 사용분 이상, 여유 시간까지 기록된 사용분 이하인지 확인
+     */
+    public boolean covers(long paymentCount, long paymentAmount) {
+        return settledCount <= paymentCount && paymentCount <= count
+                && settledAmount <= paymentAmount && paymentAmount <= amount;
+    }
+}
@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.infrastructure.persistence.point;
+
+import kr.hhplus.be.server.domain.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 이력 키셋 페이지 조회
+ * 커서(이전 페이지 마지막 ID)보다 작은 ID 를 최신순으로 limit 건만 읽으므로 페이지 깊이와 무관하게 일정한 비용
+ * - point_history: (point_id, point_history_id, ...) 커버링 인덱스만으로 처리
+ * - point_ledger: (user_id, ledger_seq) 인덱스로 범위를 찾고 limit 건만 행을 읽음, 사용 원장 금액은 양수로 변환
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryQueryRepository {
+
+    private static final String FIND_POINT_ID_SQL =
+            "SELECT point_id FROM point WHERE user_id = ? LIMIT 1";
+    private static final String FIND_HISTORIES_SQL =
+            "SELECT point_history_id AS id, amount, transaction_type, created_at FROM point_history " +
+            "WHERE point_id = ? AND point_history_id < ? ORDER BY point_history_id DESC LIMIT ?";
+    private static final String FIND_LEDGER_HISTORIES_SQL =
+            "SELECT ledger_seq AS id, ABS(amount) AS amount, transaction_type, created_at FROM point_ledger " +
+            "WHERE user_id = ? AND ledger_seq < ? ORDER BY ledger_seq DESC LIMIT ?";
+
+    private static final RowMapper<PointHistoryRow> ROW_MAPPER = (rs, rowNum) -> new PointHistoryRow(
+            rs.getLong("id"),
+            rs.getLong("amount"),
+            TransactionType.valueOf(rs.getString("transaction_type")),
+            rs.getTimestamp("created_at") == null ? null : rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findPointId(Long userId) {
+        return jdbcTemplate.queryForList(FIND_POINT_ID_SQL, Long.class, userId).stream().findFirst();
+    }
+
+    /**
+     * @param cursor 이 ID 보다 오래된 이력만 조회 (첫 페이지는 Long.MAX_VALUE)
+     */
+    public List<PointHistoryRow> findHistories(Long pointId, long cursor, int limit) {
+        return jdbcTemplate.query(FIND_HISTORIES_SQL, ROW_MAPPER, pointId, cursor, limit);
+    }
+
+    public List<PointHistoryRow> findLedgerHistories(Long userId, long cursor, int limit) {
+        return jdbcTemplate.query(FIND_LEDGER_HISTORIES_SQL, ROW_MAPPER, userId, cursor, limit);
+    }
+}
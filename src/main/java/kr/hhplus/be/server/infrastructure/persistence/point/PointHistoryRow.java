@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.infrastructure.persistence.point;
+
+import kr.hhplus.be.server.domain.point.TransactionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 조회 결과 (엔티티를 만들지 않는 조회 전용 값)
+ * id: 페이지 커서로 사용하는 정렬 키 (point_history_id 또는 원장 모드의 ledger_seq)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PointHistoryRow {
+    private final Long id;
+    private final long amount;
+    private final TransactionType transactionType;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.infrastructure.persistence.point;
+
+import kr.hhplus.be.server.domain.point.TransactionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 원장 추가 항목
+ * amount: 충전은 양수, 사용은 음수
+ * sourceId: 원장 출처 식별자 (중복 반영 방지용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PointLedgerEntry {
+    private final Long userId;
+    private final long amount;
+    private final TransactionType transactionType;
+    private final String sourceId;
+}
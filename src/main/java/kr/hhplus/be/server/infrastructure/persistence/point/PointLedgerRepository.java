@@ -0,0 +1,142 @@
+package kr.hhplus.be.server.infrastructure.persistence.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 원장(point_ledger) / 잔액 스냅샷(point_balance_snapshot) 접근
+ * 잔액 = 스냅샷 잔액 + 스냅샷 이후(ledger_seq > last_ledger_seq) 원장 합계
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepository {
+
+    private static final String TAIL_SUM =
+            "(SELECT COALESCE(SUM(l.amount), 0) FROM point_ledger l WHERE l.user_id = s.user_id AND l.ledger_seq > s.last_ledger_seq)";
+
+    // 조건부 원장 추가, 같은 사용자의 추가는 호출 전에 스냅샷 행을 배타 락으로 잡아 직렬화 (lockSnapshot)
+    // INSERT ... SELECT 가 거는 공유 락/갭 락끼리 교차하여 교착 상태가 나지 않도록 배타 락을 먼저 획득
+    private static final String APPEND_USE_SQL =
+            "INSERT INTO point_ledger (user_id, amount, transaction_type, created_at) " +
+            "SELECT s.user_id, ?, 'USE', NOW(6) FROM point_balance_snapshot s " +
+            "WHERE s.user_id = ? AND s.balance + " + TAIL_SUM + " >= ?";
+    private static final String APPEND_CHARGE_SQL =
+            "INSERT INTO point_ledger (user_id, amount, transaction_type, created_at) " +
+            "SELECT s.user_id, ?, 'CHARGE', NOW(6) FROM point_balance_snapshot s " +
+            "WHERE s.user_id = ? AND s.balance + " + TAIL_SUM + " + ? <= ?";
+    private static final String FIND_BALANCE_SQL =
+            "SELECT s.balance + " + TAIL_SUM + " FROM point_balance_snapshot s WHERE s.user_id = ?";
+    private static final String INITIALIZE_SNAPSHOT_SQL =
+            "INSERT IGNORE INTO point_balance_snapshot (user_id, balance, last_ledger_seq, updated_at) " +
+            "SELECT p.user_id, p.volume, 0, NOW(6) FROM point p WHERE p.user_id = ? LIMIT 1";
+    // 이미 검증된 원장(Redis 지갑 스트림 항목)을 그대로 반영, 같은 source_id 는 한 번만 저장
+    private static final String APPEND_VERIFIED_SQL =
+            "INSERT IGNORE INTO point_ledger (user_id, amount, transaction_type, created_at, source_id) VALUES (?, ?, ?, NOW(6), ?)";
+    private static final String FIND_INITIAL_BALANCE_SQL =
+            "SELECT volume FROM point WHERE user_id = ? LIMIT 1";
+    private static final String EXISTS_SNAPSHOT_SQL =
+            "SELECT COUNT(*) FROM point_balance_snapshot WHERE user_id = ?";
+    private static final String LOCK_SNAPSHOT_ROW_SQL =
+            "SELECT user_id FROM point_balance_snapshot WHERE user_id = ? FOR UPDATE";
+    private static final String LOCK_SNAPSHOT_SQL =
+            "SELECT balance, last_ledger_seq FROM point_balance_snapshot WHERE user_id = ? FOR UPDATE";
+    private static final String SUM_TAIL_SQL =
+            "SELECT COALESCE(SUM(amount), 0) AS tail_sum, MAX(ledger_seq) AS last_seq " +
+            "FROM point_ledger WHERE user_id = ? AND ledger_seq > ? FOR SHARE";
+    private static final String ADVANCE_SNAPSHOT_SQL =
+            "UPDATE point_balance_snapshot SET balance = ?, last_ledger_seq = ?, updated_at = NOW(6) WHERE user_id = ?";
+    private static final String FIND_USERS_TO_COMPACT_SQL =
+            "SELECT l.user_id FROM point_ledger l JOIN point_balance_snapshot s ON s.user_id = l.user_id " +
+            "WHERE l.ledger_seq > s.last_ledger_seq GROUP BY l.user_id HAVING COUNT(*) >= ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스냅샷 행 배타 락, 같은 사용자의 원장 추가/스냅샷 전진은 모두 이 행을 먼저 잠가 순서대로 실행됨
+     * @return 스냅샷 존재 여부 (없으면 잠근 행도 없음)
+     */
+    public boolean lockSnapshot(Long userId) {
+        return !jdbcTemplate.queryForList(LOCK_SNAPSHOT_ROW_SQL, Long.class, userId).isEmpty();
+    }
+
+    /**
+     * 잔액이 충분할 때만 사용 원장 추가
+     * @return 추가 여부 (잔액 부족 또는 스냅샷 없음이면 false)
+     */
+    public boolean appendUse(Long userId, long amount) {
+        return jdbcTemplate.update(APPEND_USE_SQL, -amount, userId, amount) > 0;
+    }
+
+    /**
+     * 충전 후 잔액이 한도 이하일 때만 충전 원장 추가
+     * @return 추가 여부 (한도 초과 또는 스냅샷 없음이면 false)
+     */
+    public boolean appendCharge(Long userId, long amount, long maxVolume) {
+        return jdbcTemplate.update(APPEND_CHARGE_SQL, amount, userId, amount, maxVolume) > 0;
+    }
+
+    /**
+     * 다른 곳에서 잔액 규칙을 이미 검증한 원장을 배치로 추가
+     */
+    public void appendVerified(List<PointLedgerEntry> entries) {
+        jdbcTemplate.batchUpdate(APPEND_VERIFIED_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getUserId());
+            ps.setLong(2, entry.getAmount());
+            ps.setString(3, entry.getTransactionType().name());
+            ps.setString(4, entry.getSourceId());
+        });
+    }
+
+    public Optional<Long> findBalance(Long userId) {
+        return jdbcTemplate.queryForList(FIND_BALANCE_SQL, Long.class, userId).stream().findFirst();
+    }
+
+    /**
+     * 스냅샷을 만들기 전의 시작 잔액 (point.volume)
+     */
+    public Optional<Long> findInitialBalance(Long userId) {
+        return jdbcTemplate.queryForList(FIND_INITIAL_BALANCE_SQL, Long.class, userId).stream().findFirst();
+    }
+
+    /**
+     * point.volume 을 시작 잔액으로 스냅샷 생성 (이미 있으면 무시)
+     * @return 스냅샷 존재 여부 (포인트가 없는 사용자면 false)
+     */
+    public boolean initializeSnapshot(Long userId) {
+        jdbcTemplate.update(INITIALIZE_SNAPSHOT_SQL, userId);
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SNAPSHOT_SQL, Integer.class, userId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 스냅샷 행을 잠근 뒤 이후 원장을 합산해 스냅샷을 전진
+     * 원장 추가도 스냅샷 행을 먼저 잠그므로 진행 중인 추가가 끝날 때까지 기다려 커밋되지 않은 원장을 건너뛰지 않음
+     * @return 스냅샷에 반영한 원장 수가 있으면 true
+     */
+    public boolean advanceSnapshot(Long userId) {
+        List<long[]> snapshots = jdbcTemplate.query(LOCK_SNAPSHOT_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("balance"), rs.getLong("last_ledger_seq")}, userId);
+        if (snapshots.isEmpty()) {
+            return false;
+        }
+
+        long balance = snapshots.get(0)[0];
+        long lastLedgerSeq = snapshots.get(0)[1];
+        long[] tail = jdbcTemplate.queryForObject(SUM_TAIL_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("tail_sum"), rs.getLong("last_seq")}, userId, lastLedgerSeq);
+        if (tail == null || tail[1] == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update(ADVANCE_SNAPSHOT_SQL, balance + tail[0], tail[1], userId);
+        return true;
+    }
+
+    public List<Long> findUsersToCompact(int minTailSize, int limit) {
+        return jdbcTemplate.queryForList(FIND_USERS_TO_COMPACT_SQL, Long.class, minTailSize, limit);
+    }
+}
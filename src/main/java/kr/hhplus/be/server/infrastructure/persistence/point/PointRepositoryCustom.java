@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.persistence.point;
+
+import java.util.OptionalLong;
+
+public interface PointRepositoryCustom {
+
+    /**
+     * 잔액이 충분할 때만 조건부 UPDATE 로 포인트 차감
+     * @return 차감 후 잔액 (잔액이 부족하거나 포인트가 없으면 empty)
+     */
+    OptionalLong decreaseVolume(Long userId, long amount);
+
+    /**
+     * 충전 후 잔액이 최대 보유 한도 이하일 때만 조건부 UPDATE 로 포인트 충전
+     * @return 충전 후 잔액 (한도를 초과하거나 포인트가 없으면 empty)
+     */
+    OptionalLong increaseVolume(Long userId, long amount, long maxVolume);
+}
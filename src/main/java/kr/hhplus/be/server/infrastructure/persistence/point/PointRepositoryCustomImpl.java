@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.infrastructure.persistence.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+@RequiredArgsConstructor
+public class PointRepositoryCustomImpl implements PointRepositoryCustom {
+
+    // 변경 후 잔액을 LAST_INSERT_ID 로 넘겨 UPDATE 응답(생성 키)으로 받으므로 잔액을 다시 조회하지 않음
+    private static final String DECREASE_VOLUME_SQL =
+            "UPDATE point SET volume = LAST_INSERT_ID(volume - ?), updated_at = NOW(6) WHERE user_id = ? AND volume >= ?";
+    private static final String INCREASE_VOLUME_SQL =
+            "UPDATE point SET volume = LAST_INSERT_ID(volume + ?), updated_at = NOW(6) WHERE user_id = ? AND volume + ? <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public OptionalLong decreaseVolume(Long userId, long amount) {
+        return updateVolume(DECREASE_VOLUME_SQL, amount, userId, amount);
+    }
+
+    @Override
+    public OptionalLong increaseVolume(Long userId, long amount, long maxVolume) {
+        return updateVolume(INCREASE_VOLUME_SQL, amount, userId, amount, maxVolume);
+    }
+
+    private OptionalLong updateVolume(String sql, Object... args) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        int updated = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keyHolder);
+        if (updated == 0) {
+            return OptionalLong.empty();
+        }
+
+        // MySQL 드라이버는 LAST_INSERT_ID 가 0 이면 생성 키를 돌려주지 않음 (변경 후 잔액 0)
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.isEmpty()) {
+            return OptionalLong.of(0L);
+        }
+        return OptionalLong.of(((Number) keys.get(0).values().iterator().next()).longValue());
+    }
+}
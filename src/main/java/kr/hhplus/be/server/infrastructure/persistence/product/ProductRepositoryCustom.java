@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.infrastructure.persistence.product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * 조건부 UPDATE 배치로 여러 상품의 재고를 한 번에 차감
+     * @param quantityByProductId 상품 ID별 차감 수량
+     * @return 재고가 부족하거나 존재하지 않아 차감되지 않은 상품 ID 목록
+     */
+    List<Long> decreaseStocks(Map<Long, Long> quantityByProductId);
+
+    /**
+     * 이미 다른 곳(Redis 재고 원장 등)에서 검증된 차감분을 배치로 반영
+     * @param quantityByProductId 상품 ID별 차감 수량
+     */
+    void applyStockDecrements(Map<Long, Long> quantityByProductId);
+
+    /**
+     * 실패한 주문이 차감했던 재고를 배치로 되돌림
+     * @param quantityByProductId 상품 ID별 복구 수량
+     */
+    void increaseStocks(Map<Long, Long> quantityByProductId);
+
+    /**
+     * 재고 반영 배치 ID 기록
+     * @return 처음 기록했으면 true, 이미 기록된(반영된) 배치면 false
+     */
+    boolean recordStockFlush(String batchId);
+
+    /**
+     * 기준 시각 이전에 기록된 재고 반영 배치 ID 삭제
+     * @return 삭제된 건수
+     */
+    int deleteStockFlushRecordsBefore(LocalDateTime cutoff);
+}
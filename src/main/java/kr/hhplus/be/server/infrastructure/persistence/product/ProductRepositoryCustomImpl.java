@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.infrastructure.persistence.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET stock = stock - ? WHERE product_id = ? AND stock >= ?";
+    private static final String APPLY_STOCK_DECREMENT_SQL =
+            "UPDATE product SET stock = stock - ? WHERE product_id = ?";
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE product SET stock = stock + ? WHERE product_id = ?";
+    private static final String INSERT_STOCK_FLUSH_SQL =
+            "INSERT IGNORE INTO product_stock_flush (batch_id, applied_at) VALUES (?, ?)";
+    private static final String DELETE_STOCK_FLUSH_SQL =
+            "DELETE FROM product_stock_flush WHERE applied_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> decreaseStocks(Map<Long, Long> quantityByProductId) {
+        // 상품 ID 순서로 정렬하여 행 락 획득 순서를 고정 (데드락 방지)
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantityByProductId).entrySet());
+
+        int[][] results = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+            ps.setLong(3, entry.getValue());
+        });
+
+        List<Long> failedProductIds = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int affectedRows : batch) {
+                if (affectedRows == 0) {
+                    failedProductIds.add(entries.get(index).getKey());
+                }
+                index++;
+            }
+        }
+        return failedProductIds;
+    }
+
+    @Override
+    public void applyStockDecrements(Map<Long, Long> quantityByProductId) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantityByProductId).entrySet());
+
+        jdbcTemplate.batchUpdate(APPLY_STOCK_DECREMENT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Long> quantityByProductId) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantityByProductId).entrySet());
+
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    @Override
+    public boolean recordStockFlush(String batchId) {
+        // 같은 배치를 동시에 반영하면 먼저 기록한 트랜잭션이 끝날 때까지 대기한 뒤 0건으로 끝남
+        return jdbcTemplate.update(INSERT_STOCK_FLUSH_SQL, batchId, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+
+    @Override
+    public int deleteStockFlushRecordsBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_STOCK_FLUSH_SQL, Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.infrastructure.persistence.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 상품 재고 샤드(product_stock_shard) 조회/차감
+ * 샤드 행 하나만 잠그는 조건부 UPDATE 위주로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockShardRepository {
+
+    private static final String DECREASE_SHARD_SQL =
+            "UPDATE product_stock_shard SET stock = stock - ? WHERE product_id = ? AND shard_no = ? AND stock >= ?";
+    private static final String INCREASE_SHARD_SQL =
+            "UPDATE product_stock_shard SET stock = stock + ? WHERE product_id = ? AND shard_no = ?";
+    private static final String INSERT_SHARD_SQL =
+            "INSERT INTO product_stock_shard (product_id, shard_no, stock) VALUES (?, ?, ?)";
+    private static final String SELECT_SHARDS_FOR_UPDATE_SQL =
+            "SELECT shard_no, stock FROM product_stock_shard WHERE product_id = ? ORDER BY shard_no FOR UPDATE";
+    private static final String COUNT_SHARDS_SQL =
+            "SELECT COUNT(*) FROM product_stock_shard WHERE product_id = ?";
+    private static final String SUM_SHARD_STOCKS_SQL =
+            "SELECT product_id, SUM(stock) AS stock FROM product_stock_shard WHERE product_id IN (%s) GROUP BY product_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정한 샤드에 재고가 충분할 때만 차감
+     * @return 차감 성공 여부
+     */
+    public boolean decrease(Long productId, int shardNo, long quantity) {
+        return jdbcTemplate.update(DECREASE_SHARD_SQL, quantity, productId, shardNo, quantity) > 0;
+    }
+
+    /**
+     * 지정한 샤드에 재고 추가
+     * @return 샤드가 있어 추가되었으면 true
+     */
+    public boolean increase(Long productId, int shardNo, long quantity) {
+        return jdbcTemplate.update(INCREASE_SHARD_SQL, quantity, productId, shardNo) > 0;
+    }
+
+    /**
+     * 상품의 모든 샤드를 샤드 번호 순서로 잠그고 샤드별 재고 반환
+     */
+    public Map<Integer, Long> findShardStocksForUpdate(Long productId) {
+        Map<Integer, Long> stockByShardNo = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_SHARDS_FOR_UPDATE_SQL,
+                rs -> {
+                    stockByShardNo.put(rs.getInt("shard_no"), rs.getLong("stock"));
+                },
+                productId);
+        return stockByShardNo;
+    }
+
+    /**
+     * 상품별 샤드 재고 합계 (샤드가 없는 상품은 결과에 없음)
+     */
+    public Map<Long, Long> sumStocksByProductIds(Collection<Long> productIds) {
+        Map<Long, Long> stockByProductId = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+        jdbcTemplate.query(String.format(SUM_SHARD_STOCKS_SQL, placeholders),
+                rs -> {
+                    stockByProductId.put(rs.getLong("product_id"), rs.getLong("stock"));
+                },
+                productIds.toArray());
+        return stockByProductId;
+    }
+
+    public int countShards(Long productId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_SHARDS_SQL, Integer.class, productId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 샤드 번호 0부터 순서대로 샤드 행 생성
+     */
+    public void createShards(Long productId, List<Long> stocks) {
+        List<Integer> shardNos = IntStream.range(0, stocks.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT_SHARD_SQL, shardNos, shardNos.size(), (ps, shardNo) -> {
+            ps.setLong(1, productId);
+            ps.setInt(2, shardNo);
+            ps.setLong(3, stocks.get(shardNo));
+        });
+    }
+}
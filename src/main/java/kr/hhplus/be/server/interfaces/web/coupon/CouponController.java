@@ -2,9 +2,11 @@ package kr.hhplus.be.server.interfaces.web.coupon;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.hhplus.be.server.application.coupon.CouponIssueStatusService;
 import kr.hhplus.be.server.application.coupon.CouponService;
 import kr.hhplus.be.server.common.response.ApiResponse;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.request.CouponIssueRequest;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponIssueStatusResponse;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponListResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponIssueStatusService couponIssueStatusService;
 
     @Operation(summary = "쿠폰 발급 요청", description = "사용자가 쿠폰 발급을 요청합니다.")
     @PostMapping("/coupons")
@@ -25,6 +28,13 @@ public class CouponController {
         return ApiResponse.success("쿠폰 발급 요청이 성공적으로 처리되었습니다.", "쿠폰 발급 요청 성공");
     }
 
+    @Operation(summary = "쿠폰 발급 상태 조회", description = "쿠폰 발급 요청의 처리 상태와 발급 순위를 조회합니다.")
+    @GetMapping("/coupons/{couponId}/status")
+    public ApiResponse<CouponIssueStatusResponse> getCouponIssueStatus(@PathVariable Long couponId, @RequestParam Long userId) {
+        CouponIssueStatusResponse response = couponIssueStatusService.getIssueStatus(couponId, userId);
+        return ApiResponse.success(response, "쿠폰 발급 상태 조회 성공");
+    }
+
     @Operation(summary = "쿠폰 목록 조회", description = "사용자가 보유한 쿠폰 목록을 조회합니다.")
     @GetMapping("/users/{userId}/coupons")
     public ApiResponse<CouponListResponse> getUserCoupons(@PathVariable Long userId) {
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.interfaces.web.coupon.dto.event;
 
+import kr.hhplus.be.server.domain.coupon.CouponIssueFailureType;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -15,26 +16,31 @@ public class CouponIssueResultEventDto {
     private Long couponId;
     private boolean success;
     private String errorMessage;
+    private CouponIssueFailureType failureType; // 발급 실패 시에만 설정
     private Long userCouponId; // 발급 성공 시에만 설정
+    private Long remainingStock; // 발급 성공 시에만 설정 (발급 처리 직후 남은 재고)
     private LocalDateTime processedTime;
     
-    public static CouponIssueResultEventDto success(String requestId, Long userId, Long couponId, Long userCouponId) {
+    public static CouponIssueResultEventDto success(String requestId, Long userId, Long couponId, Long userCouponId, Long remainingStock) {
         return CouponIssueResultEventDto.builder()
                 .requestId(requestId)
                 .userId(userId)
                 .couponId(couponId)
                 .success(true)
                 .userCouponId(userCouponId)
+                .remainingStock(remainingStock)
                 .processedTime(LocalDateTime.now())
                 .build();
     }
     
-    public static CouponIssueResultEventDto failure(String requestId, Long userId, Long couponId, String errorMessage) {
+    public static CouponIssueResultEventDto failure(String requestId, Long userId, Long couponId,
+                                                    CouponIssueFailureType failureType, String errorMessage) {
         return CouponIssueResultEventDto.builder()
                 .requestId(requestId)
                 .userId(userId)
                 .couponId(couponId)
                 .success(false)
+                .failureType(failureType)
                 .errorMessage(errorMessage)
                 .processedTime(LocalDateTime.now())
                 .build();
@@ -12,4 +12,5 @@ public class CouponIssueStatusResponse {
     private Long issuedCount;    // 발급 완료 수
     private Long totalLimit;     // 총 발급 제한 수
     private boolean isIssued;    // 발급 성공 여부
+    private String status;       // 처리 상태 (PENDING: 접수 후 결과 대기, ISSUED: 발급 성공, FAILED: 발급 실패)
 } 
\ No newline at end of file
@@ -3,16 +3,19 @@ package kr.hhplus.be.server.interfaces.web.order;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import kr.hhplus.be.server.application.order.OrderGroupCommitProcessor;
+import kr.hhplus.be.server.application.order.OrderIdempotencyService;
 import kr.hhplus.be.server.application.order.OrderService;
 import kr.hhplus.be.server.common.response.ApiResponse;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.interfaces.web.order.dto.request.OrderRequest;
 import kr.hhplus.be.server.interfaces.web.order.dto.response.OrderResponse;
+import kr.hhplus.be.server.interfaces.web.order.dto.response.OrderStatusResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.function.Supplier;
 
 @Tag(name = "주문", description = "주문 관련 API")
 @RestController
@@ -20,19 +23,56 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderGroupCommitProcessor orderGroupCommitProcessor;
+    private final OrderIdempotencyService orderIdempotencyService;
 
-    @Operation(summary = "주문 생성", description = "사용자가 상품을 주문합니다.")
+    @Operation(summary = "주문 생성", description = "사용자가 상품을 주문합니다. Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 최초 결과를 반환합니다.")
     @PostMapping
-    public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderRequest request) {
-        Order savedOrder = orderService.placeOrder(
+    public ApiResponse<OrderResponse> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest request) {
+        Long orderId = executeIdempotently(idempotencyKey, request, () -> orderGroupCommitProcessor.placeOrder(
                 request.toOrder(),
                 request.toOrderProducts()
-        );
+        ).getId());
 
         return ApiResponse.success(
-                OrderResponse.from(savedOrder.getId()),
+                OrderResponse.from(orderId),
                 "주문 생성 성공"
         );
     }
+
+    @Operation(summary = "주문 접수", description = "주문을 접수하고 비동기로 처리합니다. 처리 결과는 주문 상태 조회로 확인합니다.")
+    @PostMapping("/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<OrderResponse> acceptOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest request) {
+        Long orderId = executeIdempotently(idempotencyKey, request, () -> orderService.acceptOrder(
+                request.toOrder(),
+                request.toOrderProducts()
+        ).getId());
+
+        return ApiResponse.accepted(
+                OrderResponse.from(orderId),
+                "주문 접수 성공"
+        );
+    }
+
+    @Operation(summary = "주문 상태 조회", description = "주문의 처리 상태를 조회합니다.")
+    @GetMapping("/{orderId}/status")
+    public ApiResponse<OrderStatusResponse> getOrderStatus(@PathVariable Long orderId) {
+        Order order = orderService.getOrder(orderId);
+        return ApiResponse.success(OrderStatusResponse.from(order), "주문 상태 조회 성공");
+    }
+
+    private Long executeIdempotently(String idempotencyKey, OrderRequest request, Supplier<Long> placeOrder) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return placeOrder.get();
+        }
+        return orderIdempotencyService.execute(request.getUserId(), idempotencyKey, placeOrder);
+    }
 }
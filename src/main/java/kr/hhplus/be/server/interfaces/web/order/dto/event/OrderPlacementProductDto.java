@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.interfaces.web.order.dto.event;
+
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlacementProductDto {
+
+    private Long productId;
+    private Long quantity;
+
+    public static OrderPlacementProductDto from(OrderProduct orderProduct) {
+        return OrderPlacementProductDto.builder()
+                .productId(orderProduct.getProductId())
+                .quantity(orderProduct.getQuantity())
+                .build();
+    }
+
+    public OrderProduct toOrderProduct() {
+        return OrderProduct.builder()
+                .productId(this.productId)
+                .quantity(this.quantity)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.interfaces.web.order.dto.event;
+
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlacementRequestEventDto {
+
+    private Long orderId;
+    private Long userId;
+    private Long userCouponId;
+    private List<OrderPlacementProductDto> orderProducts;
+    private LocalDateTime requestTime;
+
+    public static OrderPlacementRequestEventDto of(Order order, List<OrderProduct> orderProducts) {
+        return OrderPlacementRequestEventDto.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .userCouponId(order.getUserCouponId())
+                .orderProducts(orderProducts.stream()
+                        .map(OrderPlacementProductDto::from)
+                        .toList())
+                .requestTime(LocalDateTime.now())
+                .build();
+    }
+
+    public List<OrderProduct> toOrderProducts() {
+        return orderProducts.stream()
+                .map(OrderPlacementProductDto::toOrderProduct)
+                .toList();
+    }
+}
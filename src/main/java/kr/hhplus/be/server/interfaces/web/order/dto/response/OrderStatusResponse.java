@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.interfaces.web.order.dto.response;
+
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OrderStatusResponse {
+    private Long orderId;
+    private OrderStatus status;
+    private Long totalAmount;
+
+    public static OrderStatusResponse from(Order order) {
+        return OrderStatusResponse.builder()
+                .orderId(order.getId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .build();
+    }
+}
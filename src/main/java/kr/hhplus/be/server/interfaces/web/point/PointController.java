@@ -4,8 +4,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.common.response.ApiResponse;
 import kr.hhplus.be.server.interfaces.web.point.dto.request.PointChargeRequest;
+import kr.hhplus.be.server.interfaces.web.point.dto.response.PointHistoryListResponse;
 import kr.hhplus.be.server.interfaces.web.point.dto.response.PointResponse;
 import kr.hhplus.be.server.domain.point.Point;
+import kr.hhplus.be.server.application.point.PointHistoryPage;
 import kr.hhplus.be.server.application.point.PointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -21,9 +23,19 @@ public class PointController {
     @Operation(summary = "포인트 조회", description = "사용자의 포인트를 조회합니다.")
     @GetMapping("/{userId}")
     public ApiResponse<PointResponse> getPoints(@PathVariable Long userId) {
-        Point point = pointService.getPoint(userId);
+        long balance = pointService.getBalance(userId);
 
-        return ApiResponse.success(PointResponse.from(point.getVolume()), "포인트 조회 성공");
+        return ApiResponse.success(PointResponse.from(balance), "포인트 조회 성공");
+    }
+
+    @Operation(summary = "포인트 이력 조회", description = "사용자의 포인트 충전/사용 이력을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping("/{userId}/history")
+    public ApiResponse<PointHistoryListResponse> getPointHistories(@PathVariable Long userId,
+                                                                   @RequestParam(required = false) Long cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        PointHistoryPage page = pointService.getPointHistories(userId, cursor, size);
+
+        return ApiResponse.success(PointHistoryListResponse.from(page), "포인트 이력 조회 성공");
     }
 
     @Operation(summary = "포인트 충전", description = "사용자의 포인트를 충전합니다.")
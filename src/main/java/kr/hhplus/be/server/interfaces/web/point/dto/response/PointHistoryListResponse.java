@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.interfaces.web.point.dto.response;
+
+import kr.hhplus.be.server.application.point.PointHistoryPage;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PointHistoryListResponse {
+    private final List<PointHistoryResponse> histories;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    private PointHistoryListResponse(List<PointHistoryResponse> histories, Long nextCursor, boolean hasNext) {
+        this.histories = histories;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static PointHistoryListResponse from(PointHistoryPage page) {
+        List<PointHistoryResponse> histories = page.getHistories().stream()
+                .map(PointHistoryResponse::from)
+                .toList();
+        return new PointHistoryListResponse(histories, page.getNextCursor(), page.hasNext());
+    }
+}
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.interfaces.web.point.dto.response;
+
+import kr.hhplus.be.server.domain.point.TransactionType;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryRow;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PointHistoryResponse {
+    private final Long id;
+    private final Long amount;
+    private final TransactionType transactionType;
+    private final LocalDateTime createdAt;
+
+    private PointHistoryResponse(Long id, Long amount, TransactionType transactionType, LocalDateTime createdAt) {
+        this.id = id;
+        this.amount = amount;
+        this.transactionType = transactionType;
+        this.createdAt = createdAt;
+    }
+
+    public static PointHistoryResponse from(PointHistoryRow row) {
+        return new PointHistoryResponse(row.getId(), row.getAmount(), row.getTransactionType(), row.getCreatedAt());
+    }
+}
@@ -7,6 +7,7 @@ import kr.hhplus.be.server.common.response.ApiResponse;
 import kr.hhplus.be.server.interfaces.web.product.dto.response.ProductResponse;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.application.product.ProductService;
+import kr.hhplus.be.server.application.product.ProductStockShardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "상품", description = "상품 관련 API")
 @RestController
@@ -22,6 +24,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductStockShardService productStockShardService;
 
     /**
      * 상품 단건 조회
@@ -30,8 +33,9 @@ public class ProductController {
     @GetMapping("/{productId}")
     public ApiResponse<ProductResponse> getProduct(@PathVariable @Min(1) Long productId) {
         Product product = productService.getProduct(productId);
+        long shardedStock = productStockShardService.getShardedStocks(List.of(productId)).getOrDefault(productId, 0L);
 
-        return ApiResponse.success(ProductResponse.from(product), "상품 조회 성공");
+        return ApiResponse.success(ProductResponse.from(product, shardedStock), "상품 조회 성공");
     }
 
     /**
@@ -41,9 +45,11 @@ public class ProductController {
     @GetMapping()
     public ApiResponse<List<ProductResponse>> getProducts() {
         List<Product> products = productService.getProducts();
+        Map<Long, Long> shardedStocks = productStockShardService.getShardedStocks(
+                products.stream().map(Product::getId).toList());
 
         List<ProductResponse> responses = products.stream()
-                .map(ProductResponse::from)
+                .map(product -> ProductResponse.from(product, shardedStocks.getOrDefault(product.getId(), 0L)))
                 .toList();
 
         return ApiResponse.success(responses, "상품 목록 조회 성공");
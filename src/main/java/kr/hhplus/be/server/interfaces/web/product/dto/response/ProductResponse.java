@@ -17,11 +17,18 @@ public class ProductResponse {
     private String description;
 
     public static ProductResponse from(Product product) {
+        return from(product, 0L);
+    }
+
+    /**
+     * 재고 샤드로 분할된 상품은 중앙 재고에 샤드 재고 합계를 더해 응답
+     */
+    public static ProductResponse from(Product product, long shardedStock) {
         return ProductResponse.builder()
                 .id(product.getId())
                 .name(product.getName())
                 .price(product.getPrice())
-                .stock(product.getStock())
+                .stock(product.getStock() + shardedStock)
                 .description(product.getDescription())
                 .build();
     }
@@ -0,0 +1,14 @@
+-- 결제 승인 아웃박스 (payment.approval-mode=outbox)
+-- 주문 트랜잭션에서 PENDING 결제와 함께 저장되고, PaymentOutboxRelay 가 SKIP LOCKED 로 나눠 가져가 승인
+-- next_attempt_at: 가져갈 수 있는 시각 (가져간 뒤에는 임대 시간만큼 미뤄 두어 처리 중 중단되면 다시 가져감)
+CREATE TABLE payment_outbox (
+    outbox_id BIGINT NOT NULL AUTO_INCREMENT,
+    payment_id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (outbox_id),
+    INDEX idx_payment_outbox_next_attempt (next_attempt_at)
+) ENGINE=InnoDB;
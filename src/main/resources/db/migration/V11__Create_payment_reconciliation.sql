@@ -0,0 +1,19 @@
+-- 결제-포인트 사용 이력 대사 (PaymentReconciliationJob)
+-- 사용자 ID 범위 단위로 승인된 포인트 결제와 사용 이력을 집계하므로 두 쪽 모두 사용자 ID 범위 스캔이 인덱스만으로 끝나도록 추가
+CREATE INDEX idx_orders_user_id_order_id ON orders (user_id, order_id);
+CREATE INDEX idx_payment_order_id_method_status
+    ON payment (order_id, payment_method, status, approved_at, amount);
+
+-- 대사 결과 불일치 사용자 (run_id 는 실행 단위로 발급)
+CREATE TABLE payment_reconciliation_report (
+    report_id BIGINT NOT NULL AUTO_INCREMENT,
+    run_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    payment_count BIGINT NOT NULL,
+    payment_amount BIGINT NOT NULL,
+    ledger_count BIGINT NOT NULL,
+    ledger_amount BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (report_id),
+    INDEX idx_payment_reconciliation_report_run (run_id, user_id)
+) ENGINE=InnoDB;
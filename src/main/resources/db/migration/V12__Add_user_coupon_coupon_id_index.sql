@@ -0,0 +1,2 @@
+-- 쿠폰 발급 중복 확인(existsByUserIdAndCouponId)과 발급 입장 정보 적재(쿠폰별 발급 사용자 조회)가 전체 스캔하지 않도록 추가
+CREATE INDEX idx_user_coupon_coupon_id_user_id ON user_coupon (coupon_id, user_id);
@@ -0,0 +1,8 @@
+-- Redis 재고 원장 차감분 반영 이력 (inventory.mode=redis)
+-- 재고 차감과 같은 트랜잭션에서 batch_id 를 기록하여, 같은 flushing 해시를 다시 반영하면 건너뜀
+CREATE TABLE product_stock_flush (
+    batch_id VARCHAR(36) NOT NULL,
+    applied_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (batch_id),
+    INDEX idx_product_stock_flush_applied_at (applied_at)
+) ENGINE=InnoDB;
@@ -0,0 +1,2 @@
+-- 결과를 알 수 없어 PENDING 으로 남은 PG 결제 재조회 (PaymentGatewayRecoveryScheduler) 시 PENDING 결제만 ID 순으로 탐색
+CREATE INDEX idx_payment_status_id ON payment (status, payment_id);
@@ -0,0 +1,7 @@
+-- 인기 상품 재고를 여러 행으로 분할하여 단일 행 락 경합을 분산
+CREATE TABLE product_stock_shard (
+    product_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    stock BIGINT NOT NULL,
+    PRIMARY KEY (product_id, shard_no)
+) ENGINE=InnoDB;
@@ -0,0 +1,2 @@
+-- 결제 멱등성 키 중복 저장 방지 (Redis 멱등성 저장소의 영속 보장)
+CREATE UNIQUE INDEX uk_payment_idempotency_key ON payment (idempotency_key);
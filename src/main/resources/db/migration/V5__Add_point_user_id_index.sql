@@ -0,0 +1,2 @@
+-- 포인트 조건부 UPDATE(WHERE user_id = ?)가 해당 사용자 행만 잠그도록 인덱스 추가
+CREATE INDEX idx_point_user_id ON point (user_id);
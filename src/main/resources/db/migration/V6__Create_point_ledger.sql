@@ -0,0 +1,19 @@
+-- 포인트 원장 모드(point.mode=ledger): 충전/사용을 잔액 행 갱신 없이 원장에 추가만 함
+-- ledger_seq 는 전역적으로 단조 증가하며, 스냅샷은 last_ledger_seq 까지 반영한 잔액을 보관
+CREATE TABLE point_ledger (
+    ledger_seq BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    amount BIGINT NOT NULL,
+    transaction_type ENUM('CHARGE', 'USE') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (ledger_seq),
+    INDEX idx_point_ledger_user_seq (user_id, ledger_seq)
+) ENGINE=InnoDB;
+
+CREATE TABLE point_balance_snapshot (
+    user_id BIGINT NOT NULL,
+    balance BIGINT NOT NULL,
+    last_ledger_seq BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
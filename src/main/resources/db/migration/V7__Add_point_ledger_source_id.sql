@@ -0,0 +1,3 @@
+-- Redis 지갑 모드(point.mode=redis)에서 스트림 항목 ID 를 저장하여 같은 항목이 두 번 반영되지 않도록 함
+ALTER TABLE point_ledger ADD COLUMN source_id VARCHAR(64) NULL;
+CREATE UNIQUE INDEX uk_point_ledger_source_id ON point_ledger (source_id);
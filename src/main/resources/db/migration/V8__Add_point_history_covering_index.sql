@@ -0,0 +1,4 @@
+-- 포인트 이력 키셋 페이지 조회(WHERE point_id = ? AND point_history_id < ? ORDER BY point_history_id DESC)를
+-- 클러스터드 인덱스 조회 없이 인덱스만으로 처리하도록 조회 컬럼까지 포함
+CREATE INDEX idx_point_history_point_id_history_id
+    ON point_history (point_id, point_history_id, transaction_type, amount, created_at);
@@ -0,0 +1,2 @@
+-- 외부 결제 대행사(PG) 승인 거래 ID (CARD/CASH 결제), 대사 시 PG 거래 내역과 대조하는 키
+ALTER TABLE payment ADD COLUMN pg_transaction_id VARCHAR(64) NULL;
@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponIssueFailureType;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.DiscountType;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.COUPON_ALREADY_ISSUED;
+import static kr.hhplus.be.server.common.exception.ErrorCode.COUPON_ISSUANCE_FAILED;
+import static kr.hhplus.be.server.common.exception.ErrorCode.COUPON_ISSUE_GATE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueGateTest {
+
+    private static final List<String> KEYS = List.of("coupon:issue:remaining:200", "coupon:issue:users:200");
+    private static final List<String> REQUEST_KEYS = List.of(
+            "coupon:issue:remaining:200", "coupon:issue:users:200", "coupon:issue:status:200:100");
+    private static final List<String> RELEASE_KEYS = List.of(
+            "coupon:issue:remaining:200", "coupon:issue:users:200", "coupon:issue:released:REQ-1");
+
+    @InjectMocks
+    private CouponIssueGate couponIssueGate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    void 남은_수량이_있으면_DB를_조회하지_않고_통과시킨다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class))).willReturn(1L);
+
+        // when & then
+        assertThatCode(() -> couponIssueGate.admit(100L, 200L)).doesNotThrowAnyException();
+        then(couponRepository).shouldHaveNoInteractions();
+        then(userCouponRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 통과하면_발급_상태_해시에_요청_접수를_함께_기록한다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class))).willReturn(1L);
+
+        // when
+        couponIssueGate.admit(100L, 200L);
+
+        // then - 사용자 ID 와 발급 상태 보관 시간(72시간)을 전달
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(REQUEST_KEYS),
+                eq("100"), eq(String.valueOf(72 * 3600)));
+    }
+
+    @Test
+    void 수량이_소진되면_발급_실패로_거절한다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class))).willReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueGate.admit(100L, 200L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(COUPON_ISSUANCE_FAILED.getMessage());
+        then(couponRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 이미_선점한_사용자는_중복_발급으로_거절한다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class))).willReturn(-1L);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueGate.admit(100L, 200L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(COUPON_ALREADY_ISSUED.getMessage());
+    }
+
+    @Test
+    void 적재되지_않은_쿠폰은_DB_재고와_발급_이력으로_적재한_뒤_다시_시도한다() {
+        // given
+        Coupon coupon = Coupon.builder()
+                .id(200L)
+                .discountValue(1000L)
+                .discountType(DiscountType.AMOUNT)
+                .title("선착순 쿠폰")
+                .stock(10L)
+                .build();
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class)))
+                .willReturn(-2L)
+                .willReturn(1L);
+        given(couponRepository.findById(200L)).willReturn(Optional.of(coupon));
+        given(userCouponRepository.findUserIdsByCouponId(200L)).willReturn(List.of(1L, 2L));
+
+        // when
+        couponIssueGate.admit(100L, 200L);
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS), eq("10"), eq("0"), eq("1"), eq("2"));
+        then(stringRedisTemplate).should(times(2)).execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class));
+    }
+
+    @Test
+    void 입장_정보를_적재하지_못하면_일시적_오류로_거절한다() {
+        // given
+        Coupon coupon = Coupon.builder()
+                .id(200L)
+                .discountValue(1000L)
+                .discountType(DiscountType.AMOUNT)
+                .title("선착순 쿠폰")
+                .stock(10L)
+                .build();
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(REQUEST_KEYS), any(Object[].class))).willReturn(-2L);
+        given(couponRepository.findById(200L)).willReturn(Optional.of(coupon));
+        given(userCouponRepository.findUserIdsByCouponId(200L)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueGate.admit(100L, 200L))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", COUPON_ISSUE_GATE_UNAVAILABLE);
+    }
+
+    @Test
+    void 처리_오류로_실패한_요청은_사용자와_수량을_모두_반환한다() {
+        // when
+        couponIssueGate.releaseRejected("REQ-1", 100L, 200L, CouponIssueFailureType.ERROR);
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(RELEASE_KEYS),
+                eq("100"), eq("1"), eq("1"), eq("86400"));
+    }
+
+    @Test
+    void 재고_소진으로_실패한_요청은_수량을_반환하지_않는다() {
+        // when
+        couponIssueGate.releaseRejected("REQ-1", 100L, 200L, CouponIssueFailureType.OUT_OF_STOCK);
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(RELEASE_KEYS),
+                eq("100"), eq("1"), eq("0"), eq("86400"));
+    }
+
+    @Test
+    void 이미_발급된_사용자의_실패는_사용자를_남겨두고_수량만_반환한다() {
+        // when
+        couponIssueGate.releaseRejected("REQ-1", 100L, 200L, CouponIssueFailureType.DUPLICATE_ISSUED);
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(RELEASE_KEYS),
+                eq("100"), eq("0"), eq("1"), eq("86400"));
+    }
+
+    @Test
+    void 선점을_반환하면_반환_스크립트를_실행한다() {
+        // when
+        couponIssueGate.release(100L, 200L);
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(REQUEST_KEYS), eq("100"));
+        then(couponRepository).should(never()).findById(any());
+    }
+}
@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueFailureType;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponIssueStatusResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueStatusServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    private CouponIssueStatusService couponIssueStatusService;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueStatusService = new CouponIssueStatusService(stringRedisTemplate, userCouponRepository, 72);
+    }
+
+    @Test
+    void 발급_결과를_요청별_사용자별_쿠폰별_해시에_반영한다() {
+        // given
+        CouponIssueResultEventDto result = CouponIssueResultEventDto.success("REQ-1", 1L, 200L, 10L, 99L);
+        List<String> keys = List.of("coupon:issue:result:REQ-1", "coupon:issue:status:200:1", "coupon:issue:summary:200");
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(keys), any(Object[].class))).willReturn(1L);
+
+        // when
+        boolean projected = couponIssueStatusService.project(result);
+
+        // then
+        assertThat(projected).isTrue();
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(keys),
+                eq("REQ-1"), eq("1"), eq("200"), eq("true"), eq("10"), eq(""), eq("99"), eq(String.valueOf(72 * 3600)));
+    }
+
+    @Test
+    void 이미_반영된_결과는_다시_반영하지_않는다() {
+        // given
+        CouponIssueResultEventDto result = CouponIssueResultEventDto.failure(
+                "REQ-1", 1L, 200L, CouponIssueFailureType.OUT_OF_STOCK, "쿠폰 재고가 부족합니다.");
+        given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class))).willReturn(0L);
+
+        // when & then
+        assertThat(couponIssueStatusService.project(result)).isFalse();
+    }
+
+    @Test
+    void 발급에_성공한_사용자는_발급_순위와_총_발급_한도를_조회한다() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("coupon:issue:status:200:1"))
+                .willReturn(Map.of("success", "true", "issueRank", "3", "requestId", "REQ-1", "userCouponId", "10"));
+        given(hashOperations.entries("coupon:issue:summary:200"))
+                .willReturn(Map.of("issuedCount", "5", "remainingStock", "95"));
+
+        // when
+        CouponIssueStatusResponse response = couponIssueStatusService.getIssueStatus(200L, 1L);
+
+        // then
+        assertThat(response.isIssued()).isTrue();
+        assertThat(response.getStatus()).isEqualTo("ISSUED");
+        assertThat(response.getIssueRank()).isEqualTo(3L);
+        assertThat(response.getIssuedCount()).isEqualTo(5L);
+        assertThat(response.getTotalLimit()).isEqualTo(100L);
+    }
+
+    @Test
+    void 요청_접수를_기록하면_이전_상태를_지우고_보관_시간을_설정한다() {
+        // when
+        couponIssueStatusService.markRequested(200L, 1L);
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(List.of("coupon:issue:status:200:1")),
+                eq(String.valueOf(72 * 3600)));
+    }
+
+    @Test
+    void 접수된_요청의_결과가_반영되기_전에는_대기_상태를_반환한다() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("coupon:issue:status:200:1")).willReturn(Map.of("requested", "1"));
+        given(hashOperations.entries("coupon:issue:summary:200")).willReturn(Map.of());
+
+        // when
+        CouponIssueStatusResponse response = couponIssueStatusService.getIssueStatus(200L, 1L);
+
+        // then
+        assertThat(response.isIssued()).isFalse();
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(response.getIssueRank()).isNull();
+        assertThat(response.getIssuedCount()).isZero();
+        assertThat(response.getTotalLimit()).isNull();
+    }
+
+    @Test
+    void 발급_실패_결과가_반영되면_실패_상태를_반환한다() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("coupon:issue:status:200:1"))
+                .willReturn(Map.of("requested", "1", "success", "false", "requestId", "REQ-1"));
+        given(hashOperations.entries("coupon:issue:summary:200")).willReturn(Map.of());
+
+        // when
+        CouponIssueStatusResponse response = couponIssueStatusService.getIssueStatus(200L, 1L);
+
+        // then
+        assertThat(response.isIssued()).isFalse();
+        assertThat(response.getStatus()).isEqualTo("FAILED");
+    }
+
+    @Test
+    void 상태_정보가_만료되었으면_DB_발급_이력으로_발급_여부를_확인한다() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(any())).willReturn(Map.of());
+        given(userCouponRepository.existsByUserIdAndCouponId(1L, 200L)).willReturn(true);
+
+        // when
+        CouponIssueStatusResponse response = couponIssueStatusService.getIssueStatus(200L, 1L);
+
+        // then
+        assertThat(response.isIssued()).isTrue();
+        assertThat(response.getStatus()).isEqualTo("ISSUED");
+        assertThat(response.getIssueRank()).isNull();
+    }
+
+    @Test
+    void 요청도_발급_이력도_없으면_예외가_발생한다() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(any())).willReturn(Map.of());
+        given(userCouponRepository.existsByUserIdAndCouponId(1L, 200L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueStatusService.getIssueStatus(200L, 1L))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", COUPON_ISSUE_REQUEST_NOT_FOUND);
+    }
+}
@@ -40,6 +40,12 @@ class CouponServiceTest {
     @Mock
     private CouponKafkaEventService couponKafkaEventService;
 
+    @Mock
+    private CouponIssueGate couponIssueGate;
+
+    @Mock
+    private CouponIssueStatusService couponIssueStatusService;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -140,9 +146,55 @@ class CouponServiceTest {
         // then
         then(couponRepository).should(times(1)).findById(couponId);
         then(userCouponRepository).should(times(1)).existsByUserIdAndCouponId(userId, couponId);
+        then(couponIssueStatusService).should().markRequested(couponId, userId);
         then(couponKafkaEventService).should(times(1)).publishCouponIssueRequest(userId, couponId);
     }
 
+    @Test
+    void Redis_선점_모드에서는_DB를_조회하지_않고_발급_요청을_발행한다() {
+        // given
+        given(couponIssueGate.isEnabled()).willReturn(true);
+        given(couponKafkaEventService.publishCouponIssueRequest(userId, couponId)).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        couponService.issueCoupon(userId, couponId);
+
+        // then
+        then(couponIssueGate).should().admit(userId, couponId);
+        then(couponKafkaEventService).should().publishCouponIssueRequest(userId, couponId);
+        then(couponRepository).shouldHaveNoInteractions();
+        then(userCouponRepository).shouldHaveNoInteractions();
+        then(couponIssueStatusService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void Redis_선점에서_탈락하면_발급_요청을_발행하지_않는다() {
+        // given
+        given(couponIssueGate.isEnabled()).willReturn(true);
+        willThrow(new ApiException(COUPON_ISSUANCE_FAILED)).given(couponIssueGate).admit(userId, couponId);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(userId, couponId))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(COUPON_ISSUANCE_FAILED.getMessage());
+        then(couponKafkaEventService).should(never()).publishCouponIssueRequest(any(), any());
+        then(couponRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 발급_요청_발행에_실패하면_선점을_반환한다() {
+        // given
+        given(couponIssueGate.isEnabled()).willReturn(true);
+        given(couponKafkaEventService.publishCouponIssueRequest(userId, couponId))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 연결 실패")));
+
+        // when
+        couponService.issueCoupon(userId, couponId);
+
+        // then
+        then(couponIssueGate).should().release(userId, couponId);
+    }
+
     @Test
     void 쿠폰_재고_부족_시_예외가_발생한다() {
         // given
@@ -0,0 +1,164 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.config.redis.LockPlan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_PROCESSING_TIMEOUT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitProcessorTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderGroupCommitProcessor orderGroupCommitProcessor;
+
+    private final List<OrderProduct> orderProducts = List.of(OrderProduct.builder()
+            .productId(1L)
+            .quantity(1L)
+            .build());
+
+    @BeforeEach
+    void setUp() {
+        orderGroupCommitProcessor = new OrderGroupCommitProcessor(orderService, distributedLockService, transactionManager);
+        lenient().when(distributedLockService.executeWithLockPlan(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderGroupCommitProcessor.stop();
+    }
+
+    @Test
+    void 그룹_커밋이_비활성화되어_있으면_바로_주문을_처리한다() {
+        // given
+        Order order = Order.builder().userId(1L).build();
+        given(orderService.placeOrder(order, orderProducts)).willReturn(order);
+
+        // when
+        Order result = orderGroupCommitProcessor.placeOrder(order, orderProducts);
+
+        // then
+        assertThat(result).isSameAs(order);
+        then(transactionManager).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 동시에_들어온_주문은_각자의_결과를_돌려받는다() {
+        // given
+        enable();
+        given(orderService.placeOrder(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CompletableFuture<Order> first = CompletableFuture.supplyAsync(() ->
+                orderGroupCommitProcessor.placeOrder(Order.builder().userId(1L).build(), orderProducts));
+        CompletableFuture<Order> second = CompletableFuture.supplyAsync(() ->
+                orderGroupCommitProcessor.placeOrder(Order.builder().userId(2L).build(), orderProducts));
+
+        // then
+        assertThat(first.join().getUserId()).isEqualTo(1L);
+        assertThat(second.join().getUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 배치에_포함된_사용자의_락을_모두_획득한_뒤_트랜잭션을_시작한다() {
+        // given
+        enable();
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "lingerMillis", 500L);
+        given(orderService.placeOrder(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CompletableFuture<Order> first = CompletableFuture.supplyAsync(() ->
+                orderGroupCommitProcessor.placeOrder(Order.builder().userId(1L).build(), orderProducts));
+        CompletableFuture<Order> second = CompletableFuture.supplyAsync(() ->
+                orderGroupCommitProcessor.placeOrder(Order.builder().userId(2L).build(), orderProducts));
+        first.join();
+        second.join();
+
+        // then
+        ArgumentCaptor<LockPlan> planCaptor = ArgumentCaptor.forClass(LockPlan.class);
+        InOrder inOrder = inOrder(distributedLockService, transactionManager);
+        inOrder.verify(distributedLockService).executeWithLockPlan(planCaptor.capture(), any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        assertThat(planCaptor.getValue().getKeys()).containsExactly("order:user:1", "order:user:2");
+    }
+
+    @Test
+    void 배치_중_실패한_주문만_예외를_돌려받는다() {
+        // given
+        enable();
+        lenient().when(orderService.placeOrder(any(), any())).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getUserId() == 2L) {
+                throw new ApiException(OUT_OF_STOCK_PRODUCT);
+            }
+            return order;
+        });
+
+        // when
+        CompletableFuture<Order> success = CompletableFuture.supplyAsync(() ->
+                orderGroupCommitProcessor.placeOrder(Order.builder().userId(1L).build(), orderProducts));
+        CompletableFuture<Order> failure = CompletableFuture.supplyAsync(() ->
+                orderGroupCommitProcessor.placeOrder(Order.builder().userId(2L).build(), orderProducts));
+
+        // then
+        assertThat(success.join().getUserId()).isEqualTo(1L);
+        assertThatThrownBy(failure::join)
+                .hasCauseInstanceOf(ApiException.class)
+                .hasRootCauseMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+    }
+
+    @Test
+    void 대기_시간_안에_결과가_없으면_요청을_취소하고_타임아웃_예외가_발생한다() {
+        // given
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "enabled", true);
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "workerCount", 0);
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "waitTimeoutMillis", 50L);
+        orderGroupCommitProcessor.start();
+
+        // when & then
+        assertThatThrownBy(() -> orderGroupCommitProcessor.placeOrder(Order.builder().userId(1L).build(), orderProducts))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(ORDER_PROCESSING_TIMEOUT.getMessage());
+        then(orderService).shouldHaveNoInteractions();
+    }
+
+    private void enable() {
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "enabled", true);
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "lingerMillis", 50L);
+        ReflectionTestUtils.setField(orderGroupCommitProcessor, "workerCount", 1);
+        orderGroupCommitProcessor.start();
+    }
+}
@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_PROCESSING_TIMEOUT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static kr.hhplus.be.server.common.exception.ErrorCode.ORDER_REQUEST_IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+
+    private static final String KEY = "order:idempotency:1:key-1";
+
+    @InjectMocks
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    void 최초_요청은_주문을_처리하고_결과를_저장한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(true);
+
+        // when
+        Long orderId = orderIdempotencyService.execute(1L, "key-1", () -> 100L);
+
+        // then
+        assertThat(orderId).isEqualTo(100L);
+        then(valueOperations).should().set(eq(KEY), eq("100"), any(Duration.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void 처리_완료된_키로_재요청하면_주문을_다시_처리하지_않고_결과를_반환한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("100");
+        Supplier<Long> task = mock(Supplier.class);
+
+        // when
+        Long orderId = orderIdempotencyService.execute(1L, "key-1", task);
+
+        // then
+        assertThat(orderId).isEqualTo(100L);
+        then(task).should(never()).get();
+    }
+
+    @Test
+    void 처리_중인_키로_재요청하면_예외가_발생한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("PROCESSING");
+
+        // when & then
+        assertThatThrownBy(() -> orderIdempotencyService.execute(1L, "key-1", () -> 100L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(ORDER_REQUEST_IN_PROGRESS.getMessage());
+    }
+
+    @Test
+    void 주문_처리에_실패하면_처리_중_표시를_삭제한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> orderIdempotencyService.execute(1L, "key-1", () -> {
+            throw new ApiException(OUT_OF_STOCK_PRODUCT);
+        }))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+        then(stringRedisTemplate).should().delete(KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void 시간_초과된_요청을_같은_키로_재시도하면_주문을_다시_처리하지_않는다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(true, false);
+        given(valueOperations.get(KEY)).willReturn("UNKNOWN");
+        Supplier<Long> retry = mock(Supplier.class);
+
+        assertThatThrownBy(() -> orderIdempotencyService.execute(1L, "key-1", () -> {
+            throw new ApiException(ORDER_PROCESSING_TIMEOUT);
+        }))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(ORDER_PROCESSING_TIMEOUT.getMessage());
+
+        // when & then
+        assertThatThrownBy(() -> orderIdempotencyService.execute(1L, "key-1", retry))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(ORDER_REQUEST_IN_PROGRESS.getMessage());
+        then(stringRedisTemplate).should(never()).delete(KEY);
+        then(valueOperations).should().set(eq(KEY), eq("UNKNOWN"), any(Duration.class));
+        then(retry).should(never()).get();
+    }
+
+    @Test
+    void 결과를_알_수_없는_예외로_실패하면_처리_중_표시를_지우지_않는다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> orderIdempotencyService.execute(1L, "key-1", () -> {
+            throw new IllegalStateException("커밋 실패");
+        }))
+                .isInstanceOf(IllegalStateException.class);
+        then(stringRedisTemplate).should(never()).delete(KEY);
+        then(valueOperations).should().set(eq(KEY), eq("UNKNOWN"), any(Duration.class));
+    }
+}
@@ -0,0 +1,141 @@
+package kr.hhplus.be.server.application.order;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderProduct;
+import kr.hhplus.be.server.domain.order.OrderProductRepository;
+import kr.hhplus.be.server.domain.order.event.OrderEventPublisher;
+import kr.hhplus.be.server.domain.point.Point;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.infrastructure.external.orderinfo.DataPlatform;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointRepository;
+import kr.hhplus.be.server.infrastructure.persistence.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 쓰기의 JDBC 문장 수 측정
+ * ID를 애플리케이션에서 채번하므로 주문 상품 수가 늘어도 INSERT 문장 수는 늘지 않아야 함
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+class OrderInsertBatchIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private DataPlatform dataPlatform;
+
+    @MockitoBean
+    private OrderEventPublisher orderEventPublisher;
+
+    private Statistics statistics;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        productIds = LongStream.rangeClosed(1, 5)
+                .mapToObj(i -> productRepository.save(Product.builder()
+                        .name("배치 테스트 상품 " + i)
+                        .price(1000L)
+                        .stock(100L)
+                        .salesCount(0L)
+                        .description("배치 테스트 상품 설명")
+                        .build()).getId())
+                .toList();
+
+        pointRepository.save(Point.builder()
+                .userId(100L)
+                .volume(1_000_000L)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 주문_상품_INSERT가_하나의_배치로_전송된다() {
+        // given
+        List<OrderProduct> orderProducts = productIds.stream()
+                .map(productId -> OrderProduct.builder()
+                        .productId(productId)
+                        .orderId(1L)
+                        .unitPrice(1000L)
+                        .quantity(1L)
+                        .build())
+                .toList();
+        statistics.clear();
+
+        // when
+        orderProductRepository.saveAll(orderProducts);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 주문_상품_수가_늘어도_주문당_SQL_문장_수는_같다() {
+        // given
+        long singleItemStatements = measurePlaceOrderStatements(productIds.subList(0, 1));
+
+        // when
+        long fiveItemStatements = measurePlaceOrderStatements(productIds);
+
+        // then
+        log.info("주문당 SQL 문장 수 - 상품 1개: {}, 상품 5개: {}", singleItemStatements, fiveItemStatements);
+        assertThat(fiveItemStatements).isEqualTo(singleItemStatements);
+    }
+
+    private long measurePlaceOrderStatements(List<Long> orderProductIds) {
+        Order order = Order.builder()
+                .userId(100L)
+                .build();
+        List<OrderProduct> orderProducts = orderProductIds.stream()
+                .map(productId -> OrderProduct.builder()
+                        .productId(productId)
+                        .quantity(1L)
+                        .build())
+                .toList();
+
+        entityManager.clear();
+        statistics.clear();
+        orderService.placeOrder(order, orderProducts);
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,9 +1,11 @@
 package kr.hhplus.be.server.application.order;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.hhplus.be.server.application.bestseller.BestSellerRankingService;
 import kr.hhplus.be.server.application.coupon.CouponService;
 import kr.hhplus.be.server.application.payment.PaymentService;
 import kr.hhplus.be.server.application.product.ProductService;
+import kr.hhplus.be.server.application.product.ProductStockService;
 import kr.hhplus.be.server.common.exception.ApiException;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderProduct;
@@ -11,20 +13,24 @@ import kr.hhplus.be.server.domain.order.OrderProductRepository;
 import kr.hhplus.be.server.domain.order.OrderRepository;
 import kr.hhplus.be.server.domain.order.OrderStatus;
 import kr.hhplus.be.server.domain.order.event.OrderEventPublisher;
+import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import kr.hhplus.be.server.domain.product.Product;
-import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.kafka.order.OrderKafkaEventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +42,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -43,6 +50,11 @@ class OrderServiceTest {
     @InjectMocks
     private OrderService orderService;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OrderMetrics orderMetrics = new OrderMetrics(meterRegistry);
+
     @Mock
     private OrderRepository orderRepository;
 
@@ -56,10 +68,10 @@ class OrderServiceTest {
     private ProductService productService;
 
     @Mock
-    private PaymentService paymentService;
+    private ProductStockService productStockService;
 
     @Mock
-    private DistributedLockService distributedLockService;
+    private PaymentService paymentService;
 
     @Mock
     private BestSellerRankingService bestSellerRankingService;
@@ -67,6 +79,9 @@ class OrderServiceTest {
     @Mock
     private OrderEventPublisher orderEventPublisher;
 
+    @Mock
+    private OrderKafkaEventService orderKafkaEventService;
+
     @Nested
     class Describe_createOrder {
 
@@ -101,26 +116,29 @@ class OrderServiceTest {
             productMap = Map.of(1L, product);
             
             // 기본 모킹 설정
-            lenient().when(productService.getProductWithPessimisticLock(1L)).thenReturn(product);
             lenient().when(productService.getProductMapByIds(any())).thenReturn(productMap);
             lenient().when(orderRepository.save(any(Order.class))).thenReturn(order);
             
-            // 분산락 모킹 설정 - 락을 성공적으로 획득하고 작업을 실행하도록 설정
-            lenient().when(distributedLockService.executeOrderLock(eq(1L), any())).thenAnswer(invocation -> {
-                return invocation.getArgument(1, java.util.function.Supplier.class).get();
-            });
-            lenient().when(distributedLockService.executeProductStockLock(eq(1L), any())).thenAnswer(invocation -> {
-                return invocation.getArgument(1, java.util.function.Supplier.class).get();
-            });
-            lenient().when(distributedLockService.executePaymentLock(any(), any())).thenAnswer(invocation -> {
-                return invocation.getArgument(1, java.util.function.Supplier.class).get();
-            });
-            
             lenient().doNothing().when(bestSellerRankingService).incrementTodaySales(any(), any());
             
             lenient().doNothing().when(orderEventPublisher).publishOrderCompletedEvent(any(), any(), any());
         }
 
+        @Test
+        void 아웃박스_승인_모드에서는_결제_요청만_저장하고_주문을_보류한다() {
+            // given
+            given(paymentService.isOutboxApproval()).willReturn(true);
+
+            // when
+            Order result = orderService.placeOrder(order, orderProducts);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(OrderStatus.PENDING);
+            then(paymentService).should().requestPayment(eq(1L), eq(1L), eq(20000L), eq(PaymentMethod.POINT), any(String.class));
+            then(paymentService).should(never()).processPayment(any(), any(), any(), any(), any());
+            then(orderEventPublisher).should(never()).publishOrderCompletedEvent(any(), any(), any());
+        }
+
         @Test
         void 주문_상품이_없으면_예외가_발생한다() {
             assertThatThrownBy(() -> orderService.placeOrder(order, new ArrayList<>()))
@@ -131,7 +149,8 @@ class OrderServiceTest {
         @Test
         void 주문이_성공적으로_생성된다() {
             // given
-            doNothing().when(paymentService).processPayment(eq(1L), eq(1L), eq(20000L), eq(PaymentMethod.POINT), any(String.class));
+            given(paymentService.processPayment(eq(1L), eq(1L), eq(20000L), eq(PaymentMethod.POINT), any(String.class)))
+                    .willReturn(payment(PaymentStatus.APPROVED));
 
             // when
             Order result = orderService.placeOrder(order, orderProducts);
@@ -140,14 +159,27 @@ class OrderServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
             then(orderRepository).should().save(order);
-            then(orderProductRepository).should().save(any(OrderProduct.class));
+            then(orderProductRepository).should().saveAll(orderProducts);
             then(paymentService).should().processPayment(eq(1L), eq(1L), eq(20000L), eq(PaymentMethod.POINT), any(String.class));
-            then(distributedLockService).should().executeOrderLock(eq(1L), any());
-            then(distributedLockService).should().executeProductStockLock(eq(1L), any());
+            then(productStockService).should().reserveStocks(Map.of(1L, 2L));
             then(bestSellerRankingService).should().incrementTodaySales(eq(1L), eq(2L));
             then(orderEventPublisher).should().publishOrderCompletedEvent(any(Order.class), eq(orderProducts), any());
         }
 
+        @Test
+        void PG_결제가_승인_대기_중이면_주문을_보류한다() {
+            // given
+            given(paymentService.processPayment(eq(1L), eq(1L), eq(20000L), eq(PaymentMethod.POINT), any(String.class)))
+                    .willReturn(payment(PaymentStatus.PENDING));
+
+            // when
+            Order result = orderService.placeOrder(order, orderProducts);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(OrderStatus.PENDING);
+            then(orderEventPublisher).should(never()).publishOrderCompletedEvent(any(), any(), any());
+        }
+
         @Test
         void 쿠폰이_적용된_주문이_성공적으로_생성된다() {
             // given
@@ -157,7 +189,8 @@ class OrderServiceTest {
                 .userCouponId(1L)
                 .build();
             given(couponService.calculateDiscountPrice(1L, 20000L)).willReturn(15000L);
-            doNothing().when(paymentService).processPayment(eq(1L), eq(1L), eq(15000L), eq(PaymentMethod.POINT), any(String.class));
+            given(paymentService.processPayment(eq(1L), eq(1L), eq(15000L), eq(PaymentMethod.POINT), any(String.class)))
+                    .willReturn(payment(PaymentStatus.APPROVED));
 
             // when
             Order result = orderService.placeOrder(couponOrder, orderProducts);
@@ -167,12 +200,25 @@ class OrderServiceTest {
             assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
             then(couponService).should().useCoupon(1L);
             then(paymentService).should().processPayment(eq(1L), eq(1L), eq(15000L), eq(PaymentMethod.POINT), any(String.class));
-            then(distributedLockService).should().executeOrderLock(eq(1L), any());
-            then(distributedLockService).should().executeProductStockLock(eq(1L), any());
+            then(productStockService).should().reserveStocks(Map.of(1L, 2L));
             then(bestSellerRankingService).should().incrementTodaySales(eq(1L), eq(2L));
             then(orderEventPublisher).should().publishOrderCompletedEvent(any(Order.class), eq(orderProducts), any());
         }
 
+        @Test
+        void 재고가_부족하면_예외가_발생하고_결제를_진행하지_않는다() {
+            // given
+            doThrow(new ApiException(OUT_OF_STOCK_PRODUCT))
+                .when(productStockService).reserveStocks(Map.of(1L, 2L));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.placeOrder(order, orderProducts))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+            then(paymentService).shouldHaveNoInteractions();
+            assertThat(stageTimerCount("stock_decrement", "failure")).isEqualTo(1);
+        }
+
         @Test
         void 결제가_실패하면_예외가_발생한다() {
             // given
@@ -183,6 +229,178 @@ class OrderServiceTest {
             assertThatThrownBy(() -> orderService.placeOrder(order, orderProducts))
                     .isInstanceOf(ApiException.class)
                     .hasMessage(PAYMENT_FAILED.getMessage());
+            assertThat(stageTimerCount("stock_decrement", "success")).isEqualTo(1);
+            assertThat(stageTimerCount("payment", "failure")).isEqualTo(1);
+            assertThat(stageTimerCount("order_product_save", "success")).isZero();
         }
     }
-} 
\ No newline at end of file
+
+    private static Payment payment(PaymentStatus status) {
+        return Payment.builder()
+                .orderId(1L)
+                .amount(20000L)
+                .paymentMethod(PaymentMethod.CARD)
+                .status(status)
+                .build();
+    }
+
+    @Nested
+    class Describe_acceptOrder {
+
+        private Order order;
+        private List<OrderProduct> orderProducts;
+
+        @BeforeEach
+        void setUp() {
+            order = Order.builder()
+                .id(1L)
+                .userId(1L)
+                .build();
+            orderProducts = List.of(OrderProduct.builder()
+                .productId(1L)
+                .quantity(2L)
+                .build());
+        }
+
+        @Test
+        void 대기_상태로_주문을_저장하고_처리_요청을_발행한다() {
+            // given
+            given(orderRepository.save(order)).willReturn(order);
+
+            // when
+            Order result = orderService.acceptOrder(order, orderProducts);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(OrderStatus.WAITING);
+            then(orderKafkaEventService).should().publishOrderPlacementRequest(order, orderProducts);
+            then(productStockService).shouldHaveNoInteractions();
+            then(paymentService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 처리_요청_발행에_실패하면_주문을_실패_처리한다() {
+            // given
+            given(orderRepository.save(order)).willReturn(order);
+            doThrow(new ApiException(ORDER_CREATION_FAILED))
+                .when(orderKafkaEventService).publishOrderPlacementRequest(order, orderProducts);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.acceptOrder(order, orderProducts))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage(ORDER_CREATION_FAILED.getMessage());
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.FAILED);
+        }
+
+        @Test
+        void 이미_처리된_주문은_다시_처리하지_않는다() {
+            // given
+            order.success();
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+
+            // when
+            Order result = orderService.placeAcceptedOrder(1L, 1L, orderProducts);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            then(paymentService).shouldHaveNoInteractions();
+            then(productStockService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 처리에_실패한_대기_주문을_실패_상태로_변경한다() {
+            // given
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+
+            // when
+            orderService.markOrderAsFailed(1L);
+
+            // then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.FAILED);
+        }
+
+        @Test
+        void 존재하지_않는_주문을_조회하면_예외가_발생한다() {
+            // given
+            given(orderRepository.findById(99L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> orderService.getOrder(99L))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage(ORDER_NOT_FOUND.getMessage());
+        }
+    }
+
+    @Nested
+    class Describe_pendingOrder {
+
+        private Order order;
+        private List<OrderProduct> orderProducts;
+
+        @BeforeEach
+        void setUp() {
+            order = Order.builder()
+                .id(1L)
+                .userId(1L)
+                .userCouponId(10L)
+                .isCouponApplied(true)
+                .build();
+            order.markAsPending();
+            orderProducts = List.of(
+                OrderProduct.builder().orderId(1L).productId(1L).quantity(2L).build(),
+                OrderProduct.builder().orderId(1L).productId(1L).quantity(1L).build(),
+                OrderProduct.builder().orderId(1L).productId(2L).quantity(1L).build()
+            );
+            lenient().when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+            lenient().when(orderProductRepository.findByOrderId(1L)).thenReturn(orderProducts);
+        }
+
+        @Test
+        void 결제가_승인되면_주문을_완료하고_완료_이벤트를_발행한다() {
+            // given
+            Product product1 = Product.builder().id(1L).name("상품1").price(1000L).stock(10L).salesCount(0L).description("상품1").build();
+            Product product2 = Product.builder().id(2L).name("상품2").price(2000L).stock(10L).salesCount(0L).description("상품2").build();
+            given(productService.getProductMapByIds(List.of(1L, 2L))).willReturn(Map.of(1L, product1, 2L, product2));
+
+            // when
+            orderService.completePendingOrder(1L);
+
+            // then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            then(orderEventPublisher).should().publishOrderCompletedEvent(order, orderProducts, List.of(product1, product1, product2));
+        }
+
+        @Test
+        void 결제가_실패하면_재고와_쿠폰을_복구한다() {
+            // when
+            orderService.failPendingOrder(1L);
+
+            // then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.FAILED);
+            then(productStockService).should().restoreStocks(Map.of(1L, 3L, 2L, 1L));
+            then(couponService).should().cancelCouponUsage(10L);
+            then(orderEventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 이미_처리된_주문은_보상하지_않는다() {
+            // given
+            order.success();
+
+            // when
+            orderService.failPendingOrder(1L);
+
+            // then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            then(productStockService).shouldHaveNoInteractions();
+            then(couponService).shouldHaveNoInteractions();
+        }
+    }
+
+    private long stageTimerCount(String stage, String outcome) {
+        return meterRegistry.get("order.place.stage")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentGateway;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayRequest;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayResult;
+import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.domain.payment.event.PaymentResultEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentGatewayApprovalServiceTest {
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PaymentGatewayApprovalService paymentGatewayApprovalService;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        paymentGatewayApprovalService = new PaymentGatewayApprovalService(
+                paymentGateway, paymentRepository, transactionManager, Runnable::run, eventPublisher);
+        payment = Payment.create(1L, "ORDER_1", PaymentMethod.CARD, 10000L);
+        ReflectionTestUtils.setField(payment, "id", 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 결제_트랜잭션이_커밋된_뒤에_PG에_승인을_요청한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(paymentGateway.approve(any())).willReturn(CompletableFuture.completedFuture(PaymentGatewayResult.approved("PG-1")));
+        given(paymentRepository.findById(100L)).willReturn(Optional.of(payment));
+
+        // when
+        paymentGatewayApprovalService.requestApprovalAfterCommit(payment);
+
+        // then
+        then(paymentGateway).should(never()).approve(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(payment.getPgTransactionId()).isEqualTo("PG-1");
+        ArgumentCaptor<PaymentResultEvent> eventCaptor = ArgumentCaptor.forClass(PaymentResultEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getOrderId()).isEqualTo(1L);
+        assertThat(eventCaptor.getValue().isApproved()).isTrue();
+    }
+
+    @Test
+    void PG가_거절하면_결제를_실패_처리한다() {
+        // given
+        given(paymentGateway.approve(any())).willReturn(CompletableFuture.completedFuture(PaymentGatewayResult.declined("한도 초과")));
+        given(paymentRepository.findById(100L)).willReturn(Optional.of(payment));
+
+        // when
+        paymentGatewayApprovalService.requestApproval(PaymentGatewayRequest.from(payment)).join();
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        ArgumentCaptor<PaymentResultEvent> eventCaptor = ArgumentCaptor.forClass(PaymentResultEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isApproved()).isFalse();
+    }
+
+    @Test
+    void PG_결과를_알_수_없으면_PENDING으로_남긴다() {
+        // given
+        given(paymentGateway.approve(any())).willReturn(CompletableFuture.completedFuture(PaymentGatewayResult.unknown("HttpTimeoutException")));
+        given(paymentRepository.findById(100L)).willReturn(Optional.of(payment));
+
+        // when
+        paymentGatewayApprovalService.requestApproval(PaymentGatewayRequest.from(payment)).join();
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.common.id.SnowflakeIdSequence;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayRequest;
+import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentGatewayRecoverySchedulerTest {
+
+    @InjectMocks
+    private PaymentGatewayRecoveryScheduler paymentGatewayRecoveryScheduler;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentGatewayApprovalService paymentGatewayApprovalService;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Test
+    void 결과를_알_수_없는_PG_결제를_같은_멱등성_키로_다시_요청한다() {
+        // given
+        Payment payment = Payment.create(1L, "ORDER_1", PaymentMethod.CARD, 10000L);
+        ReflectionTestUtils.setField(payment, "id", 100L);
+        given(paymentRepository.findPendingGatewayPayments(anyLong(), anyInt())).willReturn(List.of(payment));
+
+        // when
+        paymentGatewayRecoveryScheduler.recover();
+
+        // then
+        ArgumentCaptor<PaymentGatewayRequest> requestCaptor = ArgumentCaptor.forClass(PaymentGatewayRequest.class);
+        then(paymentGatewayApprovalService).should().requestApproval(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().getPaymentId()).isEqualTo(100L);
+        assertThat(requestCaptor.getValue().getIdempotencyKey()).isEqualTo("ORDER_1");
+    }
+
+    @Test
+    void 유예_시간_이전에_생성된_결제만_조회한다() {
+        // given
+        long now = SnowflakeIdSequence.minIdAt(Instant.now());
+
+        // when
+        paymentGatewayRecoveryScheduler.recover();
+
+        // then
+        ArgumentCaptor<Long> beforeIdCaptor = ArgumentCaptor.forClass(Long.class);
+        then(paymentRepository).should().findPendingGatewayPayments(beforeIdCaptor.capture(), anyInt());
+        assertThat(beforeIdCaptor.getValue()).isLessThan(now);
+    }
+}
@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.application.payment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.DUPLICATE_PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentIdempotencyServiceTest {
+
+    private static final String KEY = "payment:idempotency:ORDER_1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentIdempotencyService paymentIdempotencyService;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentIdempotencyService = new PaymentIdempotencyService(stringRedisTemplate, paymentRepository, meterRegistry);
+        payment = Payment.create(1L, "ORDER_1", PaymentMethod.POINT, 10000L);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 최초_결제는_키를_선점하고_커밋되면_결제_결과를_저장한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(true);
+
+        // when
+        paymentIdempotencyService.acquire(payment);
+        payment.markAsApproved();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        then(valueOperations).should().set(eq(KEY), eq("APPROVED"), any(Duration.class));
+        assertThat(resultCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void 결제가_롤백되면_키를_삭제한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(true);
+
+        // when
+        paymentIdempotencyService.acquire(payment);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        then(stringRedisTemplate).should().delete(KEY);
+    }
+
+    @Test
+    void 처리된_결제_키로_다시_요청하면_예외가_발생한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("APPROVED");
+
+        // when & then
+        assertThatThrownBy(() -> paymentIdempotencyService.acquire(payment))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(DUPLICATE_PAYMENT.getMessage());
+        assertThat(resultCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void 처리_중인_결제_키로_다시_요청하면_예외가_발생한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("PROCESSING");
+
+        // when & then
+        assertThatThrownBy(() -> paymentIdempotencyService.acquire(payment))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(DUPLICATE_PAYMENT.getMessage());
+        assertThat(resultCount("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    void Redis_장애_시_DB로_중복_여부를_확인한다() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("연결 실패"));
+        given(paymentRepository.existsByIdempotencyKey("ORDER_1")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> paymentIdempotencyService.acquire(payment))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(DUPLICATE_PAYMENT.getMessage());
+        assertThat(resultCount("fallback")).isEqualTo(1);
+    }
+
+    private double resultCount(String result) {
+        return meterRegistry.get("payment.idempotency").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,103 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.application.order.OrderService;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentOutboxEntry;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.NOT_ENOUGH_POINT;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxRelayTest {
+
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PaymentOutboxRelay paymentOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        paymentOutboxRelay = new PaymentOutboxRelay(
+                paymentOutboxRepository, paymentService, orderService, transactionManager, 10, 30, 3);
+    }
+
+    @Test
+    void 가져온_항목의_결제를_승인하고_주문을_완료한_뒤_아웃박스에서_삭제한다() {
+        // given
+        PaymentOutboxEntry entry = new PaymentOutboxEntry(1L, 100L, 10L, 1000L, 0);
+        given(paymentOutboxRepository.claimDue(10, 30)).willReturn(List.of(entry));
+        given(paymentService.approvePendingPayment(100L, 1000L)).willReturn(true);
+
+        // when
+        paymentOutboxRelay.relay();
+
+        // then
+        then(orderService).should().completePendingOrder(10L);
+        then(paymentOutboxRepository).should().delete(1L);
+    }
+
+    @Test
+    void 잔액_부족처럼_승인이_거절되면_결제와_주문을_실패_처리한다() {
+        // given
+        PaymentOutboxEntry entry = new PaymentOutboxEntry(1L, 100L, 10L, 1000L, 0);
+        given(paymentService.approvePendingPayment(100L, 1000L)).willThrow(new ApiException(NOT_ENOUGH_POINT));
+
+        // when
+        paymentOutboxRelay.process(entry);
+
+        // then
+        then(paymentService).should().failPendingPayment(100L);
+        then(orderService).should().failPendingOrder(10L);
+        then(paymentOutboxRepository).should().delete(1L);
+        then(paymentOutboxRepository).should(never()).reschedule(anyLong(), anyLong());
+    }
+
+    @Test
+    void 일시적_오류는_백오프_후_재시도하도록_예약한다() {
+        // given
+        PaymentOutboxEntry entry = new PaymentOutboxEntry(1L, 100L, 10L, 1000L, 1);
+        given(paymentService.approvePendingPayment(100L, 1000L)).willThrow(new IllegalStateException("DB 연결 실패"));
+
+        // when
+        paymentOutboxRelay.process(entry);
+
+        // then
+        then(paymentOutboxRepository).should().reschedule(1L, 4L);
+        then(paymentService).should(never()).failPendingPayment(100L);
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_실패_처리한다() {
+        // given
+        PaymentOutboxEntry entry = new PaymentOutboxEntry(1L, 100L, 10L, 1000L, 2);
+        given(paymentService.approvePendingPayment(100L, 1000L)).willThrow(new IllegalStateException("DB 연결 실패"));
+
+        // when
+        paymentOutboxRelay.process(entry);
+
+        // then
+        then(paymentService).should().failPendingPayment(100L);
+        then(paymentOutboxRepository).should(never()).reschedule(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentReconciliationDiscrepancy;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentReconciliationRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.UserPaymentTotal;
+import kr.hhplus.be.server.infrastructure.persistence.payment.UserUseTotal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 3, 0);
+    private static final LocalDateTime SETTLED_BEFORE = CUTOFF.minusSeconds(60);
+    private static final LocalDateTime RECORDED_BEFORE = CUTOFF.plusSeconds(60);
+
+    @Mock
+    private PaymentReconciliationRepository paymentReconciliationRepository;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    private PaymentReconciliationJob createJob(int partitions, long chunkSize) {
+        return createJob(partitions, chunkSize, 10);
+    }
+
+    private PaymentReconciliationJob createJob(int partitions, long chunkSize, int maximumPoolSize) {
+        return new PaymentReconciliationJob(paymentReconciliationRepository, distributedLockService,
+                "balance", partitions, chunkSize, 10, 60, 3600, maximumPoolSize);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 결제_합계와_사용_이력_합계가_다른_사용자만_불일치로_기록한다() {
+        // given
+        given(paymentReconciliationRepository.findUserIdRange(false)).willReturn(Optional.of(new long[]{1, 3}));
+        willAnswer(invocation -> {
+            Consumer<UserPaymentTotal> consumer = invocation.getArgument(3);
+            consumer.accept(new UserPaymentTotal(1L, 2, 20000));
+            consumer.accept(new UserPaymentTotal(2L, 1, 5000));
+            consumer.accept(new UserPaymentTotal(3L, 1, 7000));
+            return null;
+        }).given(paymentReconciliationRepository).streamPaymentTotals(eq(0L), eq(3L), eq(CUTOFF), any());
+        willAnswer(invocation -> {
+            Consumer<UserUseTotal> consumer = invocation.getArgument(5);
+            consumer.accept(new UserUseTotal(1L, 2, 20000, 2, 20000));
+            consumer.accept(new UserUseTotal(2L, 1, 4000, 1, 4000));
+            return null;
+        }).given(paymentReconciliationRepository)
+                .streamUseTotals(eq(false), eq(0L), eq(3L), eq(SETTLED_BEFORE), eq(RECORDED_BEFORE), any());
+
+        // when
+        long discrepancyCount = createJob(1, 1000).reconcile(CUTOFF);
+
+        // then
+        assertThat(discrepancyCount).isEqualTo(2);
+        ArgumentCaptor<List<PaymentReconciliationDiscrepancy>> captor = ArgumentCaptor.forClass(List.class);
+        then(paymentReconciliationRepository).should().insertDiscrepancies(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(PaymentReconciliationDiscrepancy::getUserId, PaymentReconciliationDiscrepancy::getLedgerAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(2L, 4000L),
+                        tuple(3L, 0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 기준_시각을_사이에_두고_승인과_사용_기록이_갈린_결제는_불일치로_보지_않는다() {
+        // given
+        given(paymentReconciliationRepository.findUserIdRange(false)).willReturn(Optional.of(new long[]{1, 3}));
+        willAnswer(invocation -> {
+            Consumer<UserPaymentTotal> consumer = invocation.getArgument(3);
+            // 사용자 1: 기준 직전에 사용 기록, 기준 직후에 승인된 결제는 결제 쪽에서 빠짐
+            consumer.accept(new UserPaymentTotal(1L, 1, 10000));
+            // 사용자 2: 기준 직전에 승인, 기준 직후에 사용 기록된 결제
+            consumer.accept(new UserPaymentTotal(2L, 2, 8000));
+            return null;
+        }).given(paymentReconciliationRepository).streamPaymentTotals(eq(0L), eq(3L), eq(CUTOFF), any());
+        willAnswer(invocation -> {
+            Consumer<UserUseTotal> consumer = invocation.getArgument(5);
+            consumer.accept(new UserUseTotal(1L, 1, 10000, 2, 15000));
+            consumer.accept(new UserUseTotal(2L, 1, 3000, 2, 8000));
+            // 사용자 3: 여유 시간 밖에서 사용했는데 결제가 없음
+            consumer.accept(new UserUseTotal(3L, 1, 7000, 1, 7000));
+            return null;
+        }).given(paymentReconciliationRepository)
+                .streamUseTotals(eq(false), eq(0L), eq(3L), eq(SETTLED_BEFORE), eq(RECORDED_BEFORE), any());
+
+        // when
+        long discrepancyCount = createJob(1, 1000).reconcile(CUTOFF);
+
+        // then
+        assertThat(discrepancyCount).isEqualTo(1);
+        ArgumentCaptor<List<PaymentReconciliationDiscrepancy>> captor = ArgumentCaptor.forClass(List.class);
+        then(paymentReconciliationRepository).should().insertDiscrepancies(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(PaymentReconciliationDiscrepancy::getUserId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void 파티션_수는_커넥션_풀_크기보다_작게_제한한다() {
+        // given
+        given(paymentReconciliationRepository.findUserIdRange(false)).willReturn(Optional.of(new long[]{1, 10}));
+
+        // when
+        createJob(4, 3, 3).reconcile(CUTOFF);
+
+        // then
+        // 풀 크기 3 이므로 파티션 2개: (0, 5], (5, 10] 을 폭 3 청크로 처리
+        then(paymentReconciliationRepository).should(times(4))
+                .streamPaymentTotals(anyLong(), anyLong(), eq(CUTOFF), any());
+        then(paymentReconciliationRepository).should()
+                .streamPaymentTotals(eq(3L), eq(5L), eq(CUTOFF), any());
+    }
+
+    @Test
+    void 사용자_ID_범위를_청크_단위로_나눠_모두_대사한다() {
+        // given
+        given(paymentReconciliationRepository.findUserIdRange(false)).willReturn(Optional.of(new long[]{1, 10}));
+
+        // when
+        createJob(2, 3).reconcile(CUTOFF);
+
+        // then
+        // (0, 10] 을 두 파티션 (0, 5], (5, 10] 으로 나누고 각 파티션을 폭 3 청크로 처리: (0,3] (3,5] (5,8] (8,10]
+        then(paymentReconciliationRepository).should(times(4))
+                .streamPaymentTotals(anyLong(), anyLong(), eq(CUTOFF), any());
+        then(paymentReconciliationRepository).should()
+                .streamPaymentTotals(eq(3L), eq(5L), eq(CUTOFF), any());
+        then(paymentReconciliationRepository).should()
+                .streamPaymentTotals(eq(8L), eq(10L), eq(CUTOFF), any());
+    }
+
+    @Test
+    void 대사할_데이터가_없으면_아무것도_조회하지_않는다() {
+        // given
+        given(paymentReconciliationRepository.findUserIdRange(anyBoolean())).willReturn(Optional.empty());
+
+        // when
+        long discrepancyCount = createJob(4, 1000).reconcile(CUTOFF);
+
+        // then
+        assertThat(discrepancyCount).isZero();
+        then(paymentReconciliationRepository).should(never()).insertDiscrepancies(anyString(), anyList());
+    }
+}
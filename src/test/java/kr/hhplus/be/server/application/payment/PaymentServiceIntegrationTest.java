@@ -76,10 +76,7 @@ class PaymentServiceIntegrationTest {
         pointRepository.save(point);
         
         // 분산락 모킹 설정 - 락을 성공적으로 획득하고 작업을 실행하도록 설정
-        lenient().when(distributedLockService.executePaymentLock(any(), any())).thenAnswer(invocation -> {
-            return invocation.getArgument(1, java.util.function.Supplier.class).get();
-        });
-        lenient().when(distributedLockService.executePointLock(any(), any())).thenAnswer(invocation -> {
+        lenient().when(distributedLockService.executeWithLockPlan(any(), any())).thenAnswer(invocation -> {
             return invocation.getArgument(1, java.util.function.Supplier.class).get();
         });
         
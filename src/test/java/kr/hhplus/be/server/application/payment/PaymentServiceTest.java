@@ -5,8 +5,9 @@ import kr.hhplus.be.server.common.exception.ApiException;
 import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentMethod;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import kr.hhplus.be.server.domain.point.Point;
-import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.infrastructure.persistence.payment.PaymentOutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,16 +15,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -38,7 +43,13 @@ class PaymentServiceTest {
     private PointService pointService;
 
     @Mock
-    private DistributedLockService distributedLockService;
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @Mock
+    private PaymentGatewayApprovalService paymentGatewayApprovalService;
+
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
 
     private String generateIdempotencyKey(Long orderId) {
         return String.format("ORDER_%d_%d", orderId, System.currentTimeMillis());
@@ -65,18 +76,9 @@ class PaymentServiceTest {
                 .volume(50000L)
                 .build();
 
-            // 분산락 모킹 설정 - 락을 성공적으로 획득하고 작업을 실행하도록 설정
-            lenient().when(distributedLockService.executePaymentLock(any(), any())).thenAnswer(invocation -> {
-                return invocation.getArgument(1, java.util.function.Supplier.class).get();
-            });
-            lenient().when(distributedLockService.executePointLock(any(), any())).thenAnswer(invocation -> {
-                return invocation.getArgument(1, java.util.function.Supplier.class).get();
-            });
-
             // 기본 모킹 설정
             lenient().when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
             lenient().when(paymentRepository.findById(any())).thenReturn(Optional.of(payment));
-            lenient().when(paymentRepository.existsByIdempotencyKey(any())).thenReturn(false);
             lenient().when(pointService.usePoint(any(), any())).thenReturn(point);
         }
 
@@ -100,23 +102,91 @@ class PaymentServiceTest {
             // then
             then(paymentRepository).should().save(any(Payment.class));
             then(pointService).should().usePoint(eq(userId), eq(amount));
-            then(distributedLockService).should().executePaymentLock(eq(orderId), any());
-            then(distributedLockService).should().executePointLock(eq(userId), any());
         }
 
         @Test
         void 중복_결제_요청이_들어오면_예외가_발생한다() {
             // given
-            given(paymentRepository.existsByIdempotencyKey(any())).willReturn(true);
+            willThrow(new ApiException(DUPLICATE_PAYMENT)).given(paymentIdempotencyService).acquire(any(Payment.class));
 
             // when & then
             assertThatThrownBy(() -> paymentService.processPayment(orderId, userId, amount, PaymentMethod.POINT, idempotencyKey))
                 .isInstanceOf(ApiException.class)
                 .hasMessage(DUPLICATE_PAYMENT.getMessage());
 
-            then(distributedLockService).should().executePaymentLock(eq(orderId), any());
+            then(paymentRepository).should(never()).save(any(Payment.class));
+            then(pointService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 카드_결제는_포인트를_차감하지_않고_PG_승인을_요청한다() {
+            // given
+            Payment cardPayment = Payment.create(orderId, idempotencyKey, PaymentMethod.CARD, amount);
+            given(paymentRepository.save(any(Payment.class))).willReturn(cardPayment);
+
+            // when
+            paymentService.processPayment(orderId, userId, amount, PaymentMethod.CARD, idempotencyKey);
+
+            // then
+            then(paymentGatewayApprovalService).should().requestApprovalAfterCommit(cardPayment);
+            then(pointService).shouldHaveNoInteractions();
+            assertThat(cardPayment.getStatus()).isEqualTo(PaymentStatus.PENDING);
         }
     }
 
+    @Nested
+    class Describe_outboxApproval {
+        private final Long orderId = 1L;
+        private final Long userId = 1L;
+        private final Long amount = 10000L;
+        private Payment payment;
+
+        @BeforeEach
+        void setUp() {
+            payment = Payment.create(orderId, "ORDER_1", PaymentMethod.POINT, amount);
+            ReflectionTestUtils.setField(payment, "id", 100L);
+        }
+
+        @Test
+        void 결제_요청은_포인트를_차감하지_않고_PENDING_결제와_아웃박스_항목을_저장한다() {
+            // given
+            given(paymentRepository.save(any(Payment.class))).willReturn(payment);
 
+            // when
+            paymentService.requestPayment(orderId, userId, amount, PaymentMethod.POINT, "ORDER_1");
+
+            // then
+            then(paymentOutboxRepository).should().insert(100L, orderId, userId);
+            then(pointService).shouldHaveNoInteractions();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        }
+
+        @Test
+        void 보류_중인_결제를_승인하면_포인트를_차감하고_APPROVED로_변경한다() {
+            // given
+            given(paymentRepository.findById(100L)).willReturn(Optional.of(payment));
+
+            // when
+            boolean approved = paymentService.approvePendingPayment(100L, userId);
+
+            // then
+            assertThat(approved).isTrue();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            then(pointService).should().usePoint(userId, amount);
+        }
+
+        @Test
+        void 이미_처리된_결제는_다시_승인하지_않는다() {
+            // given
+            payment.markAsApproved();
+            given(paymentRepository.findById(100L)).willReturn(Optional.of(payment));
+
+            // when
+            boolean approved = paymentService.approvePendingPayment(100L, userId);
+
+            // then
+            assertThat(approved).isFalse();
+            then(pointService).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.application.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceCacheTest {
+
+    private static final String KEY = "point:balance:1";
+    private static final List<String> KEYS = List.of(KEY, "point:balance:version:1");
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointBalanceCache pointBalanceCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pointBalanceCache = new PointBalanceCache(stringRedisTemplate, redisMessageListenerContainer, meterRegistry,
+                true, 60_000L, 100L, 30L);
+        loadCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 캐시에_없으면_DB에서_조회하고_두_단계_캐시에_채운다() {
+        // given
+        givenRedisValues(null, "3");
+        givenVersionedSet("3", 1L);
+
+        // when
+        long first = pointBalanceCache.get(1L, this::load);
+        long second = pointBalanceCache.get(1L, this::load);
+
+        // then
+        assertThat(first).isEqualTo(1000L);
+        assertThat(second).isEqualTo(1000L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS), eq("3"), eq("1000"), eq("30000"));
+        assertThat(resultCount("miss")).isEqualTo(1.0);
+        assertThat(resultCount("l1")).isEqualTo(1.0);
+    }
+
+    @Test
+    void DB_조회_중_무효화되었으면_조회한_잔액을_캐시에_남기지_않는다() {
+        // given
+        givenRedisValues(null, null);
+        givenVersionedSet("", 0L);
+
+        // when
+        long first = pointBalanceCache.get(1L, this::load);
+        long second = pointBalanceCache.get(1L, this::load);
+
+        // then
+        assertThat(first).isEqualTo(1000L);
+        assertThat(second).isEqualTo(1000L);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(resultCount("l1")).isZero();
+    }
+
+    @Test
+    void 로컬_캐시에_없으면_Redis_값을_사용한다() {
+        // given
+        givenRedisValues("500", null);
+
+        // when
+        long balance = pointBalanceCache.get(1L, this::load);
+
+        // then
+        assertThat(balance).isEqualTo(500L);
+        assertThat(loadCount.get()).isZero();
+        assertThat(resultCount("l2")).isEqualTo(1.0);
+    }
+
+    @Test
+    void Redis_장애시_DB에서_조회한다() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(KEYS)).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        long balance = pointBalanceCache.get(1L, this::load);
+
+        // then
+        assertThat(balance).isEqualTo(1000L);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 커밋된_뒤에만_캐시를_무효화하고_다른_인스턴스에_알린다() {
+        // given
+        givenRedisValues(null, null);
+        givenVersionedSet("", 1L);
+        pointBalanceCache.get(1L, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        pointBalanceCache.evictAfterCommit(1L);
+
+        // then
+        then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), eq(KEYS),
+                anyString(), eq(PointBalanceCache.INVALIDATION_CHANNEL), eq("1"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS),
+                anyString(), eq(PointBalanceCache.INVALIDATION_CHANNEL), eq("1"));
+
+        pointBalanceCache.get(1L, this::load);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 비활성화되면_항상_DB에서_조회한다() {
+        // given
+        PointBalanceCache disabled = new PointBalanceCache(stringRedisTemplate, redisMessageListenerContainer, meterRegistry,
+                false, 60_000L, 100L, 30L);
+
+        // when
+        disabled.subscribe();
+        disabled.get(1L, this::load);
+        disabled.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+        then(redisMessageListenerContainer).should(never()).addMessageListener(any(), any(Topic.class));
+    }
+
+    private void givenRedisValues(String balance, String version) {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(balance, version));
+    }
+
+    private void givenVersionedSet(String version, Long result) {
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq(version), eq("1000"), eq("30000")))
+                .willReturn(result);
+    }
+
+    private long load() {
+        loadCount.incrementAndGet();
+        return 1000L;
+    }
+
+    private double resultCount(String result) {
+        return meterRegistry.get("point.balance.cache").tag("result", result).counter().count();
+    }
+}
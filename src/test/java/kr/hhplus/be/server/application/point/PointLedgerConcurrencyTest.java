@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.domain.point.Point;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "point.mode=ledger")
+@ActiveProfiles("test")
+class PointLedgerConcurrencyTest {
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_ledger");
+        jdbcTemplate.update("DELETE FROM point_balance_snapshot");
+        pointRepository.deleteAllInBatch();
+
+        pointRepository.save(Point.builder()
+                .userId(userId)
+                .volume(100000L)
+                .build());
+    }
+
+    @Test
+    void 같은_사용자의_충전과_사용이_동시에_들어와도_모두_반영된다() {
+        // given
+        int requestCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount * 2);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // when - 1000원 충전 10건과 3000원 사용 10건을 동시에 실행
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    pointLedgerService.charge(userId, 1000L);
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                }
+            }, executorService));
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    pointLedgerService.use(userId, 3000L);
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                }
+            }, executorService));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+
+        // then - 교착 상태로 실패한 요청 없이 최종 잔액 = 100000 + 10000 - 30000
+        assertThat(failureCount.get()).isZero();
+        assertThat(pointLedgerService.getBalance(userId)).isEqualTo(80000L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_ledger WHERE user_id = ?", Integer.class, userId))
+                .isEqualTo(requestCount * 2);
+    }
+}
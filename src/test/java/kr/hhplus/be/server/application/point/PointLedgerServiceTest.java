@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.point.Point;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointLedgerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+
+import java.util.Optional;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerServiceTest {
+
+    @InjectMocks
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Test
+    void 사용_원장을_추가하고_사용_후_잔액을_반환한다() {
+        // given
+        given(pointLedgerRepository.lockSnapshot(1L)).willReturn(true);
+        given(pointLedgerRepository.appendUse(1L, 3000L)).willReturn(true);
+        given(pointLedgerRepository.findBalance(1L)).willReturn(Optional.of(7000L));
+
+        // when
+        long balance = pointLedgerService.use(1L, 3000L);
+
+        // then
+        assertThat(balance).isEqualTo(7000L);
+        then(pointLedgerRepository).should(never()).initializeSnapshot(anyLong());
+    }
+
+    @Test
+    void 스냅샷이_없으면_스냅샷을_만들어_잠근_뒤_추가한다() {
+        // given
+        given(pointLedgerRepository.lockSnapshot(1L)).willReturn(false, true);
+        given(pointLedgerRepository.initializeSnapshot(1L)).willReturn(true);
+        given(pointLedgerRepository.appendCharge(1L, 5000L, Point.MAX_VOLUME)).willReturn(true);
+        given(pointLedgerRepository.findBalance(1L)).willReturn(Optional.of(15000L));
+
+        // when
+        long balance = pointLedgerService.charge(1L, 5000L);
+
+        // then
+        assertThat(balance).isEqualTo(15000L);
+        then(pointLedgerRepository).should(times(2)).lockSnapshot(1L);
+        then(pointLedgerRepository).should().appendCharge(1L, 5000L, Point.MAX_VOLUME);
+    }
+
+    @Test
+    void 잔액이_부족하면_예외가_발생한다() {
+        // given
+        given(pointLedgerRepository.lockSnapshot(1L)).willReturn(true);
+        given(pointLedgerRepository.appendUse(1L, 3000L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> pointLedgerService.use(1L, 3000L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(NOT_ENOUGH_POINT.getMessage());
+    }
+
+    @Test
+    void 충전_후_한도를_초과하면_예외가_발생한다() {
+        // given
+        given(pointLedgerRepository.lockSnapshot(1L)).willReturn(true);
+        given(pointLedgerRepository.appendCharge(1L, 200_000L, Point.MAX_VOLUME)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> pointLedgerService.charge(1L, 200_000L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(EXCEEDS_MAXIMUM_POINT.getMessage());
+    }
+
+    @Test
+    void 포인트가_없는_사용자는_원장을_추가할_수_없다() {
+        // given
+        given(pointLedgerRepository.lockSnapshot(999L)).willReturn(false);
+        given(pointLedgerRepository.initializeSnapshot(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> pointLedgerService.use(999L, 1000L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(USER_NOT_FOUND.getMessage());
+        then(pointLedgerRepository).should(never()).appendUse(anyLong(), anyLong());
+    }
+
+    @Test
+    void 원장_추가_중_교착_상태가_발생하면_재시도_가능한_예외로_응답한다() {
+        // given
+        given(pointLedgerRepository.lockSnapshot(1L)).willReturn(true);
+        given(pointLedgerRepository.appendUse(1L, 3000L))
+                .willThrow(new DeadlockLoserDataAccessException("Deadlock found", null));
+
+        // when & then
+        assertThatThrownBy(() -> pointLedgerService.use(1L, 3000L))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", POINT_UPDATE_CONFLICT);
+    }
+
+    @Test
+    void 스냅샷이_없으면_시작_잔액을_조회한다() {
+        // given
+        given(pointLedgerRepository.findBalance(1L)).willReturn(Optional.empty());
+        given(pointLedgerRepository.findInitialBalance(1L)).willReturn(Optional.of(10000L));
+
+        // when
+        long balance = pointLedgerService.getBalance(1L);
+
+        // then
+        assertThat(balance).isEqualTo(10000L);
+    }
+}
@@ -75,8 +75,8 @@ class PointServiceIntegrationTest {
 
             // then
             assertThat(result.getVolume()).isEqualTo(15000L);
-            assertThat(result.getPointHistories()).hasSize(1);
-            assertThat(result.getPointHistories().get(0))
+            assertThat(point.getPointHistories()).hasSize(1);
+            assertThat(point.getPointHistories().get(0))
                 .extracting(PointHistory::getAmount, PointHistory::getTransactionType)
                 .containsExactly(5000L, TransactionType.CHARGE);
         }
@@ -107,8 +107,8 @@ class PointServiceIntegrationTest {
 
             // then
             assertThat(result.getVolume()).isEqualTo(5000L);
-            assertThat(result.getPointHistories()).hasSize(1);
-            assertThat(result.getPointHistories().get(0))
+            assertThat(point.getPointHistories()).hasSize(1);
+            assertThat(point.getPointHistories().get(0))
                 .extracting(PointHistory::getAmount, PointHistory::getTransactionType)
                 .containsExactly(5000L, TransactionType.USE);
         }
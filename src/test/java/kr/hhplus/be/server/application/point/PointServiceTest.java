@@ -2,7 +2,9 @@ package kr.hhplus.be.server.application.point;
 
 import kr.hhplus.be.server.common.exception.ApiException;
 import kr.hhplus.be.server.domain.point.Point;
-import kr.hhplus.be.server.infrastructure.config.redis.DistributedLockService;
+import kr.hhplus.be.server.domain.point.TransactionType;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryQueryRepository;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryRow;
 import kr.hhplus.be.server.infrastructure.persistence.point.PointRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,16 +12,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static kr.hhplus.be.server.common.exception.ErrorCode.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +40,16 @@ class PointServiceTest {
     private PointRepository pointRepository;
 
     @Mock
-    private DistributedLockService distributedLockService;
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private PointWalletService pointWalletService;
+
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
+    @Mock
+    private PointHistoryQueryRepository pointHistoryQueryRepository;
 
     private Long userId;
     private Point point;
@@ -41,11 +58,6 @@ class PointServiceTest {
     void setUp() {
         userId = 1L;
         point = Point.create(userId, 1000000L);
-        
-        // 분산락 모킹 설정 - 락을 성공적으로 획득하고 작업을 실행하도록 설정
-        lenient().when(distributedLockService.executePointLock(any(), any())).thenAnswer(invocation -> {
-            return invocation.getArgument(1, java.util.function.Supplier.class).get();
-        });
     }
 
     @Test
@@ -53,29 +65,27 @@ class PointServiceTest {
         // given
         Long chargeAmount = 500000L;
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
-        given(pointRepository.save(any(Point.class))).willReturn(point);
+        given(pointRepository.increaseVolume(userId, chargeAmount, Point.MAX_VOLUME)).willReturn(OptionalLong.of(1500000L));
 
         // when
-        Point point = pointService.chargePoint(userId, chargeAmount);
+        Point result = pointService.chargePoint(userId, chargeAmount);
 
         // then
-        assertThat(point.getVolume()).isEqualTo(1500000L);
-        then(pointRepository).should().findByUserId(userId);
-        then(pointRepository).should().save(any(Point.class));
-        then(distributedLockService).should().executePointLock(eq(userId), any());
+        assertThat(result.getVolume()).isEqualTo(1500000L);
+        assertThat(point.getPointHistories()).hasSize(1);
+        then(pointRepository).should().increaseVolume(userId, chargeAmount, Point.MAX_VOLUME);
     }
 
     @Test
     void 음수_금액으로_충전할_수_없다() {
         // given
         Long negativeAmount = -100000L;
-        given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
 
         // when & then
         assertThatThrownBy(() -> pointService.chargePoint(userId, negativeAmount))
                 .isInstanceOf(ApiException.class)
                 .hasMessage(NEGATIVE_CHARGE_POINT.getMessage());
-        then(distributedLockService).should().executePointLock(eq(userId), any());
+        then(pointRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -85,12 +95,12 @@ class PointServiceTest {
         Long chargeAmount = 200_000L;
         point = Point.create(userId, currentAmount);
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
+        given(pointRepository.increaseVolume(userId, chargeAmount, Point.MAX_VOLUME)).willReturn(OptionalLong.empty());
 
         // when & then
         assertThatThrownBy(() -> pointService.chargePoint(userId, chargeAmount))
                 .isInstanceOf(ApiException.class)
                 .hasMessage(EXCEEDS_MAXIMUM_POINT.getMessage());
-        then(distributedLockService).should().executePointLock(eq(userId), any());
     }
 
     @Test
@@ -125,29 +135,27 @@ class PointServiceTest {
         // given
         Long useAmount = 300000L;
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
-        given(pointRepository.save(any(Point.class))).willReturn(point);
+        given(pointRepository.decreaseVolume(userId, useAmount)).willReturn(OptionalLong.of(700000L));
 
         // when
         Point result = pointService.usePoint(userId, useAmount);
 
         // then
         assertThat(result.getVolume()).isEqualTo(700000L);
-        then(pointRepository).should().findByUserId(userId);
-        then(pointRepository).should().save(any(Point.class));
-        then(distributedLockService).should().executePointLock(eq(userId), any());
+        assertThat(point.getPointHistories()).hasSize(1);
+        then(pointRepository).should().decreaseVolume(userId, useAmount);
     }
 
     @Test
     void 음수_금액으로_포인트를_사용할_수_없다() {
         // given
         Long negativeAmount = -100000L;
-        given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
 
         // when & then
         assertThatThrownBy(() -> pointService.usePoint(userId, negativeAmount))
                 .isInstanceOf(ApiException.class)
                 .hasMessage(NEGATIVE_USE_POINT.getMessage());
-        then(distributedLockService).should().executePointLock(eq(userId), any());
+        then(pointRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -155,12 +163,13 @@ class PointServiceTest {
         // given
         Long useAmount = 1500000L; // 잔액(1000000L)보다 많은 금액
         given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
+        given(pointRepository.decreaseVolume(userId, useAmount)).willReturn(OptionalLong.empty());
 
         // when & then
         assertThatThrownBy(() -> pointService.usePoint(userId, useAmount))
                 .isInstanceOf(ApiException.class)
                 .hasMessage(NOT_ENOUGH_POINT.getMessage());
-        then(distributedLockService).should().executePointLock(eq(userId), any());
+        assertThat(point.getPointHistories()).isEmpty();
     }
 
     @Test
@@ -174,6 +183,117 @@ class PointServiceTest {
         assertThatThrownBy(() -> pointService.usePoint(nonExistentUserId, useAmount))
                 .isInstanceOf(ApiException.class)
                 .hasMessage(USER_NOT_FOUND.getMessage());
-        then(distributedLockService).should().executePointLock(eq(nonExistentUserId), any());
+    }
+
+    @Test
+    void 원장_모드에서는_원장을_추가하고_잔액을_반환한다() {
+        // given
+        ReflectionTestUtils.setField(pointService, "pointMode", "ledger");
+        given(pointLedgerService.use(userId, 300000L)).willReturn(700000L);
+
+        // when
+        Point result = pointService.usePoint(userId, 300000L);
+
+        // then
+        assertThat(result.getVolume()).isEqualTo(700000L);
+        then(pointRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 레디스_모드에서는_지갑에서_충전하고_잔액을_반환한다() {
+        // given
+        ReflectionTestUtils.setField(pointService, "pointMode", "redis");
+        given(pointWalletService.charge(userId, 300000L)).willReturn(1300000L);
+
+        // when
+        Point result = pointService.chargePoint(userId, 300000L);
+
+        // then
+        assertThat(result.getVolume()).isEqualTo(1300000L);
+        then(pointRepository).shouldHaveNoInteractions();
+        then(pointLedgerService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 잔액은_캐시를_거쳐_조회한다() {
+        // given
+        given(pointBalanceCache.get(eq(userId), any())).willReturn(1000000L);
+
+        // when
+        long balance = pointService.getBalance(userId);
+
+        // then
+        assertThat(balance).isEqualTo(1000000L);
+        then(pointRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 충전하면_커밋_후_잔액_캐시를_무효화한다() {
+        // given
+        given(pointRepository.findByUserId(userId)).willReturn(Optional.of(point));
+        given(pointRepository.increaseVolume(userId, 1000L, Point.MAX_VOLUME)).willReturn(OptionalLong.of(1001000L));
+
+        // when
+        pointService.chargePoint(userId, 1000L);
+
+        // then
+        then(pointBalanceCache).should().evictAfterCommit(userId);
+    }
+
+    @Test
+    void 이력을_한_건_더_조회해_다음_페이지_커서를_계산한다() {
+        // given
+        given(pointHistoryQueryRepository.findPointId(userId)).willReturn(Optional.of(10L));
+        given(pointHistoryQueryRepository.findHistories(10L, Long.MAX_VALUE, 3)).willReturn(List.of(
+                historyRow(300L), historyRow(200L), historyRow(100L)));
+
+        // when
+        PointHistoryPage page = pointService.getPointHistories(userId, null, 2);
+
+        // then
+        assertThat(page.getHistories()).extracting(PointHistoryRow::getId).containsExactly(300L, 200L);
+        assertThat(page.getNextCursor()).isEqualTo(200L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void 마지막_이력_페이지는_다음_커서가_없다() {
+        // given
+        given(pointHistoryQueryRepository.findPointId(userId)).willReturn(Optional.of(10L));
+        given(pointHistoryQueryRepository.findHistories(10L, 200L, 3)).willReturn(List.of(historyRow(100L)));
+
+        // when
+        PointHistoryPage page = pointService.getPointHistories(userId, 200L, 2);
+
+        // then
+        assertThat(page.getHistories()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void 원장_모드의_이력은_원장에서_조회한다() {
+        // given
+        ReflectionTestUtils.setField(pointService, "pointMode", "ledger");
+        given(pointHistoryQueryRepository.findPointId(userId)).willReturn(Optional.of(10L));
+        given(pointHistoryQueryRepository.findLedgerHistories(userId, Long.MAX_VALUE, 21)).willReturn(List.of(historyRow(5L)));
+
+        // when
+        PointHistoryPage page = pointService.getPointHistories(userId, null, 20);
+
+        // then
+        assertThat(page.getHistories()).extracting(PointHistoryRow::getId).containsExactly(5L);
+        then(pointHistoryQueryRepository).should(never()).findHistories(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void 이력_페이지_크기가_범위를_벗어나면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> pointService.getPointHistories(userId, null, 101))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(INVALID_INPUT_VALUE.getMessage());
+    }
+
+    private PointHistoryRow historyRow(Long id) {
+        return new PointHistoryRow(id, 1000L, TransactionType.CHARGE, LocalDateTime.now());
     }
 }
@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.application.point;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.NOT_ENOUGH_POINT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PointWalletServiceTest {
+
+    private static final List<String> KEYS = List.of("point:wallet:1", PointWalletService.LEDGER_STREAM_KEY);
+
+    @InjectMocks
+    private PointWalletService pointWalletService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private PointLedgerService pointLedgerService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 충전하면_스크립트가_반환한_잔액을_돌려준다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).willReturn(1500L);
+
+        // when
+        long balance = pointWalletService.charge(1L, 500L);
+
+        // then
+        assertThat(balance).isEqualTo(1500L);
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS),
+                eq("1"), eq("500"), eq("CHARGE"), eq(String.valueOf(3_000_000L)));
+    }
+
+    @Test
+    void 잔액이_부족하면_사용이_거절된다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).willReturn(-1L);
+
+        // when & then
+        assertThatThrownBy(() -> pointWalletService.use(1L, 5000L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(NOT_ENOUGH_POINT.getMessage());
+    }
+
+    @Test
+    void 지갑이_없으면_DB_잔액으로_적재한_뒤_다시_시도한다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .willReturn(-2L)
+                .willReturn(700L);
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(pointLedgerService.getBalance(1L)).willReturn(1000L);
+        given(hashOperations.get("point:wallet:1", "balance")).willReturn("1000");
+
+        // when
+        long balance = pointWalletService.use(1L, 300L);
+
+        // then
+        assertThat(balance).isEqualTo(700L);
+        then(hashOperations).should().putIfAbsent("point:wallet:1", "balance", "1000");
+        then(stringRedisTemplate).should(times(2)).execute(any(RedisScript.class), eq(KEYS), any(Object[].class));
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_반대_금액으로_지갑을_되돌린다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).willReturn(700L);
+        pointWalletService.use(1L, 300L);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS),
+                eq("1"), eq("300"), eq("CHARGE"));
+    }
+
+    @Test
+    void 충전이_롤백되기_전에_사용했더라도_잔액_규칙_없이_충전을_되돌린다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).willReturn(1500L);
+        pointWalletService.charge(1L, 500L);
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("-500"), eq("USE")))
+                .willReturn(-200L);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("-500"), eq("USE"));
+        then(stringRedisTemplate).should(never()).opsForHash();
+    }
+}
@@ -162,4 +162,84 @@ class ProductServiceTest {
         // then
         verify(productRepository, never()).updateSalesCount(anyLong(), anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 여러_상품의_재고를_일괄_차감한다() {
+        // given
+        Map<Long, Long> quantities = Map.of(1L, 2L, 2L, 3L);
+        given(productRepository.decreaseStocks(quantities)).willReturn(List.of());
+
+        // when
+        productService.decreaseStocks(quantities);
+
+        // then
+        verify(productRepository).decreaseStocks(quantities);
+        verify(productRepository, never()).findByIds(any());
+    }
+
+    @Test
+    void 재고가_부족한_상품이_있으면_예외가_발생한다() {
+        // given
+        Map<Long, Long> quantities = Map.of(1L, 2L, 2L, 300L);
+        given(productRepository.decreaseStocks(quantities)).willReturn(List.of(2L));
+        given(productRepository.findByIds(List.of(2L))).willReturn(List.of(testProduct));
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStocks(quantities))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+    }
+
+    @Test
+    void 존재하지_않는_상품의_재고_차감_시_예외가_발생한다() {
+        // given
+        Map<Long, Long> quantities = Map.of(999L, 1L);
+        given(productRepository.decreaseStocks(quantities)).willReturn(List.of(999L));
+        given(productRepository.findByIds(List.of(999L))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStocks(quantities))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(PRODUCT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    void 처음_반영하는_재고_차감_배치는_DB에_반영한다() {
+        // given
+        Map<Long, Long> decrements = Map.of(1L, 5L);
+        given(productRepository.recordStockFlush("batch-1")).willReturn(true);
+
+        // when
+        boolean applied = productService.applyStockDecrements("batch-1", decrements);
+
+        // then
+        assertThat(applied).isTrue();
+        verify(productRepository).applyStockDecrements(decrements);
+    }
+
+    @Test
+    void 이미_반영된_재고_차감_배치는_다시_차감하지_않는다() {
+        // given
+        given(productRepository.recordStockFlush("batch-1")).willReturn(false);
+
+        // when
+        boolean applied = productService.applyStockDecrements("batch-1", Map.of(1L, 5L));
+
+        // then
+        assertThat(applied).isFalse();
+        verify(productRepository, never()).applyStockDecrements(any());
+    }
+
+    @Test
+    void 임대_단위만큼_재고가_없으면_주문_수량만_임대한다() {
+        // given
+        given(productRepository.decreaseStocks(Map.of(1L, 50L))).willReturn(List.of(1L));
+        given(productRepository.decreaseStocks(Map.of(1L, 3L))).willReturn(List.of());
+
+        // when
+        long leased = productService.leaseStockInCurrentTransaction(1L, 50L, 3L);
+
+        // then
+        assertThat(leased).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockEscrowServiceTest {
+
+    @Mock
+    private ProductService productService;
+
+    private ProductStockEscrowService productStockEscrowService;
+
+    @BeforeEach
+    void setUp() {
+        productStockEscrowService = new ProductStockEscrowService(productService, Runnable::run);
+        ReflectionTestUtils.setField(productStockEscrowService, "escrowProductIds", Set.of(1L));
+        ReflectionTestUtils.setField(productStockEscrowService, "leaseSize", 10L);
+    }
+
+    @Test
+    void 설정된_상품만_에스크로_대상이다() {
+        // when & then
+        assertThat(productStockEscrowService.isEscrowProduct(1L)).isTrue();
+        assertThat(productStockEscrowService.isEscrowProduct(2L)).isFalse();
+    }
+
+    @Test
+    void 할당량이_없으면_주문_트랜잭션에서_임대하고_남은_수량은_할당량에_적립한다() {
+        // given
+        given(productService.leaseStockInCurrentTransaction(1L, 10L, 3L)).willReturn(10L);
+
+        // when
+        Map<Long, Long> leasedReservation = productStockEscrowService.reserve(Map.of(1L, 3L));
+        Map<Long, Long> quotaReservation = productStockEscrowService.reserve(Map.of(1L, 3L));
+
+        // then
+        assertThat(leasedReservation).isEmpty();
+        assertThat(quotaReservation).containsEntry(1L, 3L);
+        then(productService).should(times(1)).leaseStockInCurrentTransaction(1L, 10L, 3L);
+        then(productService).should(never()).leaseStock(anyLong(), anyLong());
+    }
+
+    @Test
+    void 중앙_재고도_부족하면_예외가_발생한다() {
+        // given
+        given(productService.leaseStockInCurrentTransaction(1L, 10L, 3L)).willReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> productStockEscrowService.reserve(Map.of(1L, 3L)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+    }
+
+    @Test
+    void 종료_시_남은_할당량을_중앙_재고로_반납한다() {
+        // given
+        given(productService.leaseStockInCurrentTransaction(1L, 10L, 4L)).willReturn(10L);
+        productStockEscrowService.reserve(Map.of(1L, 4L));
+        productStockEscrowService.release(Map.of(1L, 1L));
+
+        // when
+        productStockEscrowService.returnAllQuotas();
+
+        // then
+        then(productService).should().returnStock(1L, 7L);
+    }
+
+    @Test
+    void 할당량이_임계치_아래로_떨어지면_미리_보충한다() {
+        // given
+        given(productService.leaseStockInCurrentTransaction(1L, 10L, 9L)).willReturn(10L);
+        given(productService.leaseStock(eq(1L), anyLong())).willReturn(10L);
+
+        // when
+        productStockEscrowService.reserve(Map.of(1L, 9L));
+        productStockEscrowService.reserve(Map.of(1L, 1L));
+
+        // then
+        then(productService).should(times(1)).leaseStock(1L, 10L);
+    }
+}
@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockServiceTest {
+
+    @InjectMocks
+    private ProductStockService productStockService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductStockRedisService productStockRedisService;
+
+    @Mock
+    private ProductStockEscrowService productStockEscrowService;
+
+    @Mock
+    private ProductStockShardService productStockShardService;
+
+    @Test
+    void 기본_모드에서는_DB_조건부_UPDATE로_재고를_차감한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "db");
+        Map<Long, Long> quantities = Map.of(1L, 2L);
+
+        // when
+        productStockService.reserveStocks(quantities);
+
+        // then
+        then(productService).should().decreaseStocks(quantities);
+        then(productStockRedisService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void redis_모드에서는_Redis_재고_원장에서_차감한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "redis");
+        Map<Long, Long> quantities = Map.of(1L, 2L, 2L, 1L);
+
+        // when
+        productStockService.reserveStocks(quantities);
+
+        // then
+        then(productStockRedisService).should().reserve(quantities);
+        then(productService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void redis_모드에서_재고가_부족하면_예외가_발생한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "redis");
+        Map<Long, Long> quantities = Map.of(1L, 200L);
+        doThrow(new ApiException(OUT_OF_STOCK_PRODUCT)).when(productStockRedisService).reserve(any());
+
+        // when & then
+        assertThatThrownBy(() -> productStockService.reserveStocks(quantities))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+    }
+
+    @Test
+    void 에스크로_대상_상품은_로컬_할당량에서_차감하고_나머지는_DB에서_차감한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "db");
+        given(productStockEscrowService.isEscrowProduct(1L)).willReturn(true);
+        given(productStockEscrowService.isEscrowProduct(2L)).willReturn(false);
+
+        // when
+        productStockService.reserveStocks(Map.of(1L, 2L, 2L, 1L));
+
+        // then
+        then(productStockEscrowService).should().reserve(Map.of(1L, 2L));
+        then(productService).should().decreaseStocks(Map.of(2L, 1L));
+    }
+
+    @Test
+    void 나머지_상품_재고가_부족하면_에스크로_예약분을_즉시_반환한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "db");
+        given(productStockEscrowService.isEscrowProduct(1L)).willReturn(true);
+        given(productStockEscrowService.isEscrowProduct(2L)).willReturn(false);
+        given(productStockEscrowService.reserve(Map.of(1L, 2L))).willReturn(Map.of(1L, 2L));
+        doThrow(new ApiException(OUT_OF_STOCK_PRODUCT)).when(productService).decreaseStocks(any());
+
+        // when & then
+        assertThatThrownBy(() -> productStockService.reserveStocks(Map.of(1L, 2L, 2L, 1L)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+        then(productStockEscrowService).should().release(Map.of(1L, 2L));
+    }
+
+    @Test
+    void 에스크로_동기_임대로_차감한_수량은_할당량으로_되돌리지_않는다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "db");
+        given(productStockEscrowService.isEscrowProduct(1L)).willReturn(true);
+        given(productStockEscrowService.isEscrowProduct(2L)).willReturn(false);
+        given(productStockEscrowService.reserve(Map.of(1L, 2L))).willReturn(Map.of());
+        doThrow(new ApiException(OUT_OF_STOCK_PRODUCT)).when(productService).decreaseStocks(any());
+
+        // when & then
+        assertThatThrownBy(() -> productStockService.reserveStocks(Map.of(1L, 2L, 2L, 1L)))
+                .isInstanceOf(ApiException.class);
+        then(productStockEscrowService).should(never()).release(any());
+    }
+
+    @Test
+    void 샤드_대상_상품은_재고_샤드에서_차감하고_나머지는_DB에서_차감한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "db");
+        given(productStockShardService.isShardedProduct(1L)).willReturn(true);
+        given(productStockShardService.isShardedProduct(2L)).willReturn(false);
+
+        // when
+        productStockService.reserveStocks(Map.of(1L, 2L, 2L, 1L));
+
+        // then
+        then(productStockShardService).should().reserve(Map.of(1L, 2L));
+        then(productService).should().decreaseStocks(Map.of(2L, 1L));
+        then(productStockEscrowService).should().isEscrowProduct(2L);
+    }
+
+    @Test
+    void 결제_실패_주문의_재고는_샤드와_중앙_재고로_복구한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "db");
+        given(productStockShardService.isShardedProduct(1L)).willReturn(true);
+        given(productStockShardService.isShardedProduct(2L)).willReturn(false);
+        given(productStockShardService.isShardedProduct(3L)).willReturn(false);
+        given(productStockEscrowService.isEscrowProduct(2L)).willReturn(true);
+        given(productStockEscrowService.isEscrowProduct(3L)).willReturn(false);
+
+        // when
+        productStockService.restoreStocks(Map.of(1L, 2L, 2L, 1L, 3L, 4L));
+
+        // then
+        then(productStockShardService).should().restore(Map.of(1L, 2L));
+        then(productService).should().increaseStocks(Map.of(2L, 1L, 3L, 4L));
+        then(productStockEscrowService).should(never()).release(any());
+    }
+
+    @Test
+    void redis_모드에서는_결제_실패_주문의_재고를_Redis_원장에_반환한다() {
+        // given
+        ReflectionTestUtils.setField(productStockService, "inventoryMode", "redis");
+        Map<Long, Long> quantities = Map.of(1L, 2L);
+
+        // when
+        productStockService.restoreStocks(quantities);
+
+        // then
+        then(productStockRedisService).should().release(quantities);
+        then(productService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 주문_상품이_없으면_아무것도_차감하지_않는다() {
+        // when
+        productStockService.reserveStocks(Map.of());
+
+        // then
+        then(productService).shouldHaveNoInteractions();
+        then(productStockRedisService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,161 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.infrastructure.persistence.product.ProductStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockShardServiceTest {
+
+    @InjectMocks
+    private ProductStockShardService productStockShardService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductStockShardRepository productStockShardRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productStockShardService, "shardProductIds", Set.of(1L));
+        ReflectionTestUtils.setField(productStockShardService, "shardCount", 4);
+    }
+
+    @Test
+    void 샤드_하나에서_재고를_차감할_수_있으면_전체_샤드를_잠그지_않는다() {
+        // given
+        given(productStockShardRepository.decrease(eq(1L), anyInt(), eq(2L))).willReturn(true);
+
+        // when
+        productStockShardService.reserve(Map.of(1L, 2L));
+
+        // then
+        then(productStockShardRepository).should(times(1)).decrease(eq(1L), anyInt(), eq(2L));
+        then(productStockShardRepository).should(never()).findShardStocksForUpdate(1L);
+    }
+
+    @Test
+    void 선택한_샤드가_부족하면_나머지_샤드를_순서대로_시도한다() {
+        // given
+        given(productStockShardRepository.decrease(eq(1L), anyInt(), eq(2L)))
+                .willReturn(false, false, true);
+
+        // when
+        productStockShardService.reserve(Map.of(1L, 2L));
+
+        // then
+        then(productStockShardRepository).should(times(3)).decrease(eq(1L), anyInt(), eq(2L));
+        then(productStockShardRepository).should(never()).findShardStocksForUpdate(1L);
+    }
+
+    @Test
+    void 단일_샤드로_부족하면_모든_샤드를_잠그고_나누어_차감한다() {
+        // given
+        given(productStockShardRepository.decrease(eq(1L), anyInt(), eq(5L))).willReturn(false);
+        Map<Integer, Long> shardStocks = new LinkedHashMap<>();
+        shardStocks.put(0, 3L);
+        shardStocks.put(1, 0L);
+        shardStocks.put(2, 4L);
+        shardStocks.put(3, 1L);
+        given(productStockShardRepository.findShardStocksForUpdate(1L)).willReturn(shardStocks);
+        given(productStockShardRepository.decrease(1L, 0, 3L)).willReturn(true);
+        given(productStockShardRepository.decrease(1L, 2, 2L)).willReturn(true);
+
+        // when
+        productStockShardService.reserve(Map.of(1L, 5L));
+
+        // then
+        then(productStockShardRepository).should().decrease(1L, 0, 3L);
+        then(productStockShardRepository).should().decrease(1L, 2, 2L);
+        then(productStockShardRepository).should(never()).decrease(eq(1L), eq(3), anyLong());
+    }
+
+    @Test
+    void 전체_샤드_재고가_부족하면_예외가_발생한다() {
+        // given
+        given(productStockShardRepository.decrease(eq(1L), anyInt(), eq(10L))).willReturn(false);
+        given(productStockShardRepository.findShardStocksForUpdate(1L)).willReturn(Map.of(0, 3L, 1, 4L));
+
+        // when & then
+        assertThatThrownBy(() -> productStockShardService.reserve(Map.of(1L, 10L)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(OUT_OF_STOCK_PRODUCT.getMessage());
+    }
+
+    @Test
+    void 중앙_재고를_샤드_수만큼_균등하게_분할한다() {
+        // given
+        Product product = Product.builder().id(1L).name("한정판").price(1000L).stock(10L).salesCount(0L).description("설명").build();
+        given(productService.getProductWithPessimisticLock(1L)).willReturn(product);
+        given(productStockShardRepository.countShards(1L)).willReturn(0);
+
+        // when
+        productStockShardService.splitIntoShards(1L);
+
+        // then
+        then(productStockShardRepository).should().createShards(1L, List.of(3L, 3L, 2L, 2L));
+        assertThat(product.getStock()).isZero();
+    }
+
+    @Test
+    void 이미_샤드가_있으면_다시_분할하지_않는다() {
+        // given
+        Product product = Product.builder().id(1L).name("한정판").price(1000L).stock(10L).salesCount(0L).description("설명").build();
+        given(productService.getProductWithPessimisticLock(1L)).willReturn(product);
+        given(productStockShardRepository.countShards(1L)).willReturn(4);
+
+        // when
+        productStockShardService.splitIntoShards(1L);
+
+        // then
+        then(productStockShardRepository).should(never()).createShards(eq(1L), anyList());
+        assertThat(product.getStock()).isEqualTo(10L);
+    }
+
+    @Test
+    void 샤드_재고_합계는_설정된_샤드_상품만_조회한다() {
+        // given
+        given(productStockShardRepository.sumStocksByProductIds(List.of(1L))).willReturn(Map.of(1L, 40L));
+
+        // when
+        Map<Long, Long> shardedStocks = productStockShardService.getShardedStocks(List.of(1L, 2L));
+
+        // then
+        assertThat(shardedStocks).containsExactly(Map.entry(1L, 40L));
+    }
+
+    @Test
+    void 샤드_상품이_없으면_샤드_재고를_조회하지_않는다() {
+        // when
+        Map<Long, Long> shardedStocks = productStockShardService.getShardedStocks(List.of(2L, 3L));
+
+        // then
+        assertThat(shardedStocks).isEmpty();
+        then(productStockShardRepository).should(never()).sumStocksByProductIds(anyList());
+    }
+}
@@ -55,4 +55,22 @@ class ProductTest {
 
         assertThat(product.getStock()).isEqualTo(stock);
     }
+
+    @Test
+    void 반환된_수량만큼_상품_재고가_증가한다() {
+        // given
+        Product product = Product.builder()
+                .name("상품 A")
+                .price(10000L)
+                .stock(5L)
+                .salesCount(0L)
+                .description("상품 A 설명")
+                .build();
+
+        // when
+        product.increaseStock(50L);
+
+        // then
+        assertThat(product.getStock()).isEqualTo(55L);
+    }
 }
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_WAIT_TIMEOUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedLockAspectTest {
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockedTarget lockedTarget;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LockedTarget());
+        proxyFactory.addAspect(new DistributedLockAspect(distributedLockService, meterRegistry));
+        lockedTarget = proxyFactory.getProxy();
+
+        given(distributedLockService.executeWithLockPlan(any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
+    }
+
+    @Test
+    void 메서드_파라미터로_락_키를_계산해_락을_획득한_뒤_실행한다() {
+        // when
+        String result = lockedTarget.charge(1L, 100L);
+
+        // then
+        assertThat(result).isEqualTo("charged");
+        then(distributedLockService).should()
+                .executeWithLockPlan(eq(LockPlan.of(List.of("point:user:1"), 5, 20)), any());
+    }
+
+    @Test
+    void 락_대기_시간과_보유_시간을_기록한다() {
+        // when
+        lockedTarget.charge(1L, 100L);
+
+        // then
+        assertThat(meterRegistry.get("distributed.lock.wait").tag("operation", "LockedTarget.charge")
+                .tag("outcome", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("distributed.lock.hold").tag("operation", "LockedTarget.charge")
+                .tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 락_획득에_실패하면_대기_실패로_기록한다() {
+        // given
+        given(distributedLockService.executeWithLockPlan(any(), any()))
+                .willThrow(new ApiException(LOCK_WAIT_TIMEOUT));
+
+        // when & then
+        assertThatThrownBy(() -> lockedTarget.charge(1L, 100L))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", LOCK_WAIT_TIMEOUT);
+        assertThat(meterRegistry.get("distributed.lock.wait").tag("outcome", "failed").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("distributed.lock.hold").tag("outcome", "success").timer().count())
+                .isZero();
+    }
+
+    static class LockedTarget {
+
+        @DistributedLock(keys = "'point:user:' + #userId", waitTime = 5, leaseTime = 20)
+        public String charge(Long userId, Long amount) {
+            return "charged";
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockPlanTest {
+
+    @Test
+    void 락_키는_중복_없이_정렬된_순서로_보관된다() {
+        // when
+        LockPlan plan = LockPlan.of(List.of("point:user:1", "order:user:1", "point:user:1"), 10, 30);
+
+        // then
+        assertThat(plan.getKeys()).containsExactly("order:user:1", "point:user:1");
+    }
+}
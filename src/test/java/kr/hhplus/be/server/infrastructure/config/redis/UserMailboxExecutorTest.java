@@ -0,0 +1,200 @@
+package kr.hhplus.be.server.infrastructure.config.redis;
+
+import kr.hhplus.be.server.common.exception.ApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_QUEUE_FULL;
+import static kr.hhplus.be.server.common.exception.ErrorCode.LOCK_WAIT_TIMEOUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserMailboxExecutorTest {
+
+    private static final String KEY = "order:user:1";
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private UserMailboxExecutor userMailboxExecutor;
+    private AtomicInteger lockCount;
+    private Consumer<Runnable> batchLocker;
+
+    @BeforeEach
+    void setUp() {
+        userMailboxExecutor = new UserMailboxExecutor(true, 4, 2, 16, 2000);
+        lockCount = new AtomicInteger();
+        batchLocker = batch -> {
+            lockCount.incrementAndGet();
+            batch.run();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        userMailboxExecutor.shutdown();
+    }
+
+    @Test
+    void 사용자_락_키만_메일박스로_실행한다() {
+        assertThat(userMailboxExecutor.accepts("order:user:1", false)).isTrue();
+        assertThat(userMailboxExecutor.accepts("point:user:1", false)).isTrue();
+        assertThat(userMailboxExecutor.accepts("payment:1", false)).isFalse();
+        assertThat(userMailboxExecutor.accepts("order:user:1", true)).isFalse();
+    }
+
+    @Test
+    void 같은_사용자의_대기_작업은_락_한_번으로_순서대로_실행한다() throws Exception {
+        // given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> {
+                    firstStarted.countDown();
+                    awaitLatch(releaseFirst);
+                    executed.add(1);
+                    return 1;
+                }, batchLocker, TIMEOUT_MILLIS));
+        firstStarted.await(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> {
+                    executed.add(2);
+                    return 2;
+                }, batchLocker, TIMEOUT_MILLIS));
+        awaitPending(1);
+
+        // when
+        releaseFirst.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(executed).containsExactly(1, 2);
+        assertThat(lockCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 작업_예외는_호출자에게_그대로_전달된다() {
+        // when & then
+        assertThatThrownBy(() -> userMailboxExecutor.execute(KEY, () -> {
+            throw new IllegalStateException("실패");
+        }, batchLocker, TIMEOUT_MILLIS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("실패");
+        assertThat(userMailboxExecutor.pendingCount(KEY)).isZero();
+    }
+
+    @Test
+    void 락을_얻지_못하면_대기_중인_작업을_모두_실패시킨다() {
+        // given
+        Consumer<Runnable> failingLocker = batch -> {
+            throw new ApiException(LOCK_WAIT_TIMEOUT);
+        };
+
+        // when & then
+        assertThatThrownBy(() -> userMailboxExecutor.execute(KEY, () -> 1, failingLocker, TIMEOUT_MILLIS))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", LOCK_WAIT_TIMEOUT);
+    }
+
+    @Test
+    void 대기열이_가득_차면_즉시_거절한다() throws Exception {
+        // given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> {
+                    firstStarted.countDown();
+                    awaitLatch(releaseFirst);
+                    return 1;
+                }, batchLocker, TIMEOUT_MILLIS));
+        firstStarted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> 2, batchLocker, TIMEOUT_MILLIS));
+        CompletableFuture<Integer> third = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> 3, batchLocker, TIMEOUT_MILLIS));
+        awaitPending(2);
+
+        // when & then
+        assertThatThrownBy(() -> userMailboxExecutor.execute(KEY, () -> 4, batchLocker, TIMEOUT_MILLIS))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", LOCK_QUEUE_FULL);
+
+        releaseFirst.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    void 대기_시간이_지나면_실행_전_작업을_큐에서_빼고_실패시킨다() throws Exception {
+        // given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger secondRuns = new AtomicInteger();
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> {
+                    firstStarted.countDown();
+                    awaitLatch(releaseFirst);
+                    return 1;
+                }, batchLocker, TIMEOUT_MILLIS));
+        firstStarted.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> userMailboxExecutor.execute(KEY, secondRuns::incrementAndGet, batchLocker, 100))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", LOCK_WAIT_TIMEOUT);
+        assertThat(userMailboxExecutor.pendingCount(KEY)).isZero();
+
+        releaseFirst.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(secondRuns.get()).isZero();
+    }
+
+    @Test
+    void 대기_시간이_지나도_이미_실행_중인_작업은_결과를_기다린다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> running = CompletableFuture.supplyAsync(() ->
+                userMailboxExecutor.execute(KEY, () -> {
+                    started.countDown();
+                    awaitLatch(release);
+                    return 1;
+                }, batchLocker, 100));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        Thread.sleep(300);
+        release.countDown();
+
+        // then
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private void awaitPending(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (userMailboxExecutor.pendingCount(KEY) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(userMailboxExecutor.pendingCount(KEY)).isEqualTo(expected);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.infrastructure.external.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayRequest;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayResult;
+import kr.hhplus.be.server.domain.payment.PaymentGatewayResult.Outcome;
+import kr.hhplus.be.server.domain.payment.PaymentMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpPaymentGatewayTest {
+
+    private StubPaymentGatewayServer stubServer;
+    private HttpPaymentGateway paymentGateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new StubPaymentGatewayServer();
+        paymentGateway = new HttpPaymentGateway(new ObjectMapper(), stubServer.baseUrl(),
+                1000, 300, 10, 50, 4, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    void PG가_승인하면_거래_ID와_함께_승인_결과를_반환한다() throws Exception {
+        // when
+        PaymentGatewayResult result = approve();
+
+        // then
+        assertThat(result.getOutcome()).isEqualTo(Outcome.APPROVED);
+        assertThat(result.getTransactionId()).isEqualTo("PG-1");
+        assertThat(stubServer.lastIdempotencyKey()).isEqualTo("ORDER_1");
+    }
+
+    @Test
+    void PG가_거절하면_거절_사유를_반환한다() throws Exception {
+        // given
+        stubServer.respond(402, "{\"status\":\"DECLINED\",\"reason\":\"한도 초과\"}");
+
+        // when
+        PaymentGatewayResult result = approve();
+
+        // then
+        assertThat(result.getOutcome()).isEqualTo(Outcome.DECLINED);
+        assertThat(result.getReason()).isEqualTo("한도 초과");
+    }
+
+    @Test
+    void 응답이_타임아웃되면_결과를_알_수_없음으로_반환한다() throws Exception {
+        // given
+        stubServer.delay(1000);
+
+        // when
+        PaymentGatewayResult result = approve();
+
+        // then
+        assertThat(result.getOutcome()).isEqualTo(Outcome.UNKNOWN);
+    }
+
+    @Test
+    void 서버_오류가_반복되면_서킷이_열려_요청을_보내지_않는다() throws Exception {
+        // given
+        stubServer.respond(503, "{}");
+        for (int i = 0; i < 4; i++) {
+            assertThat(approve().getOutcome()).isEqualTo(Outcome.UNKNOWN);
+        }
+
+        // when
+        PaymentGatewayResult result = approve();
+
+        // then
+        assertThat(paymentGateway.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(result.getOutcome()).isEqualTo(Outcome.NOT_SENT);
+        assertThat(stubServer.requestCount()).isEqualTo(4);
+    }
+
+    private PaymentGatewayResult approve() throws Exception {
+        PaymentGatewayRequest request = new PaymentGatewayRequest(1L, 1L, 10000L, PaymentMethod.CARD, "ORDER_1");
+        return paymentGateway.approve(request).get(5, TimeUnit.SECONDS);
+    }
+}
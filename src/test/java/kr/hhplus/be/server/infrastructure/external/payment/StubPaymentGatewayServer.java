@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.infrastructure.external.payment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 PG 스텁 서버 (POST /v1/payments/approve)
+ * 응답 상태 코드/본문과 지연 시간을 테스트에서 바꿀 수 있음
+ */
+class StubPaymentGatewayServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int statusCode = 200;
+    private volatile String body = "{\"status\":\"APPROVED\",\"transactionId\":\"PG-1\"}";
+    private volatile long delayMillis;
+    private volatile String lastIdempotencyKey;
+
+    StubPaymentGatewayServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/payments/approve", this::handle);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void respond(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    void delay(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    String lastIdempotencyKey() {
+        return lastIdempotencyKey;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        lastIdempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        exchange.getRequestBody().readAllBytes();
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
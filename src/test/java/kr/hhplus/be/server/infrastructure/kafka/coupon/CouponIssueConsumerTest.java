@@ -0,0 +1,164 @@
+package kr.hhplus.be.server.infrastructure.kafka.coupon;
+
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueRequestEventDto;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueConsumerTest {
+
+    private static final Long COUPON_ID = 200L;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponKafkaEventService couponKafkaEventService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private CouponIssueConsumer couponIssueConsumer;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueConsumer = new CouponIssueConsumer(
+                couponRepository, userCouponRepository, couponKafkaEventService, transactionManager, 1000);
+    }
+
+    private CouponIssueRequestEventDto request(Long userId) {
+        return CouponIssueRequestEventDto.of(userId, COUPON_ID);
+    }
+
+    private void givenSavedUserCouponsGetIds() {
+        AtomicLong ids = new AtomicLong(1);
+        given(userCouponRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<UserCoupon> userCoupons = invocation.getArgument(0);
+            userCoupons.forEach(userCoupon -> ReflectionTestUtils.setField(userCoupon, "id", ids.getAndIncrement()));
+            return userCoupons;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 같은_쿠폰_요청은_재고를_한_번에_차감하고_앞선_요청부터_당첨시킨다() {
+        // given
+        given(couponRepository.findStockByIdForUpdate(COUPON_ID)).willReturn(Optional.of(2L));
+        given(userCouponRepository.findIssuedUserIds(eq(COUPON_ID), anyList())).willReturn(List.of(2L));
+        given(couponRepository.decreaseStock(COUPON_ID, 2)).willReturn(true);
+        givenSavedUserCouponsGetIds();
+
+        // when
+        couponIssueConsumer.handleCouponIssueRequests(
+                List.of(request(1L), request(2L), request(3L), request(4L)), ack);
+
+        // then
+        then(couponRepository).should(times(1)).decreaseStock(anyLong(), anyLong());
+        then(userCouponRepository).should(times(1)).saveAll(anyList());
+
+        ArgumentCaptor<List<CouponIssueResultEventDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(couponKafkaEventService).should().publishCouponIssueResults(captor.capture());
+        assertThat(captor.getValue())
+                .filteredOn(CouponIssueResultEventDto::isSuccess)
+                .extracting(CouponIssueResultEventDto::getUserId)
+                .containsExactly(1L, 3L);
+        assertThat(captor.getValue()).hasSize(4);
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 재고가_없으면_재고를_차감하지_않고_모두_실패_결과를_발행한다() {
+        // given
+        given(couponRepository.findStockByIdForUpdate(COUPON_ID)).willReturn(Optional.of(0L));
+        given(userCouponRepository.saveAll(anyList())).willReturn(List.of());
+
+        // when
+        couponIssueConsumer.handleCouponIssueRequests(List.of(request(1L), request(2L)), ack);
+
+        // then
+        then(couponRepository).should(never()).decreaseStock(anyLong(), anyLong());
+        ArgumentCaptor<List<CouponIssueResultEventDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(couponKafkaEventService).should().publishCouponIssueResults(captor.capture());
+        assertThat(captor.getValue()).noneMatch(CouponIssueResultEventDto::isSuccess);
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    void 잠금_조회한_재고만큼만_당첨시키고_다시_조회하지_않는다() {
+        // given
+        given(couponRepository.findStockByIdForUpdate(COUPON_ID)).willReturn(Optional.of(1L));
+        given(couponRepository.decreaseStock(COUPON_ID, 1)).willReturn(true);
+        givenSavedUserCouponsGetIds();
+
+        // when
+        couponIssueConsumer.handleCouponIssueRequests(List.of(request(1L), request(2L)), ack);
+
+        // then
+        then(couponRepository).should(times(1)).findStockByIdForUpdate(COUPON_ID);
+        then(couponRepository).should().decreaseStock(COUPON_ID, 1);
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    void 일시적_오류가_발생하면_ACK_하지_않고_배치를_재시도한다() {
+        // given
+        given(couponRepository.findStockByIdForUpdate(COUPON_ID)).willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueConsumer.handleCouponIssueRequests(List.of(request(1L)), ack))
+                .isInstanceOf(RetryableException.class);
+        then(ack).shouldHaveNoInteractions();
+        then(couponKafkaEventService).should(never()).publishCouponIssueResults(any());
+    }
+
+    @Test
+    void 결과_발행에_실패하면_ACK_하지_않고_배치를_다시_전달받는다() {
+        // given
+        given(couponRepository.findStockByIdForUpdate(COUPON_ID)).willReturn(Optional.of(1L));
+        given(couponRepository.decreaseStock(COUPON_ID, 1)).willReturn(true);
+        givenSavedUserCouponsGetIds();
+        doThrow(new RetryableException("쿠폰 발급 결과 이벤트 발행 실패"))
+                .when(couponKafkaEventService).publishCouponIssueResults(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueConsumer.handleCouponIssueRequests(List.of(request(1L)), ack))
+                .isInstanceOf(RetryableException.class);
+        then(ack).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.infrastructure.kafka.coupon;
+
+import kr.hhplus.be.server.application.coupon.CouponIssueGate;
+import kr.hhplus.be.server.application.coupon.CouponIssueStatusService;
+import kr.hhplus.be.server.domain.coupon.CouponIssueFailureType;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueResultProjectionConsumerTest {
+
+    @InjectMocks
+    private CouponIssueResultProjectionConsumer couponIssueResultProjectionConsumer;
+
+    @Mock
+    private CouponIssueStatusService couponIssueStatusService;
+
+    @Mock
+    private CouponIssueGate couponIssueGate;
+
+    @Mock
+    private Acknowledgment ack;
+
+    @Test
+    void 발급에_실패한_결과는_게이트_선점을_반환한다() {
+        // given
+        CouponIssueResultEventDto success = CouponIssueResultEventDto.success("REQ-1", 1L, 200L, 10L, 5L);
+        CouponIssueResultEventDto failure = CouponIssueResultEventDto.failure(
+                "REQ-2", 2L, 200L, CouponIssueFailureType.OUT_OF_STOCK, "쿠폰 재고가 부족합니다.");
+        given(couponIssueGate.isEnabled()).willReturn(true);
+
+        // when
+        couponIssueResultProjectionConsumer.handleCouponIssueResults(List.of(success, failure), ack);
+
+        // then
+        then(couponIssueGate).should().releaseRejected("REQ-2", 2L, 200L, CouponIssueFailureType.OUT_OF_STOCK);
+        then(couponIssueGate).should().releaseRejected(any(), any(), any(), any());
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    void 게이트를_사용하지_않으면_선점을_반환하지_않는다() {
+        // given
+        CouponIssueResultEventDto failure = CouponIssueResultEventDto.failure(
+                "REQ-2", 2L, 200L, CouponIssueFailureType.ERROR, "오류");
+        given(couponIssueGate.isEnabled()).willReturn(false);
+
+        // when
+        couponIssueResultProjectionConsumer.handleCouponIssueResults(List.of(failure), ack);
+
+        // then
+        then(couponIssueStatusService).should().project(failure);
+        then(couponIssueGate).should(never()).releaseRejected(any(), any(), any(), any());
+        then(ack).should().acknowledge();
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.infrastructure.kafka.coupon;
+
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueFailureType;
+import kr.hhplus.be.server.infrastructure.config.kafka.KafkaTopicConstants;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueRequestEventDto;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.event.CouponIssueResultEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class CouponKafkaEventServiceTest {
+
+    @Mock
+    private KafkaTemplate<String, CouponIssueRequestEventDto> couponIssueRequestKafkaTemplate;
+
+    @Mock
+    private KafkaTemplate<String, CouponIssueResultEventDto> couponIssueResultKafkaTemplate;
+
+    private CouponKafkaEventService couponKafkaEventService;
+
+    @BeforeEach
+    void setUp() {
+        couponKafkaEventService = new CouponKafkaEventService(couponIssueRequestKafkaTemplate, couponIssueResultKafkaTemplate);
+    }
+
+    @Test
+    void 결과_이벤트_전송이_한_건이라도_실패하면_재시도_예외를_던진다() {
+        // given
+        CouponIssueResultEventDto success = CouponIssueResultEventDto.success("req-1", 1L, 200L, 10L, 9L);
+        CouponIssueResultEventDto failure = CouponIssueResultEventDto.failure("req-2", 2L, 200L,
+                CouponIssueFailureType.OUT_OF_STOCK, "쿠폰 재고가 부족합니다.");
+        given(couponIssueResultKafkaTemplate.send(eq(KafkaTopicConstants.COUPON_ISSUE_RESULT), any(), eq(success)))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(couponIssueResultKafkaTemplate.send(eq(KafkaTopicConstants.COUPON_ISSUE_RESULT), any(), eq(failure)))
+                .willReturn(CompletableFuture.<SendResult<String, CouponIssueResultEventDto>>failedFuture(
+                        new IllegalStateException("broker unavailable")));
+
+        // when & then
+        assertThatThrownBy(() -> couponKafkaEventService.publishCouponIssueResults(List.of(success, failure)))
+                .isInstanceOf(RetryableException.class);
+        then(couponIssueResultKafkaTemplate).should().flush();
+    }
+}
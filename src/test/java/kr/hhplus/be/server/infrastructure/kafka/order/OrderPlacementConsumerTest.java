@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.infrastructure.kafka.order;
+
+import kr.hhplus.be.server.application.order.OrderService;
+import kr.hhplus.be.server.common.exception.ApiException;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.interfaces.web.order.dto.event.OrderPlacementRequestEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static kr.hhplus.be.server.common.exception.ErrorCode.OUT_OF_STOCK_PRODUCT;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPlacementConsumerTest {
+
+    @InjectMocks
+    private OrderPlacementConsumer orderPlacementConsumer;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private OrderPlacementRequestEventDto requestEvent;
+
+    @BeforeEach
+    void setUp() {
+        requestEvent = OrderPlacementRequestEventDto.builder()
+                .orderId(10L)
+                .userId(1L)
+                .orderProducts(List.of())
+                .build();
+    }
+
+    @Test
+    void 비즈니스_오류로_실패한_주문은_FAILED_로_기록하고_ACK_한다() {
+        // given
+        given(orderService.placeAcceptedOrder(any(), any(), any())).willThrow(new ApiException(OUT_OF_STOCK_PRODUCT));
+
+        // when
+        orderPlacementConsumer.handleOrderPlacementRequest(requestEvent, 0, 0L, ack);
+
+        // then
+        then(orderService).should().markOrderAsFailed(10L);
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    void 일시적_오류는_주문을_실패_처리하지_않고_ACK_없이_재시도한다() {
+        // given
+        given(orderService.placeAcceptedOrder(any(), any(), any()))
+                .willThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+
+        // when & then
+        assertThatThrownBy(() -> orderPlacementConsumer.handleOrderPlacementRequest(requestEvent, 0, 0L, ack))
+                .isInstanceOf(RetryableException.class);
+        then(orderService).should(never()).markOrderAsFailed(anyLong());
+        then(ack).should(never()).acknowledge();
+    }
+}
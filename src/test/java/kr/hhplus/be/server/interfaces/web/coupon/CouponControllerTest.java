@@ -1,11 +1,13 @@
 package kr.hhplus.be.server.interfaces.web.coupon;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.coupon.CouponIssueStatusService;
 import kr.hhplus.be.server.application.coupon.CouponService;
 import kr.hhplus.be.server.domain.coupon.Coupon;
 import kr.hhplus.be.server.domain.coupon.DiscountType;
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.request.CouponIssueRequest;
+import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponIssueStatusResponse;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponListResponse;
 import kr.hhplus.be.server.interfaces.web.coupon.dto.response.CouponResponse;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,32 @@ class CouponControllerTest {
     @MockitoBean
     private CouponService couponService;
 
+    @MockitoBean
+    private CouponIssueStatusService couponIssueStatusService;
+
+    @Test
+    void 쿠폰_발급_상태를_조회한다() throws Exception {
+        // given
+        CouponIssueStatusResponse response = CouponIssueStatusResponse.builder()
+                .couponId(200L)
+                .userId(1L)
+                .issueRank(3L)
+                .issuedCount(5L)
+                .totalLimit(100L)
+                .isIssued(true)
+                .status("ISSUED")
+                .build();
+        given(couponIssueStatusService.getIssueStatus(200L, 1L)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/coupons/{couponId}/status", 200L).param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.issueRank").value(3))
+                .andExpect(jsonPath("$.data.status").value("ISSUED"))
+                .andExpect(jsonPath("$.message").value("쿠폰 발급 상태 조회 성공"));
+    }
+
     @Test
     void 쿠폰을_발급_요청한다() throws Exception {
         // given
@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.interfaces.web.order;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.order.OrderGroupCommitProcessor;
+import kr.hhplus.be.server.application.order.OrderIdempotencyService;
 import kr.hhplus.be.server.application.order.OrderService;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.interfaces.web.order.dto.request.OrderRequest;
@@ -15,7 +17,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -32,6 +37,12 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderGroupCommitProcessor orderGroupCommitProcessor;
+
+    @MockitoBean
+    private OrderIdempotencyService orderIdempotencyService;
+
     @Test
     void 주문을_생성한다() throws Exception {
         // given
@@ -55,7 +66,7 @@ class OrderControllerTest {
                 .userId(userId)
                 .build();
 
-        given(orderService.placeOrder(any(), any())).willReturn(savedOrder);
+        given(orderGroupCommitProcessor.placeOrder(any(), any())).willReturn(savedOrder);
 
         // when & then
         mockMvc.perform(post("/api/v1/orders")
@@ -66,4 +77,78 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.data.orderId").value(orderId))
                 .andExpect(jsonPath("$.message").value("주문 생성 성공"));
     }
+
+    @Test
+    void 같은_Idempotency_Key로_재요청하면_저장된_주문_ID를_반환한다() throws Exception {
+        // given
+        Long orderId = 12345L;
+        OrderRequest request = OrderRequest.builder()
+                .userId(1L)
+                .orderProducts(List.of(OrderProductRequest.builder()
+                        .productId(1L)
+                        .quantity(2L)
+                        .build()))
+                .build();
+
+        given(orderIdempotencyService.execute(eq(1L), eq("order-key-1"), any())).willReturn(orderId);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Idempotency-Key", "order-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId));
+        then(orderGroupCommitProcessor).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 주문을_접수하면_202와_주문_ID를_반환한다() throws Exception {
+        // given
+        Long orderId = 12345L;
+        Long userId = 1L;
+
+        OrderRequest request = OrderRequest.builder()
+                .userId(userId)
+                .orderProducts(List.of(OrderProductRequest.builder()
+                        .productId(1L)
+                        .quantity(2L)
+                        .build()))
+                .build();
+
+        Order acceptedOrder = Order.builder()
+                .id(orderId)
+                .userId(userId)
+                .build();
+
+        given(orderService.acceptOrder(any(), any())).willReturn(acceptedOrder);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.code").value(202))
+                .andExpect(jsonPath("$.data.orderId").value(orderId))
+                .andExpect(jsonPath("$.message").value("주문 접수 성공"));
+    }
+
+    @Test
+    void 주문_상태를_조회한다() throws Exception {
+        // given
+        Long orderId = 12345L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(1L)
+                .build();
+
+        given(orderService.getOrder(orderId)).willReturn(order);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/orders/{orderId}/status", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId))
+                .andExpect(jsonPath("$.data.status").value("WAITING"))
+                .andExpect(jsonPath("$.message").value("주문 상태 조회 성공"));
+    }
 }
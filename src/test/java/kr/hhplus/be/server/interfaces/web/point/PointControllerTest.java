@@ -1,7 +1,10 @@
 package kr.hhplus.be.server.interfaces.web.point;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.point.PointHistoryPage;
 import kr.hhplus.be.server.application.point.PointService;
+import kr.hhplus.be.server.domain.point.TransactionType;
+import kr.hhplus.be.server.infrastructure.persistence.point.PointHistoryRow;
 import kr.hhplus.be.server.domain.point.Point;
 import kr.hhplus.be.server.interfaces.web.point.dto.request.PointChargeRequest;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
@@ -36,8 +42,7 @@ class PointControllerTest {
         // given
         Long userId = 1L;
         Long pointVolume = 10000L;
-        Point point = Point.create(userId, pointVolume);
-        given(pointService.getPoint(userId)).willReturn(point);
+        given(pointService.getBalance(userId)).willReturn(pointVolume);
 
         // when & then
         mockMvc.perform(get("/api/v1/points/{userId}", userId))
@@ -67,4 +72,24 @@ class PointControllerTest {
                 .andExpect(jsonPath("$.data.point").value(totalPoint))
                 .andExpect(jsonPath("$.message").value("포인트 충전 성공"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void 사용자의_포인트_이력을_커서로_조회한다() throws Exception {
+        // given
+        Long userId = 1L;
+        PointHistoryPage page = new PointHistoryPage(
+                List.of(new PointHistoryRow(300L, 5000L, TransactionType.CHARGE, LocalDateTime.now())), 300L);
+        given(pointService.getPointHistories(userId, 400L, 1)).willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/points/{userId}/history", userId)
+                        .param("cursor", "400")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.histories[0].id").value(300))
+                .andExpect(jsonPath("$.data.histories[0].transactionType").value("CHARGE"))
+                .andExpect(jsonPath("$.data.nextCursor").value(300))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.message").value("포인트 이력 조회 성공"));
+    }
+}
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.interfaces.web.product;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.application.product.ProductService;
+import kr.hhplus.be.server.application.product.ProductStockShardService;
 import kr.hhplus.be.server.domain.product.Product;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +29,9 @@ class ProductControllerTest {
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private ProductStockShardService productStockShardService;
+
     @Test
     void 상품_단건을_조회한다() throws Exception {
         // given